@@ -0,0 +1,161 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.bench;
+
+import mhahnFr.iSongs.core.WebPlayerDTO;
+import mhahnFr.iSongs.core.WebPlayerDTOBinder;
+import mhahnFr.iSongs.core.json.JsonReader;
+import mhahnFr.utils.StringStream;
+import mhahnFr.utils.json.JSONParser;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class checks the generated {@link WebPlayerDTOBinder} against the
+ * reflective {@link JSONParser}. Both parse every feed of the corpus and
+ * the filled objects are compared field by field.
+ * <p>
+ * The corpus consists of the bundled feeds, a few edge cases and the
+ * feeds recorded in the {@link mhahnFr.iSongs.core.feed.FeedArchive}
+ * folders passed as arguments.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public abstract class BindingCheck {
+    /** Hand-written feeds covering escapes, nulls and unknown fields. */
+    private static final String[] EDGE_CASES = {
+        "{}",
+        "{\"playlist\":null,\"show\":{\"data\":null},\"links\":[]}",
+        "{ \"playlist\" : { \"data\" : [ { \"title\" : \"Caf\\u00e9 \\\"Noir\\\"\\n\", \"artist\" : \"\\uD83C\\uDFB5 Band\", " +
+                "\"playingMode\" : 1, \"duration\" : 2.5e2, \"starttime\" : -17, \"url\" : { \"a\" : [ 1, true, null ] } } ] } }",
+        "{\"unknown\":{\"deep\":[[{\"x\":\"}]\"}]],\"n\":-1.5E-3},\"playlist\":{\"data\":[{\"title\":\"Ümlaut – ✓\",\"extra\":[1,2,3]}]}," +
+                "\"show\":{\"data\":{\"cover\":{\"s\":\"a\",\"l\":null},\"presenter\":[{\"displayname\":\"X\",\"avatar\":{}}]}}}",
+        "{\"pla\\u0079list\":{\"label\":\"escaped name\"}}",
+    };
+
+    /**
+     * Runs the check.
+     *
+     * @param args the folders of the archives to be checked additionally
+     * @throws Exception if a feed could not be parsed
+     */
+    public static void main(final String[] args) throws Exception {
+        final var corpus = new ArrayList<byte[]>();
+        for (final var name : new String[] { "small", "typical", "huge" }) {
+            corpus.add(Feeds.load(name));
+        }
+        for (final var edgeCase : EDGE_CASES) {
+            corpus.add(edgeCase.getBytes(StandardCharsets.UTF_8));
+        }
+        for (final var folder : args) {
+            corpus.addAll(Feeds.loadArchive(Path.of(folder)));
+        }
+
+        var failures = 0;
+        for (var i = 0; i < corpus.size(); ++i) {
+            final var body      = corpus.get(i);
+            final var expected  = new WebPlayerDTO();
+            final var generated = new WebPlayerDTO();
+            new JSONParser(new StringStream(new String(body, StandardCharsets.UTF_8))).readInto(expected);
+            WebPlayerDTOBinder.readInto(new JsonReader(body), generated);
+
+            final var differences = new ArrayList<String>();
+            compare("dto", expected, generated, differences);
+            if (!differences.isEmpty()) {
+                ++failures;
+                System.out.println("Feed #" + i + " differs:");
+                differences.forEach(difference -> System.out.println("    " + difference));
+            }
+        }
+        System.out.println("Checked " + corpus.size() + " feeds, " + failures + " differing.");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compares the given values recursively.
+     *
+     * @param path        the path of the values used for reporting
+     * @param expected    the value filled by the reflective parser
+     * @param actual      the value filled by the generated binder
+     * @param differences the list the differences are added to
+     * @throws IllegalAccessException if a field could not be read
+     */
+    private static void compare(final String       path,
+                                final Object       expected,
+                                final Object       actual,
+                                final List<String> differences) throws IllegalAccessException {
+        if (expected == null || actual == null) {
+            if (expected != actual) {
+                differences.add(path + ": " + expected + " != " + actual);
+            }
+        } else if (expected.getClass().isArray()) {
+            final var length = Array.getLength(expected);
+            if (!actual.getClass().isArray() || length != Array.getLength(actual)) {
+                differences.add(path + ": array length differs");
+                return;
+            }
+            for (var i = 0; i < length; ++i) {
+                compare(path + "[" + i + "]", Array.get(expected, i), Array.get(actual, i), differences);
+            }
+        } else if (expected instanceof Number a && actual instanceof Number b) {
+            if (a.doubleValue() != b.doubleValue()) {
+                differences.add(path + ": " + a + " != " + b);
+            }
+        } else if (expected instanceof List<?> a && actual instanceof List<?> b) {
+            if (a.size() != b.size()) {
+                differences.add(path + ": list size differs");
+                return;
+            }
+            for (var i = 0; i < a.size(); ++i) {
+                compare(path + "[" + i + "]", a.get(i), b.get(i), differences);
+            }
+        } else if (expected instanceof Map<?, ?> a && actual instanceof Map<?, ?> b) {
+            if (!a.keySet().equals(b.keySet())) {
+                differences.add(path + ": keys differ");
+                return;
+            }
+            for (final var key : a.keySet()) {
+                compare(path + "." + key, a.get(key), b.get(key), differences);
+            }
+        } else if (expected.getClass().getName().startsWith("java.")) {
+            if (!Objects.equals(expected, actual)) {
+                differences.add(path + ": " + expected + " != " + actual);
+            }
+        } else {
+            for (final var field : expected.getClass().getFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    compare(path + "." + field.getName(), field.get(expected), field.get(actual), differences);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.bench;
+
+import mhahnFr.iSongs.core.feed.FeedArchive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class provides the feeds used as benchmark inputs. The feeds are
+ * either loaded from the resources or generated.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public abstract class Feeds {
+    /** The artists used for generated songs.   */
+    private static final String[] ARTISTS = { "Adele", "Coldplay", "Queen", "Daft Punk", "Nena", "Rihanna", "Kraftwerk", "ABBA" };
+    /** The titles used for generated songs.    */
+    private static final String[] TITLES  = { "Hello", "Yellow", "Bohemian Rhapsody", "Get Lucky", "99 Luftballons", "Umbrella", "Das Model", "Waterloo" };
+
+    /**
+     * Returns the bytes of the feed of the given name. The names {@code small}
+     * and {@code typical} are loaded from the resources, {@code huge} is
+     * generated with 5000 playlist entries.
+     *
+     * @param name the name of the feed
+     * @return the bytes of the feed
+     */
+    public static byte[] load(final String name) {
+        if (name.equals("huge")) {
+            return generate("station1", 4000, 5000, 0, 215_000, 0).getBytes(StandardCharsets.UTF_8);
+        }
+        try (final var stream = Feeds.class.getClassLoader().getResourceAsStream(name + ".json")) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Unknown feed: " + name);
+            }
+            return stream.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the distinct bodies recorded in the {@link FeedArchive} in the given folder.
+     *
+     * @param folder the folder of the archive
+     * @return the distinct bodies in the order of their recording
+     */
+    public static List<byte[]> loadArchive(final Path folder) {
+        final var result = new ArrayList<byte[]>();
+        try (final var reader = FeedArchive.reader(folder)) {
+            byte[] previous = null;
+            for (var response = reader.next(); response != null; response = reader.next()) {
+                if (!Arrays.equals(previous, response.bytes())) {
+                    previous = response.bytes();
+                    result.add(previous);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+
+    /**
+     * Generates a feed in the shape of the web player data model. The
+     * playlist contains the given amount of entries centered around the
+     * currently played song.
+     *
+     * @param station   the identifier of the station
+     * @param song      the sequence number of the currently played song
+     * @param entries   the amount of playlist entries
+     * @param startTime the start time of the first song of the station in milliseconds
+     * @param duration  the duration of each song in milliseconds
+     * @param padding   the amount of additional characters appended to the covers
+     * @return the generated feed
+     */
+    public static String generate(final String station,
+                                  final long   song,
+                                  final int    entries,
+                                  final long   startTime,
+                                  final long   duration,
+                                  final int    padding) {
+        final var builder = new StringBuilder(512 + entries * (320 + padding));
+        builder.append("{\"audioplayer\":{\"name\":\"").append(station).append("\",\"mediaId\":\"").append(station)
+               .append("\",\"level2\":\"radio\",\"sources\":[{\"src\":\"https://stream.example.org/").append(station)
+               .append(".mp3\",\"type\":\"audio/mpeg\"}]},\"playlist\":{\"feedUrl\":\"https://www.example.org/")
+               .append(station).append(".json\",\"label\":\"Playlist\",\"headline\":\"Recently played\",\"url\":null,\"data\":[");
+        final var first = Math.max(0, song - entries + Math.min(entries, 4));
+        for (long i = first; i < first + entries; ++i) {
+            if (i != first) builder.append(',');
+            final var index = (int) (i % ARTISTS.length);
+            builder.append("{\"stationId\":\"").append(station)
+                   .append("\",\"id\":\"").append(station).append('-').append(i)
+                   .append("\",\"artist\":\"").append(ARTISTS[index])
+                   .append("\",\"title\":\"").append(TITLES[index]).append(' ').append(i)
+                   .append("\",\"type\":\"music\",\"cover\":\"https://cdn.example.org/covers/").append(i)
+                   .append(".jpg");
+            builder.append("x".repeat(padding));
+            builder.append("\",\"hook\":\"\",\"duration\":").append(duration / 1000).append(",\"playingMode\":")
+                   .append(i < song ? 0 : i == song ? 1 : 2)
+                   .append(",\"starttime\":").append(startTime + i * duration)
+                   .append(",\"url\":null}");
+        }
+        builder.append("]}}");
+        return builder.toString();
+    }
+}
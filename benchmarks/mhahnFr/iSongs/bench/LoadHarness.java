@@ -0,0 +1,302 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.bench;
+
+import mhahnFr.iSongs.core.InfoLoader;
+import mhahnFr.iSongs.core.Station;
+import mhahnFr.iSongs.core.appleScript.ScriptSupport;
+import mhahnFr.iSongs.core.error.ErrorAggregator;
+import mhahnFr.iSongs.core.feed.BufferPool;
+import mhahnFr.iSongs.core.feed.FeedSource;
+import mhahnFr.iSongs.core.feed.MirrorFeedSource;
+import mhahnFr.iSongs.core.metrics.Histogram;
+import mhahnFr.iSongs.core.metrics.PipelineMetrics;
+import mhahnFr.iSongs.core.relay.RelayServer;
+import mhahnFr.iSongs.core.schedule.ExecutorScheduler;
+import mhahnFr.iSongs.core.schedule.Scheduler;
+import mhahnFr.iSongs.core.schedule.TimingWheelScheduler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class drives many {@link InfoLoader}s against a {@link StubFeedServer}
+ * and reports the throughput, the detection latency, the CPU usage and the
+ * heap usage.
+ * <p>
+ * The arguments are given as {@code key=value} pairs, see {@link #main(String[])}.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class LoadHarness {
+    /** The configuration of this harness.                          */
+    private final Map<String, String> config;
+    /** The detection latencies of song changes in milliseconds.    */
+    private final Histogram detection = new Histogram();
+    /** The amount of detected song changes.                        */
+    private final LongAdder changes = new LongAdder();
+
+    /**
+     * Constructs this harness using the given configuration.
+     *
+     * @param config the configuration
+     */
+    public LoadHarness(final Map<String, String> config) {
+        this.config = config;
+    }
+
+    /**
+     * Returns the configured value of the given key.
+     *
+     * @param key          the key
+     * @param defaultValue the value used if the key is not configured
+     * @return the configured value
+     */
+    private long get(final String key, final long defaultValue) {
+        return Long.parseLong(config.getOrDefault(key, Long.toString(defaultValue)));
+    }
+
+    /**
+     * Runs the harness and prints the report.
+     *
+     * @throws Exception if the harness could not be run
+     */
+    public void run() throws Exception {
+        final var stations  = (int) get("stations", 100);
+        final var delay     = get("delay", 1000);
+        final var duration  = get("duration", 60);
+        final var threads   = (int) get("threads", 4);
+        final var errorRate = Double.parseDouble(config.getOrDefault("errors", "0"));
+        final var mirrors   = (int) get("mirrors", 1);
+        final var clients   = (int) get("clients", 1);
+        final var relay     = get("relay", 0) != 0;
+        final var wheel     = "wheel".equals(config.get("scheduler"));
+
+        final var os      = (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        final var cpuTime = os.getProcessCpuTime();
+        final var gcCount = gcCount();
+
+        try (final var server = new StubFeedServer(stations,
+                                                   get("period", 30_000),
+                                                   (int) get("entries", 20),
+                                                   (int) get("padding", 0),
+                                                   get("latency", 0),
+                                                   errorRate)) {
+            server.setEncoding(config.get("encoding"));
+            server.setMirrorLatency(get("mirrorLatency", 0));
+            server.setSpikeRate(Double.parseDouble(config.getOrDefault("spikes", "0")));
+            final var executor = Executors.newScheduledThreadPool(threads);
+            final Scheduler scheduler = wheel ? new TimingWheelScheduler(executor, 10, TimeUnit.MILLISECONDS, 512)
+                                              : new ExecutorScheduler(executor);
+            final var errors   = new ErrorAggregator(() -> {});
+            final var loaders  = new InfoLoader[stations * clients];
+            final var lastSeen = new AtomicLongArray(loaders.length);
+            final var sources  = new ConcurrentLinkedQueue<FeedSource>();
+            for (int i = 0; i < stations; ++i) {
+                final var urls = new ArrayList<String>(mirrors);
+                for (int j = 0; j < mirrors; ++j) {
+                    urls.add(mirrors == 1 ? server.getURL(i) : server.getURL(i, j));
+                }
+                final var station = new Station("station" + i, urls, delay, ScriptSupport.off, false,
+                                                Station.DEFAULT_MAX_BODY_SIZE, relay);
+                for (int j = 0; j < clients; ++j) {
+                    final var index        = i * clients + j;
+                    final var stationIndex = i;
+                    lastSeen.set(index, -1);
+                    loaders[index] = new InfoLoader(() -> station, configured -> add(sources, FeedSource.of(configured)),
+                                                    scheduler,
+                                                    () -> detected(server, loaders[index], stationIndex, index, lastSeen),
+                                                    _ -> {}, _ -> {}, errors);
+                }
+            }
+
+            final var start = System.nanoTime();
+            for (final var loader : loaders) {
+                loader.start();
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(delay) / loaders.length);
+            }
+            Thread.sleep(TimeUnit.SECONDS.toMillis(duration));
+            for (final var loader : loaders) {
+                loader.stop();
+            }
+            RelayServer.shutdown();
+            if (scheduler instanceof TimingWheelScheduler timingWheel) {
+                timingWheel.close();
+            }
+            final var elapsed = (System.nanoTime() - start) / 1e9;
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+
+            final var cpu   = (os.getProcessCpuTime() - cpuTime) / 1e9;
+            final var cores = Runtime.getRuntime().availableProcessors();
+            System.out.printf("stations=%d clients=%d relay=%b delay=%dms duration=%.1fs threads=%d scheduler=%s%n",
+                              stations, clients, relay, delay, elapsed, threads, wheel ? "wheel" : "executor");
+            System.out.printf("throughput:  %.1f requests/s, %d failed, %d not modified, %.1f KiB/s%n",
+                              server.getRequests() / elapsed, server.getFailures(), server.getNotModified(),
+                              server.getBytes() / 1024.0 / elapsed);
+            System.out.printf("detection:   %d changes, p50=%dms p90=%dms p99=%dms max=%dms%n",
+                              changes.sum(), detection.getPercentile(50), detection.getPercentile(90),
+                              detection.getPercentile(99), detection.getMax());
+            System.out.printf("cpu:         %.1fs (%.1f%% of %d cores)%n", cpu, 100 * cpu / elapsed / cores, cores);
+            System.out.printf("heap:        %.1f MiB used, %.1f MiB peak, %d collections%n",
+                              ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / 1048576.0,
+                              peakHeap() / 1048576.0, gcCount() - gcCount);
+            final var pool = BufferPool.getInstance();
+            System.out.printf("buffers:     %d reused, %d allocated, %d dropped, %.1f KiB retained%n",
+                              pool.getHits(), pool.getMisses(), pool.getDropped(), pool.getRetained() / 1024.0);
+            long wire = 0, body = 0, responses = 0;
+            double cpuMicros = 0;
+            for (var i = 0; i < stations; ++i) {
+                final var transfer = PipelineMetrics.getInstance().station("station" + i).getTransfer();
+                wire      += transfer.getWireBytes();
+                body      += transfer.getBodyBytes();
+                responses += transfer.getResponses();
+                cpuMicros += transfer.getMeanReadCpuMicros() * transfer.getResponses();
+            }
+            System.out.printf("transfer:    %.1f KiB received, %.1f KiB decoded, ratio %.2f, %.1fus CPU per body%n",
+                              wire / 1024.0, body / 1024.0, wire == 0 ? 0 : (double) body / wire,
+                              responses == 0 ? 0 : cpuMicros / responses);
+            if (mirrors > 1) {
+                long hedges = 0, wins = 0, failovers = 0;
+                for (final var source : sources) {
+                    if (source instanceof MirrorFeedSource mirror) {
+                        hedges    += mirror.getHedges();
+                        wins      += mirror.getHedgeWins();
+                        failovers += mirror.getFailovers();
+                    }
+                }
+                System.out.printf("mirrors:     %d per station, %d hedged requests, %d won, %d failovers%n",
+                                  mirrors, hedges, wins, failovers);
+            }
+        }
+    }
+
+    /**
+     * Adds the given source to the given sources.
+     *
+     * @param sources the sources to add to
+     * @param source  the source to be added
+     * @return the added source
+     */
+    private static FeedSource add(final ConcurrentLinkedQueue<FeedSource> sources, final FeedSource source) {
+        sources.add(source);
+        return source;
+    }
+
+    /**
+     * Records the detection latency of the song displayed by the given loader.
+     * The first song of each loader is not counted, as it started before the loader.
+     *
+     * @param server   the server serving the feeds
+     * @param loader   the loader that has detected a song change
+     * @param station  the index of the station
+     * @param index    the index of the loader
+     * @param lastSeen the sequence numbers of the last detected songs per loader
+     */
+    private void detected(final StubFeedServer  server,
+                          final InfoLoader      loader,
+                          final int             station,
+                          final int             index,
+                          final AtomicLongArray lastSeen) {
+        final var now  = System.currentTimeMillis();
+        final var song = loader.getCurrentSong();
+        if (song == null) return;
+
+        final var sequence = Long.parseLong(song.title().substring(song.title().lastIndexOf(' ') + 1));
+        final var previous = lastSeen.getAndSet(index, sequence);
+        if (previous != -1 && sequence > previous) {
+            detection.record(now - server.changeTime(station, sequence));
+            changes.increment();
+        }
+    }
+
+    /**
+     * Returns the total amount of garbage collections.
+     *
+     * @return the amount of collections
+     */
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans()
+                                .stream()
+                                .mapToLong(bean -> Math.max(0, bean.getCollectionCount()))
+                                .sum();
+    }
+
+    /**
+     * Returns the sum of the peak usages of the heap memory pools.
+     *
+     * @return the peak heap usage in bytes
+     */
+    private static long peakHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans()
+                                .stream()
+                                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                                .sum();
+    }
+
+    /**
+     * Runs the harness. The arguments are {@code key=value} pairs, the possible keys are:
+     * <ul>
+     *     <li>{@code stations}: the amount of stations (100)</li>
+     *     <li>{@code delay}: the delay between two fetches in milliseconds (1000)</li>
+     *     <li>{@code duration}: the duration of the run in seconds (60)</li>
+     *     <li>{@code threads}: the amount of loader threads (4)</li>
+     *     <li>{@code period}: the time between two song changes in milliseconds (30000)</li>
+     *     <li>{@code entries}: the amount of playlist entries per feed (20)</li>
+     *     <li>{@code padding}: the amount of characters the covers are padded with (0)</li>
+     *     <li>{@code latency}: the artificial latency of the server in milliseconds (0)</li>
+     *     <li>{@code errors}: the probability of a request to fail (0)</li>
+     *     <li>{@code encoding}: the content encoding of the feeds, {@code gzip} or {@code deflate} (none)</li>
+     *     <li>{@code mirrors}: the amount of mirrored URLs per station (1)</li>
+     *     <li>{@code mirrorLatency}: the additional latency per mirror index in milliseconds (0)</li>
+     *     <li>{@code spikes}: the probability of a response to take ten times as long (0)</li>
+     *     <li>{@code clients}: the amount of loaders per station (1)</li>
+     *     <li>{@code relay}: whether the loaders receive the songs from the local relay, {@code 0} or {@code 1} (0)</li>
+     *     <li>{@code scheduler}: the scheduler of the loaders, {@code executor} or {@code wheel} (executor)</li>
+     * </ul>
+     *
+     * @param args the arguments
+     * @throws Exception if the harness could not be run
+     */
+    public static void main(final String[] args) throws Exception {
+        final var config = new HashMap<String, String>();
+        for (final var arg : args) {
+            final var index = arg.indexOf('=');
+            if (index == -1) {
+                throw new IllegalArgumentException("Expected key=value: " + arg);
+            }
+            config.put(arg.substring(0, index), arg.substring(index + 1));
+        }
+        new LoadHarness(config).run();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.bench;
+
+import mhahnFr.iSongs.core.InfoLoader;
+import mhahnFr.iSongs.core.Station;
+import mhahnFr.iSongs.core.appleScript.ScriptSupport;
+import mhahnFr.iSongs.core.error.ErrorAggregator;
+import mhahnFr.iSongs.core.feed.FeedArchive;
+import mhahnFr.iSongs.core.feed.FeedResponse;
+import mhahnFr.iSongs.core.feed.FeedSource;
+import mhahnFr.iSongs.core.feed.ReplayFeedSource;
+import mhahnFr.iSongs.core.schedule.ExecutorScheduler;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+/**
+ * This class replays a recorded {@link FeedArchive} into an {@link InfoLoader}
+ * and prints each recognized song change. The output is deterministic when
+ * replaying as fast as possible, so it can be compared between versions.
+ * <p>
+ * Arguments: {@code <archive folder> [realtime] [delay in milliseconds]}
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class ReplayRunner {
+    /**
+     * Replays the given archive.
+     *
+     * @param args the arguments
+     * @throws Exception if the archive could not be replayed
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayRunner <archive folder> [realtime] [delay in milliseconds]");
+            System.exit(1);
+        }
+        final var folder   = Path.of(args[0]);
+        final var realTime = args.length > 1 && args[1].equals("realtime");
+        final var delay    = args.length > 2 ? Long.parseLong(args[2]) : realTime ? 1000 : 1;
+
+        final var finished = new CountDownLatch(1);
+        final var station  = new Station(folder.getFileName().toString(), List.of(), delay, ScriptSupport.off, false,
+                                         Station.DEFAULT_MAX_BODY_SIZE, false);
+        final var executor = Executors.newSingleThreadScheduledExecutor();
+        final var loaders  = new InfoLoader[1];
+        loaders[0] = new InfoLoader(() -> station,
+                                    _ -> replay(folder, realTime, finished),
+                                    new ExecutorScheduler(executor),
+                                    () -> System.out.println(loaders[0].getCurrentSong()),
+                                    _ -> {},
+                                    _ -> {},
+                                    new ErrorAggregator(() -> {}));
+        loaders[0].start();
+        finished.await();
+        loaders[0].stop();
+        executor.shutdown();
+    }
+
+    /**
+     * Creates the replaying source, counting down the given latch at the end of the archive.
+     *
+     * @param folder   the folder of the archive
+     * @param realTime whether to replay at real speed
+     * @param finished the latch counted down at the end of the archive
+     * @return the source
+     */
+    private static FeedSource replay(final Path folder, final boolean realTime, final CountDownLatch finished) {
+        final ReplayFeedSource source;
+        try {
+            source = new ReplayFeedSource(FeedArchive.reader(folder), realTime);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new FeedSource() {
+            @Override
+            public FeedResponse fetch() throws IOException {
+                try {
+                    return source.fetch();
+                } catch (final EOFException e) {
+                    finished.countDown();
+                    throw e;
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                source.close();
+            }
+        };
+    }
+}
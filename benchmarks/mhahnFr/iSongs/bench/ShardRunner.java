@@ -0,0 +1,136 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.bench;
+
+import mhahnFr.iSongs.core.InfoLoader;
+import mhahnFr.iSongs.core.Station;
+import mhahnFr.iSongs.core.appleScript.ScriptSupport;
+import mhahnFr.iSongs.core.error.ErrorAggregator;
+import mhahnFr.iSongs.core.feed.FeedSource;
+import mhahnFr.iSongs.core.schedule.Clock;
+import mhahnFr.iSongs.core.schedule.ExecutorScheduler;
+import mhahnFr.iSongs.core.shard.DirectoryCoordinator;
+import mhahnFr.iSongs.core.shard.ShardedPoller;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class runs one member of a sharded polling of many stations against a
+ * local {@link StubFeedServer}, printing the stations gained and lost on each
+ * rebalance. Starting it several times with the same directory, for example
+ * in several terminals, simulates several processes sharing the stations;
+ * stopping one of them moves its stations to the others.
+ * <p>
+ * Arguments as {@code key=value} pairs: {@code dir} (the shared directory,
+ * required), {@code member} (defaults to the process identifier),
+ * {@code stations}, {@code delay} and {@code lease} in milliseconds, and
+ * {@code duration} in seconds, which defaults to running until stopped.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class ShardRunner {
+    /**
+     * Runs one member.
+     *
+     * @param args the arguments
+     * @throws Exception if the member could not be run
+     */
+    public static void main(final String[] args) throws Exception {
+        final var config = new HashMap<String, String>();
+        for (final var arg : args) {
+            final var index = arg.indexOf('=');
+            config.put(arg.substring(0, index), arg.substring(index + 1));
+        }
+        if (!config.containsKey("dir")) {
+            System.err.println("Usage: ShardRunner dir=<shared folder> [member=<name>] [stations=100] [delay=1000] [lease=3000] [duration=<seconds>]");
+            System.exit(1);
+        }
+        final var member   = config.getOrDefault("member", Long.toString(ProcessHandle.current().pid()));
+        final var count    = Integer.parseInt(config.getOrDefault("stations", "100"));
+        final var delay    = Long.parseLong(config.getOrDefault("delay", "1000"));
+        final var lease    = Long.parseLong(config.getOrDefault("lease", "3000"));
+        final var duration = Long.parseLong(config.getOrDefault("duration", "0"));
+
+        try (final var server = new StubFeedServer(count, 30_000, 20, 0, 0, 0)) {
+            final var stations = new ArrayList<Station>(count);
+            for (int i = 0; i < count; ++i) {
+                stations.add(new Station("station" + i, List.of(server.getURL(i)), delay, ScriptSupport.off,
+                                         false, Station.DEFAULT_MAX_BODY_SIZE, false));
+            }
+            final var executor  = Executors.newScheduledThreadPool(4);
+            final var scheduler = new ExecutorScheduler(executor);
+            final var errors    = new ErrorAggregator(() -> {});
+            final var changes   = new LongAdder();
+            final var previous  = new HashSet<String>();
+
+            final var coordinator = new DirectoryCoordinator(Path.of(config.get("dir")), Clock.SYSTEM, lease, TimeUnit.MILLISECONDS);
+            final var poller      = new ShardedPoller(member, coordinator, stations,
+                                                      station -> new InfoLoader(() -> station, FeedSource::of, scheduler,
+                                                                                changes::increment, _ -> {}, _ -> {}, errors),
+                                                      scheduler, lease / 3, TimeUnit.MILLISECONDS,
+                                                      owned -> report(member, owned, previous));
+            final var stopped = new CountDownLatch(1);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                poller.close();
+                stopped.countDown();
+            }));
+            poller.start();
+            if (duration > 0) {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(duration));
+                poller.close();
+            } else {
+                stopped.await();
+            }
+            System.out.printf("%s: %d rebalances, %d song changes, %d requests, %d errors%n",
+                              member, poller.getRebalances(), changes.sum(), server.getRequests(), errors.getRecentCount());
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Prints the stations gained and lost by a rebalance.
+     *
+     * @param member   the name of this member
+     * @param owned    the stations now owned
+     * @param previous the stations owned before, updated to the owned ones
+     */
+    private static void report(final String member, final Set<String> owned, final Set<String> previous) {
+        final var gained = new TreeSet<>(owned);
+        gained.removeAll(previous);
+        final var lost = new TreeSet<>(previous);
+        lost.removeAll(owned);
+        previous.clear();
+        previous.addAll(owned);
+        System.out.printf("%s: owns %d stations, gained %d, lost %d%n", member, owned.size(), gained.size(), lost.size());
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.bench;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This class represents an embedded HTTP server serving generated feeds
+ * of synthetic stations. The songs of each station change periodically,
+ * the phase of the changes differs between the stations.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class StubFeedServer implements AutoCloseable {
+    /** The path prefix of the feeds.                               */
+    private static final String PREFIX = "/station/";
+
+    /** The underlying HTTP server.                                 */
+    private final HttpServer server;
+    /** The executor handling the requests.                         */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    /** The time the server has been started in milliseconds.       */
+    private final long epoch = System.currentTimeMillis();
+    /** The phase of the song changes of each station.              */
+    private final long[] phases;
+    /** The time between two song changes in milliseconds.          */
+    private final long period;
+    /** The amount of playlist entries per feed.                    */
+    private final int entries;
+    /** The amount of characters the covers are padded with.        */
+    private final int padding;
+    /** The artificial latency of each response in milliseconds.    */
+    private final long latency;
+    /** The probability of a request to fail.                       */
+    private final double errorRate;
+    /** The amount of handled requests.                             */
+    private final LongAdder requests = new LongAdder();
+    /** The amount of intentionally failed requests.                */
+    private final LongAdder failures = new LongAdder();
+    /** The amount of served bytes.                                 */
+    private final LongAdder bytes = new LongAdder();
+    /** The amount of conditional requests answered without a body. */
+    private final LongAdder notModified = new LongAdder();
+    /** The content encoding used if accepted, {@code null} for none. */
+    private volatile String encoding;
+    /** The additional latency per mirror index in milliseconds.   */
+    private volatile long mirrorLatency;
+    /** The probability of a response to take ten times as long.  */
+    private volatile double spikeRate;
+
+    /**
+     * Constructs and starts the server on an ephemeral port of the loopback interface.
+     *
+     * @param stations  the amount of served stations
+     * @param period    the time between two song changes in milliseconds
+     * @param entries   the amount of playlist entries per feed
+     * @param padding   the amount of characters the covers are padded with
+     * @param latency   the artificial latency of each response in milliseconds
+     * @param errorRate the probability of a request to fail
+     * @throws IOException if the server could not be started
+     */
+    public StubFeedServer(final int    stations,
+                          final long   period,
+                          final int    entries,
+                          final int    padding,
+                          final long   latency,
+                          final double errorRate) throws IOException {
+        this.period    = period;
+        this.entries   = entries;
+        this.padding   = padding;
+        this.latency   = latency;
+        this.errorRate = errorRate;
+
+        phases = new long[stations];
+        final var random = ThreadLocalRandom.current();
+        for (int i = 0; i < stations; ++i) {
+            phases[i] = random.nextLong(period);
+        }
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        server.createContext(PREFIX, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Returns the URL of the feed of the given station.
+     *
+     * @param station the index of the station
+     * @return the URL of the feed
+     */
+    public String getURL(final int station) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + PREFIX + station + ".json";
+    }
+
+    /**
+     * Returns the URL of the given mirror of the feed of the given station.
+     * Each mirror adds the mirror latency to the latency of the responses.
+     *
+     * @param station the index of the station
+     * @param mirror  the index of the mirror
+     * @return the URL of the mirrored feed
+     * @see #setMirrorLatency(long)
+     */
+    public String getURL(final int station, final int mirror) {
+        return getURL(station) + "?mirror=" + mirror;
+    }
+
+    /**
+     * Returns the sequence number of the song played by the given station at the given time.
+     *
+     * @param station the index of the station
+     * @param time    the time in milliseconds
+     * @return the sequence number of the played song
+     */
+    public long songAt(final int station, final long time) {
+        return Math.floorDiv(time - epoch + phases[station], period);
+    }
+
+    /**
+     * Returns the time the given song of the given station started.
+     *
+     * @param station the index of the station
+     * @param song    the sequence number of the song
+     * @return the start time in milliseconds
+     */
+    public long changeTime(final int station, final long song) {
+        return epoch - phases[station] + song * period;
+    }
+
+    /**
+     * Sets the content encoding the feeds are compressed with if the
+     * client accepts it.
+     *
+     * @param encoding {@code gzip}, {@code deflate} or {@code null} for uncompressed feeds
+     */
+    public void setEncoding(final String encoding) {
+        if (encoding != null && !encoding.equals("gzip") && !encoding.equals("deflate")) {
+            throw new IllegalArgumentException("Unsupported encoding: " + encoding);
+        }
+        this.encoding = encoding;
+    }
+
+    /**
+     * Sets the additional latency of each mirror index.
+     *
+     * @param mirrorLatency the latency per mirror index in milliseconds
+     */
+    public void setMirrorLatency(final long mirrorLatency) {
+        this.mirrorLatency = mirrorLatency;
+    }
+
+    /**
+     * Sets the probability of a response to take ten times as long as usual.
+     *
+     * @param spikeRate the probability of a latency spike
+     */
+    public void setSpikeRate(final double spikeRate) {
+        this.spikeRate = spikeRate;
+    }
+
+    /**
+     * Returns the amount of handled requests.
+     *
+     * @return the amount of requests
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the amount of intentionally failed requests.
+     *
+     * @return the amount of failed requests
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the amount of conditional requests answered without a body,
+     * as the feed has not changed.
+     *
+     * @return the amount of not modified responses
+     */
+    public long getNotModified() {
+        return notModified.sum();
+    }
+
+    /**
+     * Returns the amount of served bytes.
+     *
+     * @return the amount of bytes
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Handles the given request.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the response could not be sent
+     */
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            final var path = exchange.getRequestURI().getPath();
+            final int station;
+            try {
+                station = Integer.parseInt(path.substring(PREFIX.length(), path.length() - ".json".length()));
+            } catch (final RuntimeException _) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (station < 0 || station >= phases.length) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            final var query  = exchange.getRequestURI().getQuery();
+            final var mirror = query != null && query.startsWith("mirror=") ? Integer.parseInt(query.substring(7)) : 0;
+            var delay = latency + mirror * mirrorLatency;
+            if (spikeRate > 0 && ThreadLocalRandom.current().nextDouble() < spikeRate) {
+                delay *= 10;
+            }
+            if (delay > 0) {
+                try {
+                    Thread.sleep(delay);
+                } catch (final InterruptedException _) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                failures.increment();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            final var song = songAt(station, System.currentTimeMillis());
+            final var etag = "\"" + station + "-" + song + "\"";
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.increment();
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            var body = Feeds.generate("station" + station,
+                                      song,
+                                      entries,
+                                      changeTime(station, 0),
+                                      period,
+                                      padding).getBytes(StandardCharsets.UTF_8);
+            final var encoding = this.encoding;
+            final var accepted = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (encoding != null && accepted != null && accepted.contains(encoding)) {
+                body = compress(body, encoding);
+                exchange.getResponseHeaders().set("Content-Encoding", encoding);
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            bytes.add(body.length);
+        }
+    }
+
+    /**
+     * Compresses the given body.
+     *
+     * @param body     the body to be compressed
+     * @param encoding the content encoding to be used
+     * @return the compressed body
+     * @throws IOException if the body could not be compressed
+     */
+    private static byte[] compress(final byte[] body, final String encoding) throws IOException {
+        final var buffer = new ByteArrayOutputStream(body.length / 4);
+        try (final var out = encoding.equals("gzip") ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+            out.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core;
+
+import mhahnFr.iSongs.bench.Feeds;
+import mhahnFr.iSongs.core.json.JsonReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class contains the benchmark of parsing the feeds recorded in a
+ * {@link mhahnFr.iSongs.core.feed.FeedArchive} the way the {@link InfoLoader}
+ * does. The archive is selected using {@code -p archive=<folder>}; without
+ * it, the bundled feeds are used.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArchiveParseBenchmark {
+    /** The folder of the archive, blank for the bundled feeds. */
+    @Param("")
+    public String archive;
+
+    /** The distinct recorded bodies.                           */
+    private List<byte[]> bodies;
+    /** The index of the next parsed body.                      */
+    private int index;
+
+    /**
+     * Loads the recorded bodies.
+     */
+    @Setup
+    public void setup() {
+        bodies = archive.isBlank() ? List.of(Feeds.load("small"), Feeds.load("typical"))
+                                   : Feeds.loadArchive(Path.of(archive));
+        if (bodies.isEmpty()) {
+            throw new IllegalStateException("Empty feed archive: " + archive);
+        }
+    }
+
+    /**
+     * Parses the next recorded body, cycling through all of them.
+     *
+     * @return the filled data transfer object
+     * @throws Exception if the body could not be parsed
+     */
+    @Benchmark
+    public WebPlayerDTO readInto() throws Exception {
+        final var body = bodies.get(index);
+        index = (index + 1) % bodies.size();
+
+        final var dto = new WebPlayerDTO();
+        WebPlayerDTOBinder.readInto(new JsonReader(body), dto);
+        return dto;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core;
+
+import mhahnFr.iSongs.bench.Feeds;
+import mhahnFr.iSongs.core.json.JsonReader;
+import mhahnFr.utils.StringStream;
+import mhahnFr.utils.json.JSONParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class contains the benchmarks of parsing the JSON feed using the
+ * reflective parser and using the generated {@link WebPlayerDTOBinder}
+ * the {@link InfoLoader} uses.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonParseBenchmark {
+    /** The name of the parsed feed.    */
+    @Param({ "small", "typical", "huge" })
+    public String feed;
+
+    /** The bytes of the parsed feed.   */
+    private byte[] bytes;
+
+    /**
+     * Loads the feed.
+     */
+    @Setup
+    public void setup() {
+        bytes = Feeds.load(feed);
+    }
+
+    /**
+     * Parses the feed into a fresh data transfer object using the reflective parser.
+     *
+     * @return the filled data transfer object
+     * @throws Exception if the feed could not be parsed
+     */
+    @Benchmark
+    public WebPlayerDTO reflective() throws Exception {
+        final var dto = new WebPlayerDTO();
+        new JSONParser(new StringStream(new String(bytes, StandardCharsets.UTF_8))).readInto(dto);
+        return dto;
+    }
+
+    /**
+     * Parses the feed into a fresh data transfer object using the generated binder.
+     *
+     * @return the filled data transfer object
+     * @throws Exception if the feed could not be parsed
+     */
+    @Benchmark
+    public WebPlayerDTO generated() throws Exception {
+        final var dto = new WebPlayerDTO();
+        WebPlayerDTOBinder.readInto(new JsonReader(bytes), dto);
+        return dto;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core;
+
+import mhahnFr.iSongs.bench.Feeds;
+import mhahnFr.iSongs.core.timeline.Timeline;
+import mhahnFr.utils.StringStream;
+import mhahnFr.utils.json.JSONParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class contains the benchmarks of the song recognition
+ * performed after parsing the feed.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecognitionBenchmark {
+    /** The name of the feed to recognize the song from.        */
+    @Param({ "typical", "huge" })
+    public String feed;
+
+    /** The parsed feed.                                        */
+    private WebPlayerDTO dto;
+    /** A song.                                                 */
+    private Song song;
+    /** A song equal to {@link #song}, but not identical.       */
+    private Song equalSong;
+    /** A song different from {@link #song}.                    */
+    private Song otherSong;
+    /** The date used for creating file names.                  */
+    private Date date;
+    /** A timeline already containing the playlist of the feed. */
+    private Timeline timeline;
+
+    /**
+     * Parses the feed and creates the compared songs.
+     *
+     * @throws Exception if the feed could not be parsed
+     */
+    @Setup
+    public void setup() throws Exception {
+        dto = new WebPlayerDTO();
+        new JSONParser(new StringStream(new String(Feeds.load(feed), StandardCharsets.UTF_8))).readInto(dto);
+
+        song      = new Song("Bohemian Rhapsody", "Queen");
+        equalSong = new Song(new String("Bohemian Rhapsody"), new String("Queen"));
+        otherSong = new Song("Bohemian Rhapsody", "Queen & Friends");
+        date      = new Date();
+        timeline  = new Timeline();
+        timeline.update(dto.playlist.data);
+    }
+
+    /**
+     * Searches the currently played song in the playlist.
+     *
+     * @return the played song
+     */
+    @Benchmark
+    public WebPlayerDTO.PlaylistDTO.SongDTO getPlayedSong() {
+        return InfoLoader.getPlayedSong(dto);
+    }
+
+    /**
+     * Merges the unchanged playlist into the timeline, as done on each poll.
+     *
+     * @return the amount of new entries
+     */
+    @Benchmark
+    public int timelineUnchanged() {
+        return timeline.update(dto.playlist.data);
+    }
+
+    /**
+     * Merges the playlist into an empty timeline, as done for a new station.
+     *
+     * @return the amount of new entries
+     */
+    @Benchmark
+    public int timelineFresh() {
+        return new Timeline().update(dto.playlist.data);
+    }
+
+    /**
+     * Compares two equal songs.
+     *
+     * @return the result of the comparison
+     */
+    @Benchmark
+    public boolean songEquals() {
+        return song.equals(equalSong);
+    }
+
+    /**
+     * Compares two different songs.
+     *
+     * @return the result of the comparison
+     */
+    @Benchmark
+    public boolean songNotEquals() {
+        return song.equals(otherSong);
+    }
+
+    /**
+     * Computes the hash code of a freshly created song.
+     *
+     * @return the hash code
+     */
+    @Benchmark
+    public int songHashCode() {
+        return new Song(song.title(), song.interpreter()).hashCode();
+    }
+
+    /**
+     * Creates the file name for saving a song.
+     *
+     * @return the file name
+     */
+    @Benchmark
+    public String createFileName() {
+        return InfoLoader.createFileName("/tmp/songs", date);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core;
+
+import mhahnFr.iSongs.bench.Feeds;
+import mhahnFr.iSongs.core.appleScript.ScriptSupport;
+import mhahnFr.iSongs.core.error.ErrorAggregator;
+import mhahnFr.iSongs.core.feed.FeedResponse;
+import mhahnFr.iSongs.core.schedule.VirtualScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class contains the benchmark of the song recognition polling a
+ * station for hours of simulated time using the {@link VirtualScheduler}.
+ * The song of the simulated station changes every three minutes.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulatedPollingBenchmark {
+    /** The duration of each simulated song in milliseconds. */
+    private static final long SONG_DURATION = 180_000;
+    /** The wall-clock time the simulation starts at.        */
+    private static final long EPOCH         = 1_760_000_000_000L;
+
+    /** The amount of simulated hours.                       */
+    @Param({ "1", "24" })
+    public int hours;
+    /** The polling delay in milliseconds.                   */
+    @Param("1000")
+    public int delay;
+
+    /** The pre-generated feeds, indexed by the song.        */
+    private byte[][] feeds;
+
+    /**
+     * Generates the feeds of all simulated songs.
+     */
+    @Setup
+    public void setup() {
+        feeds = new byte[(int) (TimeUnit.HOURS.toMillis(hours) / SONG_DURATION) + 1][];
+        for (var i = 0; i < feeds.length; ++i) {
+            feeds[i] = Feeds.generate("sim", i, 12, EPOCH, SONG_DURATION, 0).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Polls the simulated station for the configured amount of hours.
+     *
+     * @return the number of recognized song changes
+     */
+    @Benchmark
+    public long poll() {
+        final var scheduler = new VirtualScheduler(EPOCH);
+        final var changes   = new long[1];
+        final var station   = new Station("sim", List.of(), delay, ScriptSupport.off, false,
+                                          Station.DEFAULT_MAX_BODY_SIZE, false);
+        final var loader    = new InfoLoader(() -> station,
+                                             _ -> () -> new FeedResponse(feeds[(int) ((scheduler.currentTimeMillis() - EPOCH) / SONG_DURATION)],
+                                                                         200, Map.of(), scheduler.currentTimeMillis(), 0, 0),
+                                             scheduler,
+                                             () -> ++changes[0],
+                                             _ -> {},
+                                             _ -> {},
+                                             new ErrorAggregator(() -> {}));
+        loader.start();
+        scheduler.advance(hours, TimeUnit.HOURS);
+        loader.stop();
+        return changes[0];
+    }
+}
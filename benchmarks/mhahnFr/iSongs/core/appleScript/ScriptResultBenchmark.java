@@ -0,0 +1,84 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.appleScript;
+
+import mhahnFr.iSongs.core.Song;
+import mhahnFr.iSongs.core.text.TextRules;
+import mhahnFr.utils.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class contains the benchmark of splitting the result of the
+ * AppleScript into the radio text and the song, using the default rules
+ * and a set of several rules tried in order.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScriptResultBenchmark {
+    /** The rule sets selectable by name.   */
+    private static final Map<String, String> RULE_SETS = Map.of(
+            "default", TextRules.DEFAULT_RULES,
+            "several", """
+                       Now: {title} by {artist}
+                       {title} / {artist}
+                       regex:^(?<artist>[^-]+?) - (?<title>.+?)(?: \\(\\d+:\\d+\\))?$
+                       """);
+
+    /** The result returned by the script.  */
+    @Param({ "Bohemian Rhapsody / Queen\n", "missing value\n", "Example Radio - The best music\n",
+             "Now: Bohemian Rhapsody by Queen\n" })
+    public String result;
+    /** The name of the rule set.           */
+    @Param({ "default", "several" })
+    public String ruleSet;
+
+    /** The compiled rules.                 */
+    private TextRules rules;
+
+    /**
+     * Compiles the selected rules.
+     */
+    @Setup
+    public void setUp() {
+        rules = new TextRules(RULE_SETS.get(ruleSet));
+    }
+
+    /**
+     * Splits the script result.
+     *
+     * @return the radio text and the song
+     */
+    @Benchmark
+    public Pair<String, Song> parseResult() {
+        return InfoLoaderAppleScript.parseResult(result, rules);
+    }
+}
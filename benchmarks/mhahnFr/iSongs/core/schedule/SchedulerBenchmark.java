@@ -0,0 +1,133 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.schedule;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class contains the benchmarks of the schedulers managing the timers
+ * of thousands of polled stations: the {@link ExecutorScheduler} backed by
+ * the binary heap of a {@link ScheduledThreadPoolExecutor} and the
+ * {@link TimingWheelScheduler}. The executor removes cancelled timers,
+ * otherwise they would pile up until being due.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerBenchmark {
+    /** The maximum delay of a timer in milliseconds.           */
+    private static final int MAX_DELAY = 60_000;
+    /** The task run by the timers.                             */
+    private static final Runnable NOTHING = () -> {};
+
+    /** The benchmarked scheduler.                              */
+    @Param({ "executor", "wheel" })
+    public String scheduler;
+    /** The amount of registered timers.                        */
+    @Param({ "1000", "10000", "100000" })
+    public int timers;
+
+    /** The executor backing the executor scheduler.            */
+    private ScheduledThreadPoolExecutor executor;
+    /** The instance of the benchmarked scheduler.              */
+    private Scheduler instance;
+    /** The registered timers.                                  */
+    private Scheduler.Task[] tasks;
+    /** The random source of the delays.                        */
+    private SplittableRandom random;
+
+    /**
+     * Creates the scheduler and registers the timers.
+     */
+    @Setup
+    public void setup() {
+        executor = new ScheduledThreadPoolExecutor(2);
+        executor.setRemoveOnCancelPolicy(true);
+        instance = switch (scheduler) {
+            case "executor" -> new ExecutorScheduler(executor);
+            case "wheel"    -> new TimingWheelScheduler(Executors.newVirtualThreadPerTaskExecutor(), 10, TimeUnit.MILLISECONDS, 512);
+            default         -> throw new IllegalArgumentException(scheduler);
+        };
+        random = new SplittableRandom(42);
+        tasks  = new Scheduler.Task[timers];
+        for (int i = 0; i < timers; ++i) {
+            tasks[i] = instance.scheduleAtFixedRate(NOTHING, random.nextInt(MAX_DELAY), MAX_DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Cancels the timers and stops the scheduler.
+     */
+    @TearDown
+    public void tearDown() {
+        for (final var task : tasks) {
+            task.cancel();
+        }
+        if (instance instanceof TimingWheelScheduler wheel) {
+            wheel.close();
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Reschedules every registered timer with a new delay, as done when the
+     * polling delays of all stations are adapted.
+     *
+     * @return the last rescheduled timer
+     */
+    @Benchmark
+    public Scheduler.Task reschedule() {
+        Scheduler.Task task = null;
+        for (int i = 0; i < timers; ++i) {
+            tasks[i].cancel();
+            task = tasks[i] = instance.scheduleAtFixedRate(NOTHING, random.nextInt(MAX_DELAY), MAX_DELAY, TimeUnit.MILLISECONDS);
+        }
+        return task;
+    }
+
+    /**
+     * Schedules and immediately cancels as many one-shot timers as timers are
+     * registered, as done by short-lived timeouts.
+     *
+     * @return the last scheduled timer
+     */
+    @Benchmark
+    public Scheduler.Task scheduleCancel() {
+        Scheduler.Task task = null;
+        for (int i = 0; i < timers; ++i) {
+            task = instance.schedule(NOTHING, random.nextInt(MAX_DELAY), TimeUnit.MILLISECONDS);
+            task.cancel();
+        }
+        return task;
+    }
+}
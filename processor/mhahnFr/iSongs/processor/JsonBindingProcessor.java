@@ -0,0 +1,360 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class generates the binders of the classes annotated with
+ * {@code mhahnFr.iSongs.core.json.JsonBinding}. A binder fills the
+ * public fields of the annotated class and of the classes it refers to
+ * by direct field assignments using a {@code JsonReader}. Each class
+ * gets its own static method, so the just-in-time compiler sees small,
+ * monomorphic methods.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@SupportedAnnotationTypes(JsonBindingProcessor.ANNOTATION)
+public class JsonBindingProcessor extends AbstractProcessor {
+    /** The name of the processed annotation.      */
+    static final String ANNOTATION = "mhahnFr.iSongs.core.json.JsonBinding";
+    /** The name of the reader used by the binders. */
+    private static final String READER = "mhahnFr.iSongs.core.json.JsonReader";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final var annotation : annotations) {
+            for (final var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) {
+                    try {
+                        new Generator(type).write();
+                    } catch (final IllegalArgumentException e) {
+                        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), element);
+                    } catch (final IOException e) {
+                        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                "Could not write the binder: " + e.getMessage(), element);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * This class generates the binder of one annotated class.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private final class Generator {
+        /** The annotated class.                                       */
+        private final TypeElement root;
+        /** The indices of the classes bound, in the order of discovery. */
+        private final Map<String, Integer> classes = new LinkedHashMap<>();
+        /** The indices of the array types read, by component type.     */
+        private final Map<String, Integer> arrays  = new LinkedHashMap<>();
+        /** The classes whose methods are still to be generated.        */
+        private final List<TypeElement> pending    = new ArrayList<>();
+        /** The array types whose methods are still to be generated.    */
+        private final List<TypeMirror> pendingArrays = new ArrayList<>();
+        /** The generated methods.                                       */
+        private final StringBuilder methods = new StringBuilder();
+        /** The generated constants.                                     */
+        private final StringBuilder constants = new StringBuilder();
+
+        /**
+         * Constructs the generator of the given class.
+         *
+         * @param root the annotated class
+         */
+        private Generator(final TypeElement root) {
+            this.root = root;
+        }
+
+        /**
+         * Generates and writes the binder.
+         *
+         * @throws IOException if the source file could not be written
+         * @throws IllegalArgumentException if a field type is not supported
+         */
+        private void write() throws IOException {
+            indexOf(root);
+            for (var i = 0; i < pending.size() || !pendingArrays.isEmpty(); ) {
+                if (i < pending.size()) {
+                    generateClass(pending.get(i), i);
+                    ++i;
+                } else {
+                    final var component = pendingArrays.remove(0);
+                    generateArray(component, arrays.get(component.toString()));
+                }
+            }
+
+            final var packageName = processingEnv.getElementUtils().getPackageOf(root).getQualifiedName().toString();
+            final var name        = root.getSimpleName() + "Binder";
+            final var rootName    = root.getQualifiedName();
+            final var file        = processingEnv.getFiler().createSourceFile(
+                    packageName.isEmpty() ? name : packageName + "." + name, root);
+            try (final var out = file.openWriter()) {
+                if (!packageName.isEmpty()) {
+                    out.write("package " + packageName + ";\n\n");
+                }
+                out.write("/**\n" +
+                          " * Binds JSON documents to {@link " + rootName + "} without reflection.\n" +
+                          " * Generated from the public fields, do not edit.\n" +
+                          " */\n" +
+                          "@javax.annotation.processing.Generated(\"" + JsonBindingProcessor.class.getName() + "\")\n" +
+                          "public final class " + name + " {\n" +
+                          constants +
+                          "\n    private " + name + "() {}\n\n" +
+                          "    /**\n" +
+                          "     * Fills the given object with the document read by the given reader.\n" +
+                          "     * Fields absent from the document keep their values.\n" +
+                          "     *\n" +
+                          "     * @param reader the reader\n" +
+                          "     * @param target the object to be filled\n" +
+                          "     * @throws java.io.IOException if the document is malformed\n" +
+                          "     */\n" +
+                          "    public static void readInto(final " + READER + " reader, final " + rootName + " target) throws java.io.IOException {\n" +
+                          "        if (reader.beginObject()) {\n" +
+                          "            fill0(reader, target);\n" +
+                          "        }\n" +
+                          "    }\n" +
+                          methods +
+                          "}\n");
+            }
+        }
+
+        /**
+         * Returns the index of the methods of the given class, scheduling
+         * their generation if it has not been seen before.
+         *
+         * @param type the class
+         * @return the index of the methods of the class
+         */
+        private int indexOf(final TypeElement type) {
+            final var name = type.getQualifiedName().toString();
+            var index = classes.get(name);
+            if (index == null) {
+                index = classes.size();
+                classes.put(name, index);
+                pending.add(type);
+            }
+            return index;
+        }
+
+        /**
+         * Generates the methods reading the given class.
+         *
+         * @param type  the class
+         * @param index the index of the methods of the class
+         */
+        private void generateClass(final TypeElement type, final int index) {
+            final var fields = new ArrayList<VariableElement>();
+            collectFields(type, fields);
+            final var name = type.getQualifiedName();
+
+            constants.append("    private static final byte[][] NAMES").append(index).append(" = ")
+                     .append(READER).append(".names(");
+            for (var i = 0; i < fields.size(); ++i) {
+                if (i > 0) constants.append(", ");
+                constants.append('"').append(fields.get(i).getSimpleName()).append('"');
+            }
+            constants.append(");\n");
+
+            methods.append('\n')
+                   .append("    private static ").append(name).append(" read").append(index)
+                   .append("(final ").append(READER).append(" reader) throws java.io.IOException {\n")
+                   .append("        if (!reader.beginObject()) return null;\n")
+                   .append("        final var result = new ").append(name).append("();\n")
+                   .append("        fill").append(index).append("(reader, result);\n")
+                   .append("        return result;\n")
+                   .append("    }\n\n")
+                   .append("    private static void fill").append(index).append("(final ").append(READER)
+                   .append(" reader, final ").append(name).append(" target) throws java.io.IOException {\n")
+                   .append("        for (int field; (field = reader.nextField(NAMES").append(index)
+                   .append(")) != ").append(READER).append(".END; ) {\n")
+                   .append("            switch (field) {\n");
+            for (var i = 0; i < fields.size(); ++i) {
+                final var field = fields.get(i);
+                methods.append("                case ").append(i).append(" -> target.").append(field.getSimpleName())
+                       .append(" = ").append(readExpression(field.asType(), field)).append(";\n");
+            }
+            methods.append("                default -> reader.skipValue();\n")
+                   .append("            }\n")
+                   .append("        }\n")
+                   .append("    }\n");
+        }
+
+        /**
+         * Generates the method reading arrays of the given component type.
+         *
+         * @param component the component type
+         * @param index     the index of the method
+         */
+        private void generateArray(final TypeMirror component, final int index) {
+            final var name    = component.toString();
+            final var newExpr = component instanceof DeclaredType declared && !declared.getTypeArguments().isEmpty()
+                    ? "(" + name + "[]) new " + processingEnv.getTypeUtils().erasure(component) + "[8]"
+                    : "new " + name + "[8]";
+            methods.append('\n')
+                   .append("    private static ").append(name).append("[] readArray").append(index)
+                   .append("(final ").append(READER).append(" reader) throws java.io.IOException {\n")
+                   .append("        if (!reader.beginArray()) return null;\n")
+                   .append("        var result = ").append(newExpr).append(";\n")
+                   .append("        var size   = 0;\n")
+                   .append("        while (reader.hasNext()) {\n")
+                   .append("            if (size == result.length) {\n")
+                   .append("                result = java.util.Arrays.copyOf(result, size * 2);\n")
+                   .append("            }\n")
+                   .append("            result[size++] = ").append(readExpression(component, root)).append(";\n")
+                   .append("        }\n")
+                   .append("        return size == result.length ? result : java.util.Arrays.copyOf(result, size);\n")
+                   .append("    }\n");
+        }
+
+        /**
+         * Collects the bound fields of the given class and its superclasses.
+         *
+         * @param type   the class
+         * @param fields the list the fields are added to
+         */
+        private void collectFields(final TypeElement type, final List<VariableElement> fields) {
+            if (type.getSuperclass() instanceof DeclaredType superType
+                    && superType.asElement() instanceof TypeElement superElement
+                    && !superElement.getQualifiedName().contentEquals("java.lang.Object")) {
+                collectFields(superElement, fields);
+            }
+            for (final var field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                final var modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)
+                        && !modifiers.contains(Modifier.FINAL) && !modifiers.contains(Modifier.TRANSIENT)) {
+                    fields.add(field);
+                }
+            }
+        }
+
+        /**
+         * Returns the expression reading a value of the given type.
+         *
+         * @param type    the type of the value
+         * @param element the element the value belongs to, used for error reporting
+         * @return the reading expression
+         * @throws IllegalArgumentException if the type is not supported
+         */
+        private String readExpression(final TypeMirror type, final Element element) {
+            switch (type.getKind()) {
+                case INT:     return "reader.readInt()";
+                case LONG:    return "reader.readLong()";
+                case DOUBLE:  return "reader.readDouble()";
+                case BOOLEAN: return "reader.readBoolean()";
+                case ARRAY: {
+                    final var component = ((ArrayType) type).getComponentType();
+                    final var key       = component.toString();
+                    var index = arrays.get(key);
+                    if (index == null) {
+                        index = arrays.size();
+                        arrays.put(key, index);
+                        readExpression(component, element);
+                        pendingArrays.add(component);
+                    }
+                    return "readArray" + index + "(reader)";
+                }
+                case DECLARED: {
+                    final var declared = (DeclaredType) type;
+                    final var typeElement = (TypeElement) declared.asElement();
+                    final var name = typeElement.getQualifiedName().toString();
+                    switch (name) {
+                        case "java.lang.String": return "reader.readString()";
+                        case "java.lang.Object": return "reader.readValue()";
+                        case "java.util.Map":    return mapExpression(declared, element);
+                    }
+                    if (!name.startsWith("java.") && hasDefaultConstructor(typeElement)) {
+                        return "read" + indexOf(typeElement) + "(reader)";
+                    }
+                }
+            }
+            throw new IllegalArgumentException("Unsupported type of bound field: " + type + " (" + element + ")");
+        }
+
+        /**
+         * Returns the expression reading a map of the given type.
+         *
+         * @param type    the type of the map
+         * @param element the element the map belongs to, used for error reporting
+         * @return the reading expression
+         * @throws IllegalArgumentException if the type of the map is not supported
+         */
+        private String mapExpression(final DeclaredType type, final Element element) {
+            final var arguments = type.getTypeArguments();
+            if (arguments.size() == 2 && arguments.get(0).toString().equals("java.lang.String")) {
+                final var value = arguments.get(1);
+                if (value.toString().equals("java.lang.String")) {
+                    return "reader.readStringMap()";
+                } else if (value.toString().equals("java.lang.Object") || value.getKind() == TypeKind.WILDCARD) {
+                    return "(" + type + ") reader.readValue()";
+                }
+            }
+            throw new IllegalArgumentException("Unsupported map type of bound field: " + type + " (" + element + ")");
+        }
+
+        /**
+         * Returns whether the given class can be instantiated by the binder.
+         *
+         * @param type the class
+         * @return whether the class has a public no-argument constructor
+         */
+        private boolean hasDefaultConstructor(final TypeElement type) {
+            if (type.getModifiers().contains(Modifier.ABSTRACT)
+                    || type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            for (final var constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+                if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * iSongs-RadioText - Radio-text part of iSongs.
  *
- * Copyright (C) 2023 - 2024  mhahnFr
+ * Copyright (C) 2023 - 2026  mhahnFr
  *
  * This file is part of the iSongs-RadioText.
  *
@@ -23,23 +23,46 @@ package mhahnFr.iSongs.core;
 
 import mhahnFr.iSongs.core.appleScript.*;
 import mhahnFr.iSongs.core.appleScript.ExecutionException;
+import mhahnFr.iSongs.core.cover.Covers;
+import mhahnFr.iSongs.core.error.ErrorAggregator;
+import mhahnFr.iSongs.core.error.ErrorSource;
+import mhahnFr.iSongs.core.feed.FeedResponse;
+import mhahnFr.iSongs.core.feed.FeedSource;
+import mhahnFr.iSongs.core.feed.Validators;
+import mhahnFr.iSongs.core.jfr.FeedFetchEvent;
+import mhahnFr.iSongs.core.jfr.JsonParseEvent;
+import mhahnFr.iSongs.core.jfr.SongBackfillEvent;
+import mhahnFr.iSongs.core.jfr.SongChangeEvent;
+import mhahnFr.iSongs.core.json.JsonReader;
 import mhahnFr.iSongs.core.locale.StringID;
+import mhahnFr.iSongs.core.metrics.PipelineMetrics;
+import mhahnFr.iSongs.core.metrics.Stage;
+import mhahnFr.iSongs.core.metrics.StartupMetrics;
+import mhahnFr.iSongs.core.metrics.StationMetrics;
+import mhahnFr.iSongs.core.relay.RelayClient;
+import mhahnFr.iSongs.core.relay.RelayProtocol;
+import mhahnFr.iSongs.core.resilience.CircuitBreaker;
+import mhahnFr.iSongs.core.schedule.ExecutorScheduler;
+import mhahnFr.iSongs.core.schedule.Scheduler;
+import mhahnFr.iSongs.core.state.LoaderSnapshot;
+import mhahnFr.iSongs.core.state.SettingsSnapshotStore;
+import mhahnFr.iSongs.core.state.SnapshotStore;
+import mhahnFr.iSongs.core.text.TextRules;
+import mhahnFr.iSongs.core.timeline.PlayedSong;
+import mhahnFr.iSongs.core.timeline.Timeline;
 import mhahnFr.utils.Pair;
-import mhahnFr.utils.StringStream;
-import mhahnFr.utils.json.JSONParser;
 
 import java.io.*;
 import java.net.MalformedURLException;
-import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
-import java.util.Date;
-import java.util.Locale;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.*;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * This class contains the song managing functions of this
@@ -49,28 +72,57 @@ import java.util.concurrent.*;
  * @since 14.03.23
  */
 public class InfoLoader {
-    /** The {@link ExecutorService} used for the multithreading.                        */
-    private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(2);
+    /** The connect duration in nanoseconds below which a connection counts as reused. */
+    private static final long REUSED_CONNECT_NANOS = 200_000;
+    /** The amount of consecutive failures opening the circuit breaker of a source.     */
+    private static final int BREAKER_THRESHOLD = 3;
+    /** The backoff of a source after the first trip of its breaker in milliseconds.    */
+    private static final long BREAKER_BASE_BACKOFF = 5_000;
+    /** The maximum backoff of a source in milliseconds.                                */
+    private static final long BREAKER_MAX_BACKOFF = 300_000;
+    /** The amount of played songs kept in the history.                                 */
+    private static final int HISTORY_SIZE = 64;
+
+    /** The {@link Scheduler} running the tasks of this loader.                         */
+    private final Scheduler scheduler;
+    /** The supplier of the station to be loaded when starting.                         */
+    private final Supplier<Station> stationSupplier;
+    /** The factory creating the feed source of a station.                              */
+    private final Function<Station, FeedSource> sourceFactory;
     /** The data transfer object.                                                       */
     private final WebPlayerDTO dto = new WebPlayerDTO();
+    /** The timeline of the songs of the current station.                               */
+    private final Timeline timeline = new Timeline();
+    /** The recently played songs, the oldest first.                                    */
+    private final ArrayDeque<PlayedSong> history = new ArrayDeque<>(HISTORY_SIZE);
+    /** The listeners notified about the played songs.                                  */
+    private final List<Callback<PlayedSong>> historyListeners = new CopyOnWriteArrayList<>();
     /** The lock used for the {@link #currentSong}.                                     */
     private final Object currentSongLock = new Object();
+    /** The lock serializing the updates of the song.                                   */
+    private final Object updateLock = new Object();
     /** The callback called when a new song is recognized.                              */
     private final Runnable trackUpdater;
     /** The callback called when a song has been written.                               */
     private final Callback<Song> writeCallback;
     /** The callback called with the latest recognized radio text.                      */
     private final Callback<String> textUpdater;
-    /** The callback to be called when an unrelated exception happens.                  */
-    private final Callback<Exception> errorHandler;
+    /** The aggregator the happening errors are reported to.                            */
+    private final ErrorAggregator errors;
+    /** The store the snapshots of the state are persisted in.                          */
+    private final SnapshotStore snapshots;
     /** The AppleScript based info loader instance.                                     */
-    private InfoLoaderAppleScript scriptLoader;
+    private volatile InfoLoaderAppleScript scriptLoader;
+    /** The rules recognizing songs in the radio text, keeping their hit counts.        */
+    private volatile TextRules textRules;
     /** The currently recognized song.                                                  */
     private Song currentSong;
-    /** The {@link Future} used to control the song fetching task.                      */
-    private ScheduledFuture<?> updateFuture;
+    /** The scheduled song fetching task.                                               */
+    private volatile Scheduler.Task updateTask;
+    /** Whether this loader has been stopped.                                           */
+    private volatile boolean stopped;
     /** The current level of script support to be used.                                 */
-    private ScriptSupport support;
+    private volatile ScriptSupport support;
     /** The previous song recognized.                                                   */
     private Song previous;
     /** The last song recognized using the JSON recognition.                            */
@@ -79,40 +131,112 @@ public class InfoLoader {
     private Song lastScript;
     /** Caches whether to display no song recognized.                                   */
     private boolean allowNoSong;
-    /** Indicates whether an {@link ExecutionException} has already been forwarded.     */
-    private boolean executionExceptionForwarded;
-    /** Indicates whether an JSON related exception has already been forwarded.         */
-    private boolean jsonExceptionForwarded;
-    /** Indicates whether a URI related exception has already been forwarded.           */
-    private boolean uriExceptionForwarded;
+    /** The currently loaded station.                                                   */
+    private volatile Station station;
+    /** The source of the feed of the currently loaded station.                         */
+    private volatile FeedSource feedSource;
+    /** The metrics of the currently loaded station.                                    */
+    private StationMetrics metrics;
+    /** The circuit breaker protecting the JSON feed.                                   */
+    private CircuitBreaker jsonBreaker;
+    /** The circuit breaker protecting the AppleScript execution.                       */
+    private CircuitBreaker scriptBreaker;
+    /** The start time of the newest song seen in the mirrored feeds.                   */
+    private long newestStartTime;
+    /** The start time of the song last recognized in the feed.                         */
+    private long lastStartTime;
+    /** The start time of the song recognized in the last parsed feed.                  */
+    private long jsonStartTime;
+    /** The subscription to the local relay, {@code null} if polling directly.          */
+    private volatile RelayClient relay;
+    /** The covers of the songs of the last parsed feed.                                */
+    private Covers jsonCovers = Covers.NONE;
+    /** The covers of the current song and the song scheduled next.                     */
+    private volatile Covers covers = Covers.NONE;
 
     /**
-     * Initializes this {@link InfoLoader}.
+     * Initializes this {@link InfoLoader}. The station configured in
+     * the {@link Settings} is loaded; its state is persisted in the
+     * {@link Settings#getStateStore() settings}.
      *
      * @param trackUpdater  the callback called when a new song is recognized
      * @param writeCallback the callback called when a song has been written
      * @param textUpdater   the callback called when radio text is recognized
-     * @param errorHandler  the callback called when an unrelated exception happened
+     * @param errors        the aggregator the happening errors are reported to
+     */
+    public InfoLoader(final Runnable         trackUpdater,
+                      final Callback<Song>   writeCallback,
+                      final Callback<String> textUpdater,
+                      final ErrorAggregator  errors) {
+        this(Station::fromSettings, FeedSource::of, new ExecutorScheduler(Executors.newScheduledThreadPool(2)),
+             trackUpdater, writeCallback, textUpdater, errors,
+             new SettingsSnapshotStore(Settings.getInstance().getStateStore()));
+    }
+
+    /**
+     * Initializes this {@link InfoLoader} without persisting its state.
+     *
+     * @param stationSupplier the supplier of the station, queried when starting
+     * @param sourceFactory   the factory creating the feed source of a station
+     * @param scheduler       the scheduler running the loading, may be shared
+     * @param trackUpdater    the callback called when a new song is recognized
+     * @param writeCallback   the callback called when a song has been written
+     * @param textUpdater     the callback called when radio text is recognized
+     * @param errors          the aggregator the happening errors are reported to
+     */
+    public InfoLoader(final Supplier<Station>            stationSupplier,
+                      final Function<Station, FeedSource> sourceFactory,
+                      final Scheduler                    scheduler,
+                      final Runnable                     trackUpdater,
+                      final Callback<Song>               writeCallback,
+                      final Callback<String>             textUpdater,
+                      final ErrorAggregator              errors) {
+        this(stationSupplier, sourceFactory, scheduler, trackUpdater, writeCallback, textUpdater, errors,
+             SnapshotStore.NONE);
+    }
+
+    /**
+     * Initializes this {@link InfoLoader}.
+     *
+     * @param stationSupplier the supplier of the station, queried when starting
+     * @param sourceFactory   the factory creating the feed source of a station
+     * @param scheduler       the scheduler running the loading, may be shared
+     * @param trackUpdater    the callback called when a new song is recognized
+     * @param writeCallback   the callback called when a song has been written
+     * @param textUpdater     the callback called when radio text is recognized
+     * @param errors          the aggregator the happening errors are reported to
+     * @param snapshots       the store the snapshots of the state are persisted in
      */
-    public InfoLoader(final Runnable            trackUpdater,
-                      final Callback<Song>      writeCallback,
-                      final Callback<String>    textUpdater,
-                      final Callback<Exception> errorHandler) {
-        this.trackUpdater  = trackUpdater;
-        this.writeCallback = writeCallback;
-        this.textUpdater   = textUpdater;
-        this.errorHandler  = errorHandler;
+    public InfoLoader(final Supplier<Station>            stationSupplier,
+                      final Function<Station, FeedSource> sourceFactory,
+                      final Scheduler                    scheduler,
+                      final Runnable                     trackUpdater,
+                      final Callback<Song>               writeCallback,
+                      final Callback<String>             textUpdater,
+                      final ErrorAggregator              errors,
+                      final SnapshotStore                snapshots) {
+        this.stationSupplier = stationSupplier;
+        this.sourceFactory   = sourceFactory;
+        this.scheduler       = scheduler;
+        this.trackUpdater    = trackUpdater;
+        this.writeCallback   = writeCallback;
+        this.textUpdater     = textUpdater;
+        this.errors          = errors;
+        this.snapshots       = snapshots;
+        timeline.addListener(entry -> metrics.entryClassified(entry.music()));
     }
 
     /**
      * Activates or deactivates the AppleScript based song recognition.
+     * The script is loaded in the background, so the first fetch of the
+     * feed does not wait for it.
      *
      * @param enabled whether to enable the recognition
      */
     private void setAppleScriptEnabled(final boolean enabled) {
         if (enabled) {
             if (scriptLoader == null) {
-                scriptLoader = loadScriptLoader();
+                scheduler.schedule(this::loadScriptInBackground, 0, TimeUnit.NANOSECONDS);
             }
         } else {
             scriptLoader = null;
@@ -120,30 +244,272 @@ public class InfoLoader {
     }
 
     /**
-     * Starts the song fetching task.
+     * Loads the AppleScript based song loader and installs it, unless the
+     * script support has been turned off in the meantime.
+     */
+    private void loadScriptInBackground() {
+        final var loaded = new InfoLoaderAppleScript[1];
+        StartupMetrics.getInstance().measure("script", () -> loaded[0] = loadScriptLoader());
+        if (support != ScriptSupport.off && scriptLoader == null) {
+            scriptLoader = loaded[0];
+            if (loaded[0] != null) {
+                loaded[0].setRules(textRules);
+            }
+        }
+    }
+
+    /**
+     * Sets the rules recognizing songs in the radio text and exposes their
+     * hit counts in the metrics. Unchanged rules are kept, so their hits
+     * keep being counted.
+     *
+     * @param rules the rules
+     */
+    private void setTextRules(final TextRules rules) {
+        textRules = rules;
+        metrics.setTextRules(rules);
+        final var loader = scriptLoader;
+        if (loader != null) {
+            loader.setRules(rules);
+        }
+    }
+
+    /**
+     * Starts the song fetching task. The state persisted for the station
+     * is restored first, so the last song is displayed right away and the
+     * first request of the feed is conditional.
      *
      * @see #stop()
      */
     public void start() {
-        executionExceptionForwarded = false;
-        jsonExceptionForwarded = false;
-        uriExceptionForwarded = false;
-        allowNoSong = Settings.getInstance().getNoSong();
-        setScriptSupport(Settings.getInstance().getScriptSupport());
-        updateFuture = executorService.scheduleAtFixedRate(this::updateTrack,
-                0,
-                Settings.getInstance().getDelay(),
+        stopped         = false;
+        station         = stationSupplier.get();
+        feedSource      = sourceFactory.apply(station);
+        allowNoSong     = station.allowNoSong();
+        metrics         = PipelineMetrics.getInstance().station(station.id());
+        newestStartTime = Long.MIN_VALUE;
+        lastStartTime   = Long.MIN_VALUE;
+        jsonStartTime   = Long.MIN_VALUE;
+        jsonBreaker     = createBreaker(Stage.Source.JSON);
+        scriptBreaker   = createBreaker(Stage.Source.SCRIPT);
+        timeline.setClassifier(station.classifier());
+        setTextRules(station.textRules());
+        setScriptSupport(station.support());
+        restoreSnapshot();
+        if (station.relay()) {
+            startRelay();
+        }
+        synchronized (updateLock) {
+            schedulePolling(0);
+        }
+    }
+
+    /**
+     * Schedules the song fetching task using the delay of the current station.
+     * If this loader has been stopped meanwhile, the task is cancelled again.
+     *
+     * @param initialDelay the delay of the first fetch in milliseconds
+     */
+    private void schedulePolling(final long initialDelay) {
+        updateTask = scheduler.scheduleAtFixedRate(this::updateTrack,
+                initialDelay,
+                station.delay(),
                 TimeUnit.MILLISECONDS);
+        if (stopped) {
+            updateTask.cancel();
+        }
+    }
+
+    /**
+     * Subscribes to the local relay for the current station.
+     */
+    private void startRelay() {
+        relay = new RelayClient(station, RelayProtocol.port(),
+                                () -> scheduler.schedule(this::updateTrack, 0, TimeUnit.NANOSECONDS));
+        relay.start();
+    }
+
+    /**
+     * Closes the subscription to the local relay, if any.
+     */
+    private void stopRelay() {
+        if (relay != null) {
+            relay.close();
+            relay = null;
+        }
+    }
+
+    /**
+     * Applies the changed configuration of the station without stopping
+     * this loader. The configuration is compared to the running one in the
+     * background, where only the changed parts are replaced: the fetching
+     * task is rescheduled if the delay changed, the feed source is replaced
+     * if the URLs or the maximum size changed, keeping its validators, and
+     * the script support and the relay are switched as needed. If the
+     * primary URL changed, a different station is loaded: the state of the
+     * previous one is persisted and the state of the new one restored.
+     */
+    public void reconfigure() {
+        scheduler.schedule(() -> {
+            synchronized (updateLock) {
+                reconfigureImpl();
+            }
+        }, 0, TimeUnit.NANOSECONDS);
     }
 
     /**
-     * Stops the song fetching task.
+     * Applies the changed configuration of the station.
+     *
+     * @see #reconfigure()
+     */
+    private void reconfigureImpl() {
+        final var old  = station;
+        final var next = stationSupplier.get();
+        if (stopped || updateTask == null || next.equals(old)) return;
+
+        final var switched = !next.id().equals(old.id());
+        if (switched) {
+            saveSnapshot();
+        }
+        final var validators = switched ? Validators.NONE : feedSource.getValidators();
+        station = next;
+        if (switched || !next.urls().equals(old.urls()) || next.maxBodySize() != old.maxBodySize()) {
+            closeFeedSource();
+            feedSource = sourceFactory.apply(next);
+            feedSource.setValidators(validators);
+        }
+        if (switched) {
+            metrics         = PipelineMetrics.getInstance().station(next.id());
+            jsonBreaker     = createBreaker(Stage.Source.JSON);
+            scriptBreaker   = createBreaker(Stage.Source.SCRIPT);
+            previous        = null;
+            lastJson        = null;
+            lastScript      = null;
+            newestStartTime = Long.MIN_VALUE;
+            lastStartTime   = Long.MIN_VALUE;
+            jsonStartTime   = Long.MIN_VALUE;
+            jsonCovers      = Covers.NONE;
+            covers          = Covers.NONE;
+            timeline.clear();
+            synchronized (history) {
+                history.clear();
+            }
+            setCurrentSong(null);
+            restoreSnapshot();
+            trackUpdater.run();
+        }
+        allowNoSong = next.allowNoSong();
+        timeline.setClassifier(next.classifier());
+        if (switched || !next.textRules().equals(old.textRules())) {
+            setTextRules(next.textRules());
+        }
+        if (next.support() != old.support()) {
+            setScriptSupport(next.support());
+        }
+        if (switched || next.relay() != old.relay()
+                     || next.relay() && !next.classifier().equals(old.classifier())) {
+            stopRelay();
+            if (next.relay()) {
+                startRelay();
+            }
+        }
+        if (switched || next.delay() != old.delay()) {
+            updateTask.cancel();
+            schedulePolling(switched ? 0 : next.delay());
+        }
+    }
+
+    /**
+     * Restores the persisted state of the current station, if available.
+     */
+    private void restoreSnapshot() {
+        final var snapshot = snapshots.load(station.id());
+        if (snapshot == null) return;
+
+        previous        = snapshot.previous();
+        lastJson        = snapshot.lastJson();
+        lastScript      = snapshot.lastScript();
+        newestStartTime = snapshot.newestStartTime();
+        lastStartTime   = snapshot.lastStartTime();
+        feedSource.setValidators(snapshot.validators());
+        setCurrentSong(snapshot.current());
+        if (snapshot.current() != null) {
+            trackUpdater.run();
+        }
+    }
+
+    /**
+     * Persists the state of the current station.
+     */
+    private void saveSnapshot() {
+        snapshots.save(new LoaderSnapshot(station.id(), getCurrentSong(), previous, lastJson, lastScript,
+                                          newestStartTime, lastStartTime, feedSource.getValidators(),
+                                          scheduler.clock().currentTimeMillis()));
+    }
+
+    /**
+     * Creates the circuit breaker of the given source of the current station
+     * and exposes it in the metrics.
+     *
+     * @param source the protected source
+     * @return the circuit breaker
+     */
+    private CircuitBreaker createBreaker(final Stage.Source source) {
+        final var breaker = new CircuitBreaker(station.id() + "/" + source,
+                                               scheduler.clock(),
+                                               ThreadLocalRandom.current(),
+                                               BREAKER_THRESHOLD,
+                                               Math.max(BREAKER_BASE_BACKOFF, station.delay()),
+                                               Math.max(BREAKER_MAX_BACKOFF, station.delay()),
+                                               TimeUnit.MILLISECONDS);
+        PipelineMetrics.getInstance().setBreaker(station.id(), source, breaker);
+        return breaker;
+    }
+
+    /**
+     * Returns the circuit breaker protecting the given source of the
+     * currently loaded station.
+     *
+     * @param source the source, either {@link Stage.Source#JSON} or {@link Stage.Source#SCRIPT}
+     * @return the circuit breaker or {@code null} if not started yet
+     */
+    public CircuitBreaker getBreaker(final Stage.Source source) {
+        return switch (source) {
+            case JSON   -> jsonBreaker;
+            case SCRIPT -> support == ScriptSupport.off ? null : scriptBreaker;
+            case LOADER -> null;
+        };
+    }
+
+    /**
+     * Stops the song fetching task and persists the state of the station.
+     * A fetch in progress is not waited for; its result is discarded.
      *
      * @see #start()
      */
     public void stop() {
-        if (updateFuture != null) {
-            updateFuture.cancel(false);
+        stopped = true;
+        final var task = updateTask;
+        if (task != null) {
+            task.cancel();
+        }
+        if (station != null) {
+            saveSnapshot();
+        }
+        stopRelay();
+        closeFeedSource();
+    }
+
+    /**
+     * Closes the feed source of the current station, if any.
+     */
+    private void closeFeedSource() {
+        if (feedSource != null) {
+            try {
+                feedSource.close();
+            } catch (final IOException e) {
+                errors.report(ErrorSource.FEED, e);
+            }
         }
     }
 
@@ -168,12 +534,12 @@ public class InfoLoader {
         final var location = findScriptLocation("streamTitle.scpt");
         if (location == null || !location.exists()) {
             try (final var stream = Script.class.getClassLoader().getResourceAsStream("streamTitle.applescript")) {
-                return new InfoLoaderAppleScript(Script.loadScript(stream));
+                return new InfoLoaderAppleScript(Script.loadScript(stream), textRules);
             } catch (final IOException e) {
-                errorHandler.update(e);
+                errors.report(ErrorSource.SCRIPT, e);
             }
         } else {
-            return new InfoLoaderAppleScript(new CompiledScript(location));
+            return new InfoLoaderAppleScript(new CompiledScript(location), textRules);
         }
         return null;
     }
@@ -210,8 +576,8 @@ public class InfoLoader {
      * @param support the script support level
      */
     private void setScriptSupport(final ScriptSupport support) {
-        setAppleScriptEnabled(support != ScriptSupport.off);
         this.support = support;
+        setAppleScriptEnabled(support != ScriptSupport.off);
     }
 
     /**
@@ -234,7 +600,7 @@ public class InfoLoader {
      * @param dto the data transfer object
      * @return the played song
      */
-    private WebPlayerDTO.PlaylistDTO.SongDTO getPlayedSong(final WebPlayerDTO dto) {
+    static WebPlayerDTO.PlaylistDTO.SongDTO getPlayedSong(final WebPlayerDTO dto) {
         for (final var song : dto.playlist.data) {
             if (song.playingMode == 1) {
                 return song;
@@ -243,11 +609,150 @@ public class InfoLoader {
         return null;
     }
 
+    /**
+     * Returns the covers of the given played song and of the song starting
+     * next according to the given timeline, skipping entries that are no
+     * music. If the song has no cover, the
+     * cover of the show in the given data transfer object is used.
+     *
+     * @param dto      the data transfer object
+     * @param played   the played song
+     * @param timeline the timeline of the station
+     * @return the covers
+     */
+    static Covers getCovers(final WebPlayerDTO                     dto,
+                            final WebPlayerDTO.PlaylistDTO.SongDTO played,
+                            final Timeline                         timeline) {
+        var next = timeline.next(played.starttime);
+        while (next != null && !next.music()) {
+            next = timeline.next(next.startTime());
+        }
+        var current = played.cover;
+        if ((current == null || current.isBlank()) && dto.show != null && dto.show.data != null && dto.show.data.cover != null) {
+            current = dto.show.data.cover.get("large");
+        }
+        return new Covers(current == null || current.isBlank() ? null : current, next == null ? null : next.cover());
+    }
+
+    /**
+     * Returns the timeline of the songs of the current station. It is
+     * updated with each parsed feed.
+     *
+     * @return the timeline
+     */
+    public Timeline getTimeline() {
+        return timeline;
+    }
+
+    /**
+     * Returns the recently played songs of the current station, including
+     * the backfilled ones, the oldest first.
+     *
+     * @return a copy of the history
+     */
+    public List<PlayedSong> getHistory() {
+        synchronized (history) {
+            return List.copyOf(history);
+        }
+    }
+
+    /**
+     * Adds the given listener notified about each played song, including the
+     * backfilled ones. The listeners are called on the thread polling the feed.
+     *
+     * @param listener the listener to be added
+     */
+    public void addHistoryListener(final Callback<PlayedSong> listener) {
+        historyListeners.add(listener);
+    }
+
+    /**
+     * Removes the given listener.
+     *
+     * @param listener the listener to be removed
+     */
+    public void removeHistoryListener(final Callback<PlayedSong> listener) {
+        historyListeners.remove(listener);
+    }
+
+    /**
+     * Adds the given song to the history and notifies the listeners.
+     *
+     * @param song the played song
+     */
+    private void addToHistory(final PlayedSong song) {
+        synchronized (history) {
+            if (history.size() == HISTORY_SIZE) {
+                history.removeFirst();
+            }
+            history.addLast(song);
+        }
+        for (final var listener : historyListeners) {
+            listener.update(song);
+        }
+    }
+
+    /**
+     * Detects a gap in the polling by comparing the start time of the song
+     * last recognized in the feed with the given start time of the played
+     * song. The songs of the timeline started in between have been missed;
+     * those classified as music are added to the history, marked as
+     * backfilled.
+     *
+     * @param startTime the start time of the played song
+     */
+    private void backfill(final long startTime) {
+        final var last = lastStartTime;
+        if (startTime <= last) return;
+
+        lastStartTime = startTime;
+        if (last == Long.MIN_VALUE) return;
+
+        for (final var entry : timeline.between(last, startTime)) {
+            if (!entry.music()) continue;
+
+            addToHistory(new PlayedSong(entry.song(), entry.startTime(), true));
+            metrics.songBackfilled();
+            final var event = new SongBackfillEvent();
+            if (event.shouldCommit()) {
+                event.station   = metrics.getStation();
+                event.song      = toText(entry.song());
+                event.songStart = entry.startTime();
+                event.gap       = startTime - last;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Returns the URLs of the covers of the current song and of the song
+     * scheduled next. Covers are only known for songs recognized in the feed.
+     *
+     * @return the covers
+     */
+    public Covers getCovers() {
+        return covers;
+    }
+
     /**
      * Updates the currently played song. Uses the JSON and script based
      * song recognition as set with {@link #setScriptSupport(ScriptSupport)}.
+     * The updates are serialized, as the relay triggers them as well.
      */
     private void updateTrack() {
+        synchronized (updateLock) {
+            updateTrackImpl();
+        }
+    }
+
+    /**
+     * Updates the currently played song.
+     *
+     * @see #updateTrack()
+     */
+    private void updateTrackImpl() {
+        if (stopped) return;
+
         final Optional<Song> json, script;
         switch (support) {
             case off -> {
@@ -264,7 +769,12 @@ public class InfoLoader {
             }
             default -> throw new IllegalStateException("Script support switch was not exhaustive");
         }
-        final var current = getCurrentSong();
+        if (stopped) return;
+
+        final var detectStart = System.nanoTime();
+        final var changeEvent = new SongChangeEvent();
+        changeEvent.begin();
+        final var current     = getCurrentSong();
 
         final Optional<Optional<Song>> newJson, newScript;
         if ((allowNoSong || json.isPresent()) && !Objects.equals(json.orElse(null), lastJson) && ((allowNoSong && previous == null) || !Objects.equals(json.orElse(null), previous)) && !Objects.equals(json.orElse(null), current)) {
@@ -288,10 +798,28 @@ public class InfoLoader {
             newSong = newScript;
         }
 
+        metrics.get(Stage.DETECT).success(detectStart);
+        changeEvent.end();
+        if (changeEvent.shouldCommit()) {
+            changeEvent.station = metrics.getStation();
+            changeEvent.oldSong = toText(current);
+            changeEvent.newSong = newSong.isPresent() ? toText(newSong.get().orElse(null)) : changeEvent.oldSong;
+            changeEvent.reason  = newJson.isPresent() ? "JSON" : newScript.isPresent() ? "SCRIPT" : "UNCHANGED";
+            changeEvent.commit();
+        }
+
         if (newSong.isPresent()) {
             previous = current;
+            covers   = newJson.isPresent() && json.isPresent() ? jsonCovers : Covers.NONE;
             setCurrentSong(newSong.get().orElse(null));
+            if (newSong.get().isPresent()) {
+                final var startTime = newJson.isPresent() && jsonStartTime != Long.MIN_VALUE
+                                      ? jsonStartTime : scheduler.clock().currentTimeMillis();
+                addToHistory(new PlayedSong(newSong.get().get(), startTime, false));
+            }
+            metrics.songChanged();
             trackUpdater.run();
+            saveSnapshot();
         }
     }
 
@@ -301,53 +829,140 @@ public class InfoLoader {
      * @return the currently recognized song
      */
     private Song getTrackScript() {
+        if (scriptLoader == null || !scriptBreaker.allowRequest()) return null;
+
+        final var scriptMetrics = metrics.get(Stage.SCRIPT);
+        final var start         = System.nanoTime();
         final Pair<String, Song> result;
         try {
             result = scriptLoader.getScriptResult();
         } catch (final ExecutionException e) {
-            if (!executionExceptionForwarded || support == ScriptSupport.only) {
-                executionExceptionForwarded = true;
-                errorHandler.update(e);
-            }
+            scriptMetrics.failure();
+            scriptBreaker.onFailure();
+            errors.report(ErrorSource.SCRIPT, e);
             return null;
         }
-        executionExceptionForwarded = false;
+        scriptMetrics.success(start);
+        scriptBreaker.onSuccess();
         textUpdater.update(result.getFirst());
         return result.getSecond();
     }
 
     /**
      * Loads and returns the song currently recognized by the JSON based recognition.
+     * While connected to the local relay, the song received from it is returned.
      *
      * @return the currently recognized song
      */
     private Song getTrackJSON() {
-        final URL url;
+        final var relay = this.relay;
+        if (relay != null && relay.isConnected()) {
+            // The songs received from the relay have been seen live, so the
+            // next polled feed must not backfill them.
+            jsonCovers    = Covers.NONE;
+            jsonStartTime = Long.MIN_VALUE;
+            lastStartTime = Long.MIN_VALUE;
+            return relay.getSong();
+        }
+        if (!jsonBreaker.allowRequest()) return null;
+
+        final var fetchMetrics = metrics.get(Stage.FETCH);
+        final var fetchEvent   = new FeedFetchEvent();
+        final var fetchStart   = System.nanoTime();
+        fetchEvent.begin();
+        final FeedResponse response;
         try {
-            url = new URI(Settings.getInstance().getURL()).toURL();
-        } catch (MalformedURLException | URISyntaxException e) {
-            if (!uriExceptionForwarded || support == ScriptSupport.off) {
-                uriExceptionForwarded = true;
-                errorHandler.update(e);
-            }
+            response = feedSource.fetch();
+        } catch (final MalformedURLException e) {
+            fetchMetrics.failure();
+            jsonBreaker.onFailure();
+            errors.report(ErrorSource.URL, e);
+            return null;
+        } catch (final Exception e) {
+            fetchMetrics.failure();
+            jsonBreaker.onFailure();
+            errors.report(ErrorSource.FEED, e);
             return null;
         }
-        uriExceptionForwarded = false;
+        if (stopped) {
+            response.release();
+            return null;
+        }
+        fetchMetrics.success(fetchStart);
+        fetchEvent.end();
+        if (fetchEvent.shouldCommit()) {
+            fetchEvent.station          = metrics.getStation();
+            fetchEvent.bytes            = response.length();
+            fetchEvent.status           = response.status();
+            fetchEvent.connectDuration  = response.connectTime();
+            fetchEvent.connectionReused = response.connectTime() < REUSED_CONNECT_NANOS;
+            fetchEvent.commit();
+        }
+        if (response.isNotModified()) {
+            response.release();
+            jsonBreaker.onSuccess();
+            return lastJson;
+        }
 
-        try (final var reader = new BufferedInputStream(url.openStream())) {
-            new JSONParser(new StringStream(new String(reader.readAllBytes(), StandardCharsets.UTF_8))).readInto(dto);
+        final var parseMetrics = metrics.get(Stage.PARSE);
+        final var parseEvent   = new JsonParseEvent();
+        final var parseStart   = System.nanoTime();
+        parseEvent.begin();
+        try {
+            WebPlayerDTOBinder.readInto(new JsonReader(response.body(), 0, response.length()), dto);
         } catch (final Exception e) {
-            if (!jsonExceptionForwarded || support == ScriptSupport.off) {
-                jsonExceptionForwarded = true;
-                errorHandler.update(e);
-            }
+            parseMetrics.failure();
+            jsonBreaker.onFailure();
+            errors.report(ErrorSource.FEED, e);
             return null;
+        } finally {
+            response.release();
+        }
+        parseMetrics.success(parseStart);
+        jsonBreaker.onSuccess();
+        parseEvent.end();
+        if (parseEvent.shouldCommit()) {
+            parseEvent.station = metrics.getStation();
+            parseEvent.bytes   = response.length();
+            parseEvent.entries = dto.playlist == null || dto.playlist.data == null ? 0 : dto.playlist.data.length;
+            parseEvent.commit();
+        }
+        if (dto.playlist != null) {
+            timeline.update(dto.playlist.data);
         }
-        jsonExceptionForwarded = false;
         final var playedSong = getPlayedSong(dto);
+        if (playedSong != null && station.urls().size() > 1) {
+            // A mirror lagging behind must not report the previous song as a change again.
+            if (playedSong.starttime < newestStartTime) {
+                return lastJson;
+            }
+            newestStartTime = playedSong.starttime;
+        }
+        if (playedSong != null && !isMusic(playedSong)) {
+            // Jingles, news or advertisements keep the previous song.
+            backfill(playedSong.starttime);
+            return lastJson;
+        }
+        jsonCovers = playedSong == null ? Covers.NONE : getCovers(dto, playedSong, timeline);
+        if (playedSong != null) {
+            jsonStartTime = playedSong.starttime;
+            backfill(playedSong.starttime);
+        }
         return playedSong == null ? null : new Song(playedSong.title, playedSong.artist);
     }
 
+    /**
+     * Returns whether the given played song is music. The classification
+     * of its timeline entry is used, so each entry is classified once.
+     *
+     * @param song the played song
+     * @return whether the song is music
+     */
+    private boolean isMusic(final WebPlayerDTO.PlaylistDTO.SongDTO song) {
+        final var entry = timeline.get(song.starttime);
+        return entry != null ? entry.music() : station.classifier().isMusic(song);
+    }
+
     /**
      * Starts the task to save the song information of the
      * currently recognized song.
@@ -356,7 +971,7 @@ public class InfoLoader {
      */
     public void saveSong() {
         final var currentSong = getCurrentSong();
-        executorService.schedule(() -> saveSongImpl(currentSong), 0, TimeUnit.NANOSECONDS);
+        scheduler.schedule(() -> saveSongImpl(currentSong), 0, TimeUnit.NANOSECONDS);
     }
 
     /**
@@ -367,16 +982,21 @@ public class InfoLoader {
      * @see #writeCallback
      */
     private void saveSongImpl(final Song song) {
+        final var saveMetrics = metrics.get(Stage.SAVE);
+        final var start       = System.nanoTime();
+
         Song      written = null;
         Exception error   = null;
         try {
             written = saveTrack(song);
+            saveMetrics.success(start);
         } catch (final Exception e) {
+            saveMetrics.failure();
             error = e;
         }
         writeCallback.update(written);
         if (error != null) {
-            errorHandler.update(error);
+            errors.report(ErrorSource.SAVE, error);
         }
     }
 
@@ -399,7 +1019,7 @@ public class InfoLoader {
         }
         final var buffer = "titel:" + song.title() + System.lineSeparator() +
                            "interpreter:" + song.interpreter();
-        try (final var writer = new BufferedWriter(new FileWriter(createFileName()))) {
+        try (final var writer = new BufferedWriter(new FileWriter(createFileName(path, new Date(scheduler.clock().currentTimeMillis()))))) {
             writer.write(buffer);
         }
         return song;
@@ -415,14 +1035,26 @@ public class InfoLoader {
         return getCurrentSong() != null;
     }
 
+    /**
+     * Returns a textual representation of the given song.
+     *
+     * @param song the song
+     * @return the textual representation or {@code null} if no song is given
+     */
+    private static String toText(final Song song) {
+        return song == null ? null : song.title() + " / " + song.interpreter();
+    }
+
     /**
      * Creates a file name for storing a song.
      *
+     * @param folder the folder where to store the song
+     * @param date   the date the song is stored at
      * @return the file path
      */
-    private String createFileName() {
-        return Settings.getInstance().getSavePath() + File.separator + "Song_" +
+    static String createFileName(final String folder, final Date date) {
+        return folder + File.separator + "Song_" +
                 DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM, Locale.getDefault())
-                          .format(new Date());
+                          .format(date);
     }
 }
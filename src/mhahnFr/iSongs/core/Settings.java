@@ -1,7 +1,7 @@
 /*
  * iSongs-RadioText - Radio-text part of iSongs.
  *
- * Copyright (C) 2023 - 2025  mhahnFr
+ * Copyright (C) 2023 - 2026  mhahnFr
  *
  * This file is part of the iSongs-RadioText.
  *
@@ -30,12 +30,22 @@ import mhahnFr.NDL.NDL;
 import mhahnFr.iSongs.core.appleScript.ScriptSupport;
 import mhahnFr.iSongs.core.locale.LanguageListener;
 import mhahnFr.iSongs.core.locale.Locale;
+import mhahnFr.iSongs.core.schedule.ExecutorScheduler;
+import mhahnFr.iSongs.core.store.FileSettingsStore;
+import mhahnFr.iSongs.core.store.PreferencesSettingsStore;
+import mhahnFr.iSongs.core.store.SettingsStore;
+import mhahnFr.iSongs.core.text.TextRules;
+import mhahnFr.iSongs.core.timeline.EntryClassifier;
 import mhahnFr.iSongs.iSongs;
 import mhahnFr.utils.gui.DarkModeListener;
 
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.prefs.Preferences;
 
 /**
@@ -45,10 +55,21 @@ import java.util.prefs.Preferences;
  * @since 14.03.23
  */
 public class Settings implements DarkModeCallback {
+    /** The system property naming the settings file to be used instead of the {@link Preferences}. */
+    public static final String FILE_PROPERTY    = "iSongs.settings";
+    /** The system property naming the profile to be used.                                         */
+    public static final String PROFILE_PROPERTY = "iSongs.profile";
+    /** The delay of the writes to the settings file in milliseconds.                              */
+    private static final long WRITE_DELAY = 500;
+    /** The name of the node containing the profiles.                                              */
+    private static final String PROFILES = "profiles";
+    /** The logger of this class.                                                                  */
+    private static final System.Logger logger = System.getLogger(Settings.class.getName());
+
     /** The one and only instance of this class.              */
     private static Settings instance;
-    /** The underlying {@link Preferences}.                   */
-    private final Preferences preferences = Preferences.userNodeForPackage(iSongs.class);
+    /** The underlying {@link SettingsStore}.                 */
+    private final SettingsStore store = openStore();
     /** A list with the registered {@link DarkModeListener}s. */
     private final List<DarkModeListener> listeners = new ArrayList<>();
     /** A list with the registered {@link LanguageListener}s. */
@@ -60,7 +81,69 @@ public class Settings implements DarkModeCallback {
     /**
      * The default constructor. Can only be used internally.
      */
-    private Settings() {
+    private Settings() {}
+
+    /**
+     * Opens the store of the settings. By default, the {@link Preferences}
+     * are used. If the system property {@value #FILE_PROPERTY} is set,
+     * the settings are kept in the named file instead; when it is created,
+     * the settings stored in the preferences are migrated into it. If the
+     * system property {@value #PROFILE_PROPERTY} is set, the named profile
+     * is used, which starts as a copy of the default settings.
+     *
+     * @return the store of the settings
+     */
+    private static SettingsStore openStore() {
+        final SettingsStore preferences = new PreferencesSettingsStore(Preferences.userNodeForPackage(iSongs.class));
+
+        var root = preferences;
+        final var file = System.getProperty(FILE_PROPERTY);
+        if (file != null && !file.isBlank()) {
+            try {
+                final var scheduler = new ExecutorScheduler(Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("iSongs-settings").daemon().factory()));
+                final var fileStore = new FileSettingsStore(Path.of(file), scheduler, WRITE_DELAY, TimeUnit.MILLISECONDS);
+                if (!fileStore.existed()) {
+                    SettingsStore.copy(preferences, fileStore);
+                    fileStore.flush();
+                }
+                Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().name("iSongs-settings-flush").unstarted(() -> {
+                    try {
+                        fileStore.flush();
+                    } catch (final IOException e) {
+                        logger.log(System.Logger.Level.WARNING, "Could not write the settings to " + file, e);
+                    }
+                }));
+                root = fileStore;
+            } catch (final IOException e) {
+                logger.log(System.Logger.Level.WARNING, "Could not open the settings file " + file, e);
+            }
+        }
+
+        final var profileName = System.getProperty(PROFILE_PROPERTY);
+        if (profileName == null || profileName.isBlank()) {
+            return root;
+        }
+        final var profile = root.node(PROFILES).node(profileName.strip());
+        try {
+            if (profile.keys().isEmpty()) {
+                for (final var key : root.keys()) {
+                    profile.put(key, root.get(key, ""));
+                }
+            }
+        } catch (final IOException e) {
+            logger.log(System.Logger.Level.WARNING, "Could not initialize the profile " + profileName, e);
+        }
+        return profile;
+    }
+
+    /**
+     * Loads the native dark mode support and registers this instance to be
+     * notified about changes of the dark mode of the system. As loading
+     * the native library takes a while, this method is called in parallel
+     * to the other startup tasks.
+     */
+    public void loadNativeSupport() {
         NDL.ifAvailable(() -> NDL.registerCallback(this));
     }
 
@@ -71,7 +154,7 @@ public class Settings implements DarkModeCallback {
      * @return the height of the window
      */
     public int getWindowHeight() {
-        return preferences.getInt(Key.WINDOW_HEIGHT, -1);
+        return store.getInt(Key.WINDOW_HEIGHT, -1);
     }
 
     /**
@@ -81,7 +164,7 @@ public class Settings implements DarkModeCallback {
      * @return the width of the window
      */
     public int getWindowWidth() {
-        return preferences.getInt(Key.WINDOW_WIDTH, -1);
+        return store.getInt(Key.WINDOW_WIDTH, -1);
     }
 
     /**
@@ -91,7 +174,7 @@ public class Settings implements DarkModeCallback {
      * @return the X-coordinate of the window's location
      */
     public int getWindowX() {
-        return preferences.getInt(Key.WINDOW_X, Integer.MIN_VALUE);
+        return store.getInt(Key.WINDOW_X, Integer.MIN_VALUE);
     }
 
     /**
@@ -101,7 +184,7 @@ public class Settings implements DarkModeCallback {
      * @return the Y-coordinate of the window's location
      */
     public int getWindowY() {
-        return preferences.getInt(Key.WINDOW_Y, Integer.MIN_VALUE);
+        return store.getInt(Key.WINDOW_Y, Integer.MIN_VALUE);
     }
 
     /**
@@ -110,7 +193,7 @@ public class Settings implements DarkModeCallback {
      * @return the state of the activation of the dark mode
      */
     public DarkMode getDarkMode() {
-        return DarkMode.createDarkMode(preferences.getInt(Key.DARK_MODE, NDL.couldLoad() ? DarkMode.AUTO.ordinal()
+        return DarkMode.createDarkMode(store.getInt(Key.DARK_MODE, NDL.couldLoad() ? DarkMode.AUTO.ordinal()
                                                                                          : DarkMode.LIGHT.ordinal()));
     }
 
@@ -149,7 +232,7 @@ public class Settings implements DarkModeCallback {
      * @return the delay
      */
     public long getDelay() {
-        return preferences.getLong(Key.DELAY, 1000);
+        return store.getLong(Key.DELAY, 1000);
     }
 
     /**
@@ -159,7 +242,19 @@ public class Settings implements DarkModeCallback {
      * @return the URL
      */
     public String getURL() {
-        return preferences.get(Key.URL, "");
+        return store.get(Key.URL, "");
+    }
+
+    /**
+     * Returns the URLs to the song information. Several URLs of
+     * mirrors of the same feed are separated by whitespace; the
+     * first one is the primary URL.
+     *
+     * @return the URLs, empty if no URL was set
+     */
+    public List<String> getURLs() {
+        final var urls = getURL().strip();
+        return urls.isEmpty() ? List.of() : List.of(urls.split("\\s+"));
     }
 
     /**
@@ -170,7 +265,7 @@ public class Settings implements DarkModeCallback {
      * @return the path to the save folder
      */
     public String getSavePath() {
-        return preferences.get(Key.PATH, "");
+        return store.get(Key.PATH, "");
     }
 
     /**
@@ -180,7 +275,7 @@ public class Settings implements DarkModeCallback {
      */
     public Locale getLocale() {
         if (locale == null) {
-            locale = Locale.fromName(preferences.get(Key.LOCALE, ""));
+            locale = Locale.fromName(store.get(Key.LOCALE, ""));
         }
         return locale;
     }
@@ -191,7 +286,7 @@ public class Settings implements DarkModeCallback {
      * @return the currently set script support level
      */
     public ScriptSupport getScriptSupport() {
-        return ScriptSupport.valueOf(preferences.get(Key.APPLE_SCRIPT, ScriptSupport.off.name()));
+        return ScriptSupport.valueOf(store.get(Key.APPLE_SCRIPT, ScriptSupport.off.name()));
     }
 
     /**
@@ -200,7 +295,160 @@ public class Settings implements DarkModeCallback {
      * @return whether to display no song recognized
      */
     public boolean getNoSong() {
-        return preferences.getInt(Key.NO_SONG, 1) == 1;
+        return store.getInt(Key.NO_SONG, 1) == 1;
+    }
+
+    /**
+     * Returns the maximum size of the body of a feed in bytes.
+     *
+     * @return the maximum size of a feed
+     */
+    public int getMaxBodySize() {
+        return store.getInt(Key.MAX_BODY_SIZE, Station.DEFAULT_MAX_BODY_SIZE);
+    }
+
+    /**
+     * Returns the types of the playlist entries not regarded as music,
+     * separated by commas.
+     *
+     * @return the rejected types
+     */
+    public String getSkipTypes() {
+        return store.get(Key.SKIP_TYPES, EntryClassifier.DEFAULT_TYPES);
+    }
+
+    /**
+     * Sets the types of the playlist entries not regarded as music.
+     *
+     * @param types the rejected types, separated by commas
+     */
+    public void setSkipTypes(final String types) {
+        store.put(Key.SKIP_TYPES, types);
+    }
+
+    /**
+     * Returns the minimum duration of the playlist entries regarded as music.
+     *
+     * @return the minimum duration in seconds
+     */
+    public int getMinDuration() {
+        return store.getInt(Key.MIN_DURATION, EntryClassifier.DEFAULT_MIN_DURATION);
+    }
+
+    /**
+     * Sets the minimum duration of the playlist entries regarded as music.
+     *
+     * @param seconds the minimum duration in seconds, {@code 0} to accept any duration
+     */
+    public void setMinDuration(final int seconds) {
+        store.putInt(Key.MIN_DURATION, seconds);
+    }
+
+    /**
+     * Returns the regular expression found in the titles of the playlist
+     * entries not regarded as music. If no data was set, an empty
+     * {@link String} is returned.
+     *
+     * @return the pattern of the rejected titles
+     */
+    public String getSkipTitles() {
+        return store.get(Key.SKIP_TITLES, "");
+    }
+
+    /**
+     * Sets the regular expression found in the titles of the playlist
+     * entries not regarded as music.
+     *
+     * @param pattern the pattern of the rejected titles, empty for none
+     */
+    public void setSkipTitles(final String pattern) {
+        store.put(Key.SKIP_TITLES, pattern);
+    }
+
+    /**
+     * Returns the regular expression found in the artists of the playlist
+     * entries not regarded as music. If no data was set, an empty
+     * {@link String} is returned.
+     *
+     * @return the pattern of the rejected artists
+     */
+    public String getSkipArtists() {
+        return store.get(Key.SKIP_ARTISTS, "");
+    }
+
+    /**
+     * Sets the regular expression found in the artists of the playlist
+     * entries not regarded as music.
+     *
+     * @param pattern the pattern of the rejected artists, empty for none
+     */
+    public void setSkipArtists(final String pattern) {
+        store.put(Key.SKIP_ARTISTS, pattern);
+    }
+
+    /**
+     * Returns the rules recognizing songs in the radio text, one per line.
+     * If no data was set, the {@link TextRules#DEFAULT_RULES default rules}
+     * are returned.
+     *
+     * @return the rules recognizing songs
+     */
+    public String getTextRules() {
+        return store.get(Key.TEXT_RULES, TextRules.DEFAULT_RULES);
+    }
+
+    /**
+     * Sets the rules recognizing songs in the radio text.
+     *
+     * @param rules the rules recognizing songs, one per line
+     */
+    public void setTextRules(final String rules) {
+        store.put(Key.TEXT_RULES, rules);
+    }
+
+    /**
+     * Sets the maximum size of the body of a feed in bytes.
+     *
+     * @param maxBodySize the maximum size of a feed
+     */
+    public void setMaxBodySize(final int maxBodySize) {
+        store.putInt(Key.MAX_BODY_SIZE, maxBodySize);
+    }
+
+    /**
+     * Returns the port of the song API.
+     *
+     * @return the port, {@code 0} if the API is disabled
+     */
+    public int getApiPort() {
+        return store.getInt(Key.API_PORT, 0);
+    }
+
+    /**
+     * Sets the port of the song API.
+     *
+     * @param port the port, {@code 0} to disable the API
+     */
+    public void setApiPort(final int port) {
+        store.putInt(Key.API_PORT, port);
+    }
+
+    /**
+     * Returns whether the songs are received from the local relay.
+     *
+     * @return whether to use the relay
+     */
+    public boolean getRelay() {
+        return store.getInt(Key.RELAY, 0) == 1;
+    }
+
+    /**
+     * Sets whether the songs are received from the local relay.
+     *
+     * @param relay whether to use the relay
+     */
+    public void setRelay(final boolean relay) {
+        store.putInt(Key.RELAY, relay ? 1 : 0);
     }
 
     /**
@@ -209,7 +457,7 @@ public class Settings implements DarkModeCallback {
      * @param noSong whether to display no song recognized
      */
     public void setNoSong(final boolean noSong) {
-        preferences.putInt(Key.NO_SONG, noSong ? 1 : 0);
+        store.putInt(Key.NO_SONG, noSong ? 1 : 0);
     }
 
     /**
@@ -218,7 +466,7 @@ public class Settings implements DarkModeCallback {
      * @param support the new script support level
      */
     public void setScriptSupport(final ScriptSupport support) {
-        preferences.put(Key.APPLE_SCRIPT, support.name());
+        store.put(Key.APPLE_SCRIPT, support.name());
     }
 
     /**
@@ -228,7 +476,7 @@ public class Settings implements DarkModeCallback {
      * @param locale the new locale to be used
      */
     public void setLocale(final Locale locale) {
-        preferences.put(Key.LOCALE, locale.getName());
+        store.put(Key.LOCALE, locale.getName());
         if (this.locale != locale) {
             languageListeners.forEach(listener -> listener.languageChanged(locale));
         }
@@ -241,7 +489,7 @@ public class Settings implements DarkModeCallback {
      * @param path the new path
      */
     public void setSavePath(final String path) {
-        preferences.put(Key.PATH, path);
+        store.put(Key.PATH, path);
     }
 
     /**
@@ -251,7 +499,7 @@ public class Settings implements DarkModeCallback {
      * @return this instance
      */
     public Settings setURL(final String url) {
-        preferences.put(Key.URL, url);
+        store.put(Key.URL, url);
         return this;
     }
 
@@ -261,7 +509,7 @@ public class Settings implements DarkModeCallback {
      * @param delay the new delay
      */
     public void setDelay(final long delay) {
-        preferences.putLong(Key.DELAY, delay);
+        store.putLong(Key.DELAY, delay);
     }
 
     /**
@@ -276,7 +524,7 @@ public class Settings implements DarkModeCallback {
     public void setDarkMode(final DarkMode dark) {
         final var old = getDarkMode();
 
-        preferences.putInt(Key.DARK_MODE, dark.ordinal());
+        store.putInt(Key.DARK_MODE, dark.ordinal());
 
         if (old != dark) {
             final var actuallyDark = getRenderDarkMode();
@@ -294,7 +542,7 @@ public class Settings implements DarkModeCallback {
      * @return this instance
      */
     public Settings setWindowHeight(final int height) {
-        preferences.putInt(Key.WINDOW_HEIGHT, height);
+        store.putInt(Key.WINDOW_HEIGHT, height);
         return this;
     }
 
@@ -305,7 +553,7 @@ public class Settings implements DarkModeCallback {
      * @return this instance
      */
     public Settings setWindowWidth(final int width) {
-        preferences.putInt(Key.WINDOW_WIDTH, width);
+        store.putInt(Key.WINDOW_WIDTH, width);
         return this;
     }
 
@@ -316,7 +564,7 @@ public class Settings implements DarkModeCallback {
      * @return this instance
      */
     public Settings setWindowX(final int x) {
-        preferences.putInt(Key.WINDOW_X, x);
+        store.putInt(Key.WINDOW_X, x);
         return this;
     }
 
@@ -327,10 +575,20 @@ public class Settings implements DarkModeCallback {
      * @return this instance
      */
     public Settings setWindowY(final int y) {
-        preferences.putInt(Key.WINDOW_Y, y);
+        store.putInt(Key.WINDOW_Y, y);
         return this;
     }
 
+    /**
+     * Returns the node the state of the song recognition is persisted in.
+     * It is flushed and removed together with the settings.
+     *
+     * @return the node of the persisted state
+     */
+    public SettingsStore getStateStore() {
+        return store.node("state");
+    }
+
     /**
      * Flushes the settings. Returns whether that operation
      * was successful.
@@ -339,7 +597,7 @@ public class Settings implements DarkModeCallback {
      */
     public boolean flush() {
         try {
-            preferences.flush();
+            store.flush();
         } catch (Exception _) {
             return false;
         }
@@ -356,7 +614,7 @@ public class Settings implements DarkModeCallback {
      */
     public boolean remove() {
         try {
-            preferences.removeNode();
+            store.removeNode();
         } catch (Exception _) {
             return false;
         }
@@ -424,7 +682,7 @@ public class Settings implements DarkModeCallback {
      *
      * @return the one and only {@link Settings} instance
      */
-    public static Settings getInstance() {
+    public static synchronized Settings getInstance() {
         if (instance == null) {
             instance = new Settings();
         }
@@ -463,5 +721,21 @@ public class Settings implements DarkModeCallback {
         public static final String APPLE_SCRIPT  = BUNDLE_ID + ".scriptSupport";
         /** The key for the no song display.       */
         public static final String NO_SONG       = BUNDLE_ID + ".noSong";
+        /** The key for the maximum feed size.     */
+        public static final String MAX_BODY_SIZE = BUNDLE_ID + ".maxBodySize";
+        /** The key for the usage of the relay.    */
+        public static final String RELAY         = BUNDLE_ID + ".relay";
+        /** The key for the port of the song API.  */
+        public static final String API_PORT      = BUNDLE_ID + ".apiPort";
+        /** The key for the skipped entry types.   */
+        public static final String SKIP_TYPES    = BUNDLE_ID + ".skipTypes";
+        /** The key for the minimum song duration. */
+        public static final String MIN_DURATION  = BUNDLE_ID + ".minDuration";
+        /** The key for the skipped titles.        */
+        public static final String SKIP_TITLES   = BUNDLE_ID + ".skipTitles";
+        /** The key for the skipped artists.       */
+        public static final String SKIP_ARTISTS  = BUNDLE_ID + ".skipArtists";
+        /** The key for the radio text rules.      */
+        public static final String TEXT_RULES    = BUNDLE_ID + ".textRules";
     }
 }
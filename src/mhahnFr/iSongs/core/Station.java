@@ -0,0 +1,121 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core;
+
+import mhahnFr.iSongs.core.appleScript.ScriptSupport;
+import mhahnFr.iSongs.core.text.TextRules;
+import mhahnFr.iSongs.core.timeline.EntryClassifier;
+
+import java.util.List;
+
+/**
+ * This record represents the configuration of a loaded station.
+ *
+ * @param id          the identifier of the station
+ * @param urls        the URLs of the JSON feed of the station, the primary one first
+ * @param delay       the delay between fetching the song information in milliseconds
+ * @param support     the level of script support to be used
+ * @param allowNoSong whether to display no song recognized
+ * @param maxBodySize the maximum size of the body of the feed in bytes
+ * @param relay       whether to receive the songs from the local relay
+ * @param classifier  the classifier of the entries of the playlist
+ * @param textRules   the rules recognizing songs in the radio text
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public record Station(String          id,
+                      List<String>    urls,
+                      long            delay,
+                      ScriptSupport   support,
+                      boolean         allowNoSong,
+                      int             maxBodySize,
+                      boolean         relay,
+                      EntryClassifier classifier,
+                      TextRules       textRules) {
+    /** The identifier used if no URL is set.              */
+    public static final String DEFAULT_ID            = "default";
+    /** The default maximum size of the body of the feed.  */
+    public static final int    DEFAULT_MAX_BODY_SIZE = 4 << 20;
+
+    /**
+     * Constructs a station, copying the given URLs.
+     */
+    public Station {
+        urls = List.copyOf(urls);
+    }
+
+    /**
+     * Constructs a station classifying the entries of the playlist using
+     * the {@link EntryClassifier#DEFAULT default classifier} and recognizing
+     * songs in the radio text using the {@link TextRules#DEFAULT_RULES
+     * default rules}.
+     *
+     * @param id          the identifier of the station
+     * @param urls        the URLs of the JSON feed of the station, the primary one first
+     * @param delay       the delay between fetching the song information in milliseconds
+     * @param support     the level of script support to be used
+     * @param allowNoSong whether to display no song recognized
+     * @param maxBodySize the maximum size of the body of the feed in bytes
+     * @param relay       whether to receive the songs from the local relay
+     */
+    public Station(final String        id,
+                   final List<String>  urls,
+                   final long          delay,
+                   final ScriptSupport support,
+                   final boolean       allowNoSong,
+                   final int           maxBodySize,
+                   final boolean       relay) {
+        this(id, urls, delay, support, allowNoSong, maxBodySize, relay, EntryClassifier.DEFAULT,
+             new TextRules(TextRules.DEFAULT_RULES));
+    }
+
+    /**
+     * Returns the primary URL of the JSON feed of this station.
+     *
+     * @return the primary URL, empty if no URL is set
+     */
+    public String url() {
+        return urls.isEmpty() ? "" : urls.getFirst();
+    }
+
+    /**
+     * Creates the station configured in the {@link Settings}.
+     *
+     * @return the configured station
+     */
+    public static Station fromSettings() {
+        final var settings = Settings.getInstance();
+        final var urls     = settings.getURLs();
+        return new Station(urls.isEmpty() ? DEFAULT_ID : urls.getFirst(),
+                           urls,
+                           settings.getDelay(),
+                           settings.getScriptSupport(),
+                           settings.getNoSong(),
+                           settings.getMaxBodySize(),
+                           settings.getRelay(),
+                           new EntryClassifier(settings.getSkipTypes(),
+                                               settings.getMinDuration(),
+                                               settings.getSkipTitles(),
+                                               settings.getSkipArtists()),
+                           new TextRules(settings.getTextRules()));
+    }
+}
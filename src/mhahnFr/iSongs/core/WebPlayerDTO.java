@@ -1,7 +1,7 @@
 /*
  * iSongs-RadioText - Radio-text part of iSongs.
  *
- * Copyright (C) 2023  mhahnFr
+ * Copyright (C) 2023 - 2026  mhahnFr
  *
  * This file is part of the iSongs-RadioText. This program is free software:
  * you can redistribute it and/or modify it under the terms of the
@@ -19,6 +19,8 @@
 
 package mhahnFr.iSongs.core;
 
+import mhahnFr.iSongs.core.json.JsonBinding;
+
 import java.util.Map;
 
 /**
@@ -27,6 +29,7 @@ import java.util.Map;
  * @author mhahnFr
  * @since 15.03.23
  */
+@JsonBinding
 public class WebPlayerDTO {
     public static class AudioPlayerDTO {
         public static class SourceDTO {
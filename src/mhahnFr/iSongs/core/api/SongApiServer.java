@@ -0,0 +1,668 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.api;
+
+import mhahnFr.iSongs.core.Song;
+import mhahnFr.iSongs.core.json.JsonWriter;
+import mhahnFr.iSongs.core.metrics.PipelineMetrics;
+import mhahnFr.iSongs.core.timeline.PlayedSong;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class represents the embedded HTTP API serving the current song.
+ * All connections are handled by a single thread using a selector, so
+ * that thousands of idle subscribers only cost a socket and a few objects
+ * each. The following resources are served on the loopback interface:
+ * <ul>
+ *     <li>{@code GET /song}: the current song as JSON, supporting
+ *         conditional requests using its {@code ETag}</li>
+ *     <li>{@code GET /events}: the changes of the song as Server-Sent
+ *         Events, starting with the current song; songs missed during a
+ *         gap in the polling are sent as {@code backfill} events</li>
+ * </ul>
+ * The events are encoded once and shared by all subscribers; subscribers
+ * not reading them fast enough are disconnected. The entity tags and the
+ * event ids are prefixed by a random epoch of this instance, so clients
+ * of a previous instance are never answered with a stale match.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class SongApiServer implements SongApiServerMXBean, AutoCloseable {
+    /** The maximum size of a request head in bytes.                           */
+    private static final int MAX_REQUEST = 8192;
+    /** The maximum amount of unsent bytes per connection.                     */
+    private static final int MAX_PENDING = 64 * 1024;
+    /** The interval of the keep-alive comments in nanoseconds.                */
+    private static final long HEARTBEAT_NANOS = TimeUnit.SECONDS.toNanos(15);
+    /** The time after which an idle request connection is closed.             */
+    private static final long IDLE_NANOS = TimeUnit.SECONDS.toNanos(30);
+    /** The keep-alive comment sent to the subscribers.                        */
+    private static final ByteBuffer HEARTBEAT = ascii(": keep-alive\n\n");
+
+    /** The selector of the connections.                                      */
+    private final Selector selector;
+    /** The channel accepting the connections.                                 */
+    private final ServerSocketChannel server;
+    /** The thread running the event loop.                                     */
+    private final Thread thread;
+    /** The epoch prefixing the entity tags and the event ids of this API.    */
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    /** The name this API is registered with as MXBean.                        */
+    private final ObjectName name;
+    /** The subscribers of the event stream, only used by the event loop.      */
+    private final Set<Connection> subscribers = new HashSet<>();
+    /** The scratch buffer for the discarded input of the subscribers.         */
+    private final ByteBuffer discard = ByteBuffer.allocate(1024);
+    /** The latest published state, not yet taken over by the event loop.     */
+    private final AtomicReference<State> published = new AtomicReference<>();
+    /** The encoded backfilled songs, not yet sent by the event loop.          */
+    private final Queue<ByteBuffer> backfilled = new ConcurrentLinkedQueue<>();
+    /** The state served by the event loop.                                    */
+    private State state;
+    /** The version of the latest published song.                              */
+    private long version;
+    /** The amount of open connections.                                        */
+    private volatile int connections;
+    /** The amount of subscribers.                                             */
+    private volatile int subscriberCount;
+    /** The amount of handled requests.                                        */
+    private volatile long requests;
+    /** The amount of unmodified responses.                                    */
+    private volatile long notModified;
+    /** The amount of dropped subscribers.                                     */
+    private volatile long dropped;
+    /** Whether the event loop is running.                                     */
+    private volatile boolean running = true;
+
+    /**
+     * Constructs and starts the API on the given port of the loopback interface.
+     *
+     * @param port the port, {@code 0} for an ephemeral one
+     * @throws IOException if the port could not be bound
+     */
+    public SongApiServer(final int port) throws IOException {
+        selector = Selector.open();
+        server   = ServerSocketChannel.open();
+        try {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (final IOException e) {
+            server.close();
+            selector.close();
+            throw e;
+        }
+        state  = new State(epoch, 0, null, System.currentTimeMillis());
+        name   = register();
+        thread = Thread.ofPlatform().daemon().name("iSongs API").start(this::run);
+    }
+
+    /**
+     * Registers this API as MXBean.
+     *
+     * @return the object name, {@code null} if not registered
+     */
+    private ObjectName register() {
+        try {
+            final var objectName = new ObjectName(PipelineMetrics.DOMAIN + ":type=Api,port=" + getPort());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (final JMException _) {
+            return null;
+        }
+    }
+
+    /**
+     * Publishes the given song. The subscribers are notified by the event loop.
+     *
+     * @param song the current song, {@code null} if no song is played
+     */
+    public synchronized void publish(final Song song) {
+        published.set(new State(epoch, ++version, song, System.currentTimeMillis()));
+        selector.wakeup();
+    }
+
+    /**
+     * Publishes the given song missed during a gap in the polling. It is
+     * sent to the current subscribers only, as it does not change the
+     * current song.
+     *
+     * @param song the backfilled song
+     */
+    public void publishBackfill(final PlayedSong song) {
+        final var text = new JsonWriter().beginObject()
+                                         .name("started").value(song.startTime())
+                                         .name("song").beginObject()
+                                             .name("title").value(song.song().title())
+                                             .name("interpreter").value(song.song().interpreter())
+                                         .endObject()
+                                         .endObject()
+                                         .toString();
+        backfilled.add(ByteBuffer.wrap(("event: backfill\ndata: " + text + "\n\n").getBytes(StandardCharsets.UTF_8))
+                                 .asReadOnlyBuffer());
+        selector.wakeup();
+    }
+
+    /**
+     * Runs the event loop until this API is closed.
+     */
+    private void run() {
+        var nextHeartbeat = System.nanoTime() + HEARTBEAT_NANOS;
+        try {
+            while (running) {
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextHeartbeat - System.nanoTime())));
+                final var newState = published.getAndSet(null);
+                if (newState != null) {
+                    state = newState;
+                    broadcast(newState.event);
+                }
+                for (ByteBuffer event; (event = backfilled.poll()) != null; ) {
+                    broadcast(event);
+                }
+                final var now = System.nanoTime();
+                for (final var key : selector.selectedKeys()) {
+                    handle(key, now);
+                }
+                selector.selectedKeys().clear();
+                if (now - nextHeartbeat >= 0) {
+                    broadcast(HEARTBEAT);
+                    closeIdle(now);
+                    nextHeartbeat = now + HEARTBEAT_NANOS;
+                }
+            }
+        } catch (final IOException | ClosedSelectorException _) {
+            // The API stops.
+        } finally {
+            for (final var key : selector.keys()) {
+                closeQuietly(key);
+            }
+            try (selector; server) {
+                connections     = 0;
+                subscriberCount = 0;
+            } catch (final IOException _) {}
+        }
+    }
+
+    /**
+     * Handles the readiness of the given key.
+     *
+     * @param key the selected key
+     * @param now the current monotonic time
+     */
+    private void handle(final SelectionKey key, final long now) {
+        try {
+            if (!key.isValid()) return;
+
+            if (key.isAcceptable()) {
+                accept(now);
+                return;
+            }
+            final var connection = (Connection) key.attachment();
+            if (key.isWritable()) {
+                connection.flush();
+            }
+            if (key.isValid() && key.isReadable()) {
+                connection.read(now);
+            }
+        } catch (final IOException _) {
+            closeQuietly(key);
+        }
+    }
+
+    /**
+     * Accepts the pending connections.
+     *
+     * @param now the current monotonic time
+     * @throws IOException if a connection could not be registered
+     */
+    private void accept(final long now) throws IOException {
+        for (SocketChannel channel; (channel = server.accept()) != null; ) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            final var key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(channel, key, now));
+            ++connections;
+        }
+    }
+
+    /**
+     * Sends the given event to all subscribers.
+     *
+     * @param event the encoded event
+     */
+    private void broadcast(final ByteBuffer event) {
+        for (final var subscriber : subscribers.toArray(Connection[]::new)) {
+            try {
+                subscriber.send(event.duplicate());
+            } catch (final IOException _) {
+                closeQuietly(subscriber.key);
+            }
+        }
+    }
+
+    /**
+     * Closes the request connections idle since longer than {@link #IDLE_NANOS}.
+     *
+     * @param now the current monotonic time
+     */
+    private void closeIdle(final long now) {
+        for (final var key : selector.keys()) {
+            if (key.attachment() instanceof Connection connection
+                    && !connection.subscriber && now - connection.lastActive > IDLE_NANOS) {
+                closeQuietly(key);
+            }
+        }
+    }
+
+    /**
+     * Closes the connection of the given key, ignoring errors.
+     *
+     * @param key the key of the connection
+     */
+    private void closeQuietly(final SelectionKey key) {
+        key.cancel();
+        if (key.attachment() instanceof Connection connection) {
+            if (subscribers.remove(connection)) {
+                subscriberCount = subscribers.size();
+            }
+            --connections;
+        }
+        try {
+            key.channel().close();
+        } catch (final IOException _) {}
+        key.attach(null);
+    }
+
+    @Override
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    @Override
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    @Override
+    public int getConnections() {
+        return connections;
+    }
+
+    @Override
+    public int getSubscribers() {
+        return subscriberCount;
+    }
+
+    @Override
+    public long getRequests() {
+        return requests;
+    }
+
+    @Override
+    public long getNotModified() {
+        return notModified;
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (final InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+        if (name != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            } catch (final JMException _) {}
+        }
+    }
+
+    /**
+     * Encodes the given ASCII text.
+     *
+     * @param text the text
+     * @return a read-only buffer containing the text
+     */
+    private static ByteBuffer ascii(final String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.ISO_8859_1)).asReadOnlyBuffer();
+    }
+
+    /**
+     * This class represents a published song together with its encodings.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private static final class State {
+        /** The identifier of the song, with the epoch.    */
+        final String id;
+        /** The entity tag of the song.                    */
+        final String etag;
+        /** The song encoded as JSON.                      */
+        final byte[] json;
+        /** The song encoded as event.                     */
+        final ByteBuffer event;
+
+        /**
+         * Constructs a state.
+         *
+         * @param epoch   the epoch of the API
+         * @param version the version of the song
+         * @param song    the song, may be {@code null}
+         * @param changed the time of the change in milliseconds since the epoch
+         */
+        State(final String epoch, final long version, final Song song, final long changed) {
+            final var writer = new JsonWriter().beginObject()
+                                               .name("version").value(version)
+                                               .name("changed").value(changed)
+                                               .name("song");
+            if (song == null) {
+                writer.nullValue();
+            } else {
+                writer.beginObject()
+                      .name("title").value(song.title())
+                      .name("interpreter").value(song.interpreter())
+                      .endObject();
+            }
+            final var text = writer.endObject().toString();
+
+            this.id    = epoch + "-" + version;
+            this.etag  = "\"" + id + "\"";
+            this.json  = text.getBytes(StandardCharsets.UTF_8);
+            this.event = ByteBuffer.wrap(("id: " + id + "\nevent: song\ndata: " + text + "\n\n")
+                                                 .getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * This class represents a connection to a client.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private final class Connection {
+        /** The channel of this connection.                                */
+        private final SocketChannel channel;
+        /** The key of this connection.                                    */
+        private final SelectionKey key;
+        /** The buffers waiting to be sent.                                */
+        private final ArrayDeque<ByteBuffer> output = new ArrayDeque<>();
+        /** The buffer of the request head, {@code null} for subscribers.  */
+        private ByteBuffer request = ByteBuffer.allocate(512);
+        /** The amount of bytes waiting to be sent.                        */
+        private int pending;
+        /** Whether this connection subscribed to the events.              */
+        private boolean subscriber;
+        /** Whether to close this connection once everything was sent.     */
+        private boolean closeAfterWrite;
+        /** The monotonic time of the last request.                        */
+        private long lastActive;
+
+        /**
+         * Constructs a connection.
+         *
+         * @param channel    the channel of the connection
+         * @param key        the key of the connection
+         * @param lastActive the current monotonic time
+         */
+        Connection(final SocketChannel channel, final SelectionKey key, final long lastActive) {
+            this.channel    = channel;
+            this.key        = key;
+            this.lastActive = lastActive;
+        }
+
+        /**
+         * Reads from this connection and handles the complete requests.
+         *
+         * @param now the current monotonic time
+         * @throws IOException if the connection failed or was closed
+         */
+        void read(final long now) throws IOException {
+            if (subscriber) {
+                discard.clear();
+                if (channel.read(discard) < 0) {
+                    throw new IOException("Subscriber has disconnected");
+                }
+                return;
+            }
+            if (!request.hasRemaining()) {
+                if (request.capacity() >= MAX_REQUEST) {
+                    respond(431, "Request Header Fields Too Large", Map.of(), null, false, true);
+                    return;
+                }
+                request = ByteBuffer.allocate(request.capacity() * 2).put(request.flip());
+            }
+            if (channel.read(request) < 0) {
+                throw new IOException("Client has disconnected");
+            }
+            lastActive = now;
+            for (int end; !subscriber && !closeAfterWrite && (end = headEnd()) != -1; ) {
+                final var head = new String(request.array(), 0, end, StandardCharsets.ISO_8859_1);
+                request.flip().position(end + 4);
+                request.compact();
+                handleRequest(head);
+            }
+        }
+
+        /**
+         * Searches the end of the request head in the buffered input.
+         *
+         * @return the index of the empty line ending the head, {@code -1} if incomplete
+         */
+        private int headEnd() {
+            final var bytes = request.array();
+            for (int i = 3; i < request.position(); ++i) {
+                if (bytes[i] == '\n' && bytes[i - 1] == '\r' && bytes[i - 2] == '\n' && bytes[i - 3] == '\r') {
+                    return i - 3;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Handles the request with the given head.
+         *
+         * @param head the request head
+         * @throws IOException if the response could not be sent
+         */
+        private void handleRequest(final String head) throws IOException {
+            ++requests;
+            final var lines = head.split("\r\n");
+            final var parts = lines[0].split(" ");
+            if (parts.length != 3) {
+                respond(400, "Bad Request", Map.of(), null, false, true);
+                return;
+            }
+            final var headers = new HashMap<String, String>();
+            for (int i = 1; i < lines.length; ++i) {
+                final var index = lines[i].indexOf(':');
+                if (index > 0) {
+                    headers.put(lines[i].substring(0, index).strip().toLowerCase(), lines[i].substring(index + 1).strip());
+                }
+            }
+            final var close = parts[2].equals("HTTP/1.0") || "close".equalsIgnoreCase(headers.get("connection"));
+            final var headOnly = parts[0].equals("HEAD");
+            if (!headOnly && !parts[0].equals("GET")) {
+                respond(405, "Method Not Allowed", Map.of("Allow", "GET, HEAD"), null, false, close);
+                return;
+            }
+            final var query = parts[1].indexOf('?');
+            final var path  = query == -1 ? parts[1] : parts[1].substring(0, query);
+            final var state = SongApiServer.this.state;
+            switch (path) {
+                case "/song" -> {
+                    final var etag = headers.get("if-none-match");
+                    if (etag != null && (etag.equals("*") || etag.contains(state.etag))) {
+                        ++notModified;
+                        respond(304, "Not Modified", Map.of("ETag", state.etag), null, false, close);
+                    } else {
+                        respond(200, "OK", Map.of("ETag", state.etag, "Content-Type", "application/json; charset=utf-8"),
+                                state.json, headOnly, close);
+                    }
+                }
+                case "/events" -> subscribe(headers.get("last-event-id"), state, headOnly);
+                default        -> respond(404, "Not Found", Map.of(), null, false, close);
+            }
+        }
+
+        /**
+         * Turns this connection into a subscriber of the events. The current
+         * song is sent first, unless the client has already received it.
+         *
+         * @param lastEventId the identifier of the last received event, may be {@code null}
+         * @param state       the current state
+         * @param headOnly    whether only the head was requested
+         * @throws IOException if the response could not be sent
+         */
+        private void subscribe(final String lastEventId, final State state, final boolean headOnly) throws IOException {
+            final var response = "HTTP/1.1 200 OK\r\n"
+                               + "Content-Type: text/event-stream\r\n"
+                               + "Cache-Control: no-cache\r\n"
+                               + "Access-Control-Allow-Origin: *\r\n\r\n";
+            send(ascii(response));
+            if (headOnly) {
+                closeAfterWrite = true;
+                flush();
+                return;
+            }
+            subscriber = true;
+            request    = null;
+            subscribers.add(this);
+            subscriberCount = subscribers.size();
+            if (!state.id.equals(lastEventId)) {
+                send(state.event.duplicate());
+            }
+        }
+
+        /**
+         * Sends a response.
+         *
+         * @param status   the status code
+         * @param reason   the reason phrase
+         * @param headers  the additional headers
+         * @param body     the body, {@code null} for none
+         * @param headOnly whether to send the head only
+         * @param close    whether to close the connection afterwards
+         * @throws IOException if the response could not be sent
+         */
+        private void respond(final int                 status,
+                             final String              reason,
+                             final Map<String, String> headers,
+                             final byte[]              body,
+                             final boolean             headOnly,
+                             final boolean             close) throws IOException {
+            final var builder = new StringBuilder(160).append("HTTP/1.1 ").append(status).append(' ').append(reason).append("\r\n");
+            headers.forEach((header, value) -> builder.append(header).append(": ").append(value).append("\r\n"));
+            builder.append("Cache-Control: no-cache\r\n")
+                   .append("Access-Control-Allow-Origin: *\r\n");
+            if (status != 304) {
+                builder.append("Content-Length: ").append(body == null ? 0 : body.length).append("\r\n");
+            }
+            if (close) {
+                builder.append("Connection: close\r\n");
+            }
+            send(ascii(builder.append("\r\n").toString()));
+            if (body != null && !headOnly) {
+                send(ByteBuffer.wrap(body));
+            }
+            if (close) {
+                closeAfterWrite = true;
+                flush();
+            }
+        }
+
+        /**
+         * Sends the given buffer, queueing what could not be written immediately.
+         *
+         * @param buffer the buffer to be sent
+         * @throws IOException if the connection failed or too much is pending
+         */
+        void send(final ByteBuffer buffer) throws IOException {
+            if (output.isEmpty()) {
+                channel.write(buffer);
+                if (!buffer.hasRemaining()) return;
+            }
+            pending += buffer.remaining();
+            if (pending > MAX_PENDING) {
+                if (subscriber) {
+                    ++dropped;
+                }
+                throw new IOException("Client does not read");
+            }
+            output.add(buffer);
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+
+        /**
+         * Sends the queued buffers. Closes this connection once everything
+         * has been sent if requested.
+         *
+         * @throws IOException if the connection failed
+         */
+        void flush() throws IOException {
+            while (!output.isEmpty()) {
+                final var buffer = output.peek();
+                pending -= buffer.remaining();
+                channel.write(buffer);
+                pending += buffer.remaining();
+                if (buffer.hasRemaining()) return;
+                output.poll();
+            }
+            key.interestOps(SelectionKey.OP_READ);
+            if (closeAfterWrite) {
+                closeQuietly(key);
+            }
+        }
+    }
+}
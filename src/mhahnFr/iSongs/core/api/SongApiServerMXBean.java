@@ -0,0 +1,81 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.api;
+
+/**
+ * This interface defines the management interface of the song API.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public interface SongApiServerMXBean {
+    /**
+     * Returns the port the API is listening on.
+     *
+     * @return the port
+     */
+    int getPort();
+
+    /**
+     * Returns the version of the current song, incremented on each change.
+     *
+     * @return the current version
+     */
+    long getVersion();
+
+    /**
+     * Returns the amount of open connections, including the subscribers.
+     *
+     * @return the amount of connections
+     */
+    int getConnections();
+
+    /**
+     * Returns the amount of subscribers of the event stream.
+     *
+     * @return the amount of subscribers
+     */
+    int getSubscribers();
+
+    /**
+     * Returns the amount of handled requests.
+     *
+     * @return the amount of requests
+     */
+    long getRequests();
+
+    /**
+     * Returns the amount of conditional requests answered with
+     * {@code 304 Not Modified}.
+     *
+     * @return the amount of unmodified responses
+     */
+    long getNotModified();
+
+    /**
+     * Returns the amount of subscribers disconnected for not
+     * reading the events fast enough.
+     *
+     * @return the amount of dropped subscribers
+     */
+    long getDropped();
+}
@@ -1,7 +1,7 @@
 /*
  * iSongs-RadioText - Radio-text part of iSongs.
  *
- * Copyright (C) 2024  mhahnFr
+ * Copyright (C) 2024 - 2026  mhahnFr
  *
  * This file is part of the iSongs-RadioText.
  *
@@ -22,25 +22,40 @@
 package mhahnFr.iSongs.core.appleScript;
 
 import mhahnFr.iSongs.core.Song;
+import mhahnFr.iSongs.core.text.TextRules;
 import mhahnFr.utils.Pair;
 
 /**
  * This class acts as a song recognizer based on its {@link Script}.
+ * The song is recognized in the radio text using the {@link TextRules}.
  *
  * @author mhahnFr
  * @since 28.03.24
  */
 public class InfoLoaderAppleScript {
-    /** The script to load the radio text with. */
+    /** The script to load the radio text with.          */
     private final Script script;
+    /** The rules recognizing the song in the radio text. */
+    private volatile TextRules rules;
 
     /**
      * Constructs an AppleScript based loader.
      *
      * @param script the {@link Script} to be used for the loading
+     * @param rules  the rules recognizing the song in the radio text
      */
-    public InfoLoaderAppleScript(final Script script) {
+    public InfoLoaderAppleScript(final Script script, final TextRules rules) {
         this.script = script;
+        this.rules  = rules;
+    }
+
+    /**
+     * Sets the rules recognizing the song in the radio text.
+     *
+     * @param rules the rules
+     */
+    public void setRules(final TextRules rules) {
+        this.rules = rules;
     }
 
     /**
@@ -50,18 +65,22 @@ public class InfoLoaderAppleScript {
      * @throws ExecutionException when the script could not be executed
      */
     public Pair<String, Song> getScriptResult() throws ExecutionException {
-        final String text;
-        text = script.execute().strip();
+        return parseResult(script.execute(), rules);
+    }
+
+    /**
+     * Splits the given result of the script into the recognized song
+     * and radio text.
+     *
+     * @param result the result of the script
+     * @param rules  the rules recognizing the song in the radio text
+     * @return the song and radio text
+     */
+    static Pair<String, Song> parseResult(final String result, final TextRules rules) {
+        final var text = result.strip();
         if (text.equals("missing value")) {
             return new Pair<>(null, null);
         }
-        final Song song;
-        final var index = text.indexOf(" / ");
-        if (index != -1) {
-            song = new Song(text.substring(0, index).strip(), text.substring(index + 3).strip());
-        } else {
-            song = null;
-        }
-        return new Pair<>(text, song);
+        return new Pair<>(text, rules.match(text));
     }
 }
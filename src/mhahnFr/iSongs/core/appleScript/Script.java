@@ -1,7 +1,7 @@
 /*
  * iSongs-RadioText - Radio-text part of iSongs.
  *
- * Copyright (C) 2024  mhahnFr
+ * Copyright (C) 2024 - 2026  mhahnFr
  *
  * This file is part of the iSongs-RadioText.
  *
@@ -21,6 +21,8 @@
 
 package mhahnFr.iSongs.core.appleScript;
 
+import mhahnFr.iSongs.core.jfr.ScriptExecutionEvent;
+
 import java.io.*;
 
 /**
@@ -61,8 +63,11 @@ public class Script {
      * @throws ExecutionException when the executed program returned an error
      */
     protected static String execute(final String[] args) throws ExecutionException {
+        final var event = new ScriptExecutionEvent();
+        event.begin();
+        Process p = null;
         try {
-            final var p = Runtime.getRuntime().exec(args);
+            p = Runtime.getRuntime().exec(args);
             try (final var in  = p.getInputStream();
                  final var err = p.getErrorStream()) {
                 final var allIn  = in.readAllBytes();
@@ -75,6 +80,30 @@ public class Script {
             }
         } catch (final IOException _) {
             return null;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.pid      = p == null ? -1 : p.pid();
+                event.exitCode = exitCodeOf(p);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Waits for the given process to exit and returns its exit code.
+     *
+     * @param p the process, may be {@code null}
+     * @return the exit code or {@code -1} if not available
+     */
+    private static int exitCodeOf(final Process p) {
+        if (p == null) return -1;
+
+        try {
+            return p.waitFor();
+        } catch (final InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return -1;
         }
     }
 
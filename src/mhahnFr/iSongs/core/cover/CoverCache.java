@@ -0,0 +1,309 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.cover;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * This class loads the cover art of the songs. The images are downloaded,
+ * decoded and scaled down in the background. The scaled images are kept in
+ * memory, evicting the least recently used ones once their pixels exceed
+ * the memory budget; the downloaded files are kept in a {@link DiskCache},
+ * so they survive restarts. Concurrent requests of the same image share a
+ * single load.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class CoverCache {
+    /** The system property naming the folder of the cached files.   */
+    public static final String DIRECTORY_PROPERTY = "iSongs.coverCache";
+    /** The default memory budget of the scaled images in bytes.     */
+    public static final long DEFAULT_MEMORY_SIZE = 16L << 20;
+    /** The default maximum size of the cached files in bytes.       */
+    public static final long DEFAULT_DISK_SIZE = 64L << 20;
+    /** The maximum size of a downloaded image in bytes.             */
+    private static final int MAX_DOWNLOAD_SIZE = 4 << 20;
+    /** The maximum width and height of a decoded image in pixels.   */
+    private static final int MAX_DIMENSION = 16_384;
+    /** The timeout of connecting and reading in milliseconds.       */
+    private static final int TIMEOUT = 10_000;
+    /** The logger of the failed loads.                              */
+    private static final System.Logger logger = System.getLogger(CoverCache.class.getName());
+
+    /** The cache of the downloaded files.                           */
+    private final DiskCache disk;
+    /** The memory budget of the scaled images in bytes.             */
+    private final long memorySize;
+    /** The maximum width and height of the scaled images in pixels. */
+    private final int edge;
+    /** The executor loading the images.                             */
+    private final Executor executor;
+    /** The scaled images, in the order of their last use.           */
+    private final LinkedHashMap<String, BufferedImage> memory = new LinkedHashMap<>(16, 0.75f, true);
+    /** The loads in progress, mapped by their URL.                  */
+    private final Map<String, CompletableFuture<BufferedImage>> loading = new ConcurrentHashMap<>();
+    /** The bytes of the pixels of the images kept in memory.        */
+    private long memoryUsed;
+
+    /**
+     * Constructs this cache.
+     *
+     * @param directory  the folder of the cached files
+     * @param memorySize the memory budget of the scaled images in bytes
+     * @param diskSize   the maximum size of the cached files in bytes
+     * @param edge       the maximum width and height of the scaled images in pixels
+     * @param executor   the executor loading the images
+     */
+    public CoverCache(final Path     directory,
+                      final long     memorySize,
+                      final long     diskSize,
+                      final int      edge,
+                      final Executor executor) {
+        this.disk       = new DiskCache(directory, diskSize);
+        this.memorySize = memorySize;
+        this.edge       = edge;
+        this.executor   = executor;
+    }
+
+    /**
+     * Constructs a cache using the default sizes, keeping the files in the
+     * folder named by the system property {@value #DIRECTORY_PROPERTY} or
+     * in the temporary folder. The images are loaded by two background
+     * threads.
+     *
+     * @param edge the maximum width and height of the scaled images in pixels
+     * @return the cache
+     */
+    public static CoverCache createDefault(final int edge) {
+        final var directory = System.getProperty(DIRECTORY_PROPERTY);
+        return new CoverCache(directory == null ? Path.of(System.getProperty("java.io.tmpdir"), "iSongs-covers")
+                                                : Path.of(directory),
+                              DEFAULT_MEMORY_SIZE,
+                              DEFAULT_DISK_SIZE,
+                              edge,
+                              Executors.newFixedThreadPool(2, Thread.ofPlatform().name("iSongs-cover-", 0)
+                                                                                   .daemon()
+                                                                                   .factory()));
+    }
+
+    /**
+     * Returns the image of the given URL if it is kept in memory.
+     *
+     * @param url the URL of the image
+     * @return the scaled image or {@code null} if not in memory
+     */
+    public synchronized BufferedImage getIfPresent(final String url) {
+        return memory.get(url);
+    }
+
+    /**
+     * Returns the image of the given URL, loading it in the background if
+     * it is not kept in memory.
+     *
+     * @param url the URL of the image
+     * @return the future completed with the scaled image
+     */
+    public CompletableFuture<BufferedImage> get(final String url) {
+        final var cached = getIfPresent(url);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        final var future   = new CompletableFuture<BufferedImage>();
+        final var existing = loading.putIfAbsent(url, future);
+        if (existing != null) {
+            return existing;
+        }
+        executor.execute(() -> {
+            try {
+                future.complete(load(url));
+            } catch (final Exception e) {
+                logger.log(System.Logger.Level.DEBUG, "Could not load the cover " + url, e);
+                future.completeExceptionally(e);
+            } finally {
+                loading.remove(url, future);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Loads the image of the given URL in the background, so it is ready
+     * when needed.
+     *
+     * @param url the URL of the image
+     */
+    public void prefetch(final String url) {
+        get(url);
+    }
+
+    /**
+     * Loads the image of the given URL from the disk or downloads it.
+     *
+     * @param url the URL of the image
+     * @return the scaled image
+     * @throws IOException if the image could not be loaded
+     */
+    private BufferedImage load(final String url) throws IOException {
+        final var stored = disk.read(url);
+        if (stored != null) {
+            final var image = decode(stored);
+            if (image != null) {
+                return remember(url, image);
+            }
+            disk.remove(url);
+        }
+        final var data  = download(url);
+        final var image = decode(data);
+        if (image == null) {
+            throw new IOException("Unsupported image format: " + url);
+        }
+        disk.write(url, data);
+        return remember(url, image);
+    }
+
+    /**
+     * Downloads the given URL.
+     *
+     * @param url the URL
+     * @return the downloaded data
+     * @throws IOException if the download failed
+     */
+    private static byte[] download(final String url) throws IOException {
+        final HttpURLConnection connection;
+        try {
+            connection = (HttpURLConnection) new URI(url).toURL().openConnection();
+        } catch (final URISyntaxException | IllegalArgumentException | ClassCastException e) {
+            throw new IOException("Invalid cover URL: " + url, e);
+        }
+        connection.setConnectTimeout(TIMEOUT);
+        connection.setReadTimeout(TIMEOUT);
+        connection.setRequestProperty("Accept", "image/*");
+        try (final var in = connection.getInputStream()) {
+            final var data = in.readNBytes(MAX_DOWNLOAD_SIZE + 1);
+            if (data.length > MAX_DOWNLOAD_SIZE) {
+                throw new IOException("Cover exceeds " + MAX_DOWNLOAD_SIZE + " bytes: " + url);
+            }
+            return data;
+        }
+    }
+
+    /**
+     * Decodes the given image and scales it down to fit the maximum edge.
+     * Large images are subsampled while decoding to about twice the maximum
+     * edge, so their full resolution is never held in memory; images
+     * exceeding {@link #MAX_DIMENSION} are rejected. The image is halved
+     * repeatedly before the final step, keeping the quality of the bilinear
+     * interpolation.
+     *
+     * @param data the encoded image
+     * @return the scaled image or {@code null} if the format is not supported
+     * @throws IOException if the image could not be decoded or is too large
+     */
+    private BufferedImage decode(final byte[] data) throws IOException {
+        BufferedImage image;
+        try (final var input = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            final var readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) return null;
+
+            final var reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                final var sourceWidth  = reader.getWidth(0);
+                final var sourceHeight = reader.getHeight(0);
+                if (sourceWidth > MAX_DIMENSION || sourceHeight > MAX_DIMENSION) {
+                    throw new IOException("Cover exceeds " + MAX_DIMENSION + " pixels: " + sourceWidth + "x" + sourceHeight);
+                }
+                final var subsampling = Math.max(1, Math.max(sourceWidth, sourceHeight) / (2 * edge));
+                final var parameters  = reader.getDefaultReadParam();
+                parameters.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                image = reader.read(0, parameters);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        final var scale  = Math.min(1.0, (double) edge / Math.max(image.getWidth(), image.getHeight()));
+        final var width  = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        final var height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        do {
+            final var stepWidth  = Math.max(width,  image.getWidth()  / 2);
+            final var stepHeight = Math.max(height, image.getHeight() / 2);
+            final var step       = new BufferedImage(stepWidth, stepHeight, BufferedImage.TYPE_INT_ARGB);
+            final var graphics   = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(image, 0, 0, stepWidth, stepHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            image = step;
+        } while (image.getWidth() > width || image.getHeight() > height);
+        return image;
+    }
+
+    /**
+     * Keeps the given image in memory, evicting the least recently used
+     * images exceeding the memory budget.
+     *
+     * @param url   the URL of the image
+     * @param image the scaled image
+     * @return the given image
+     */
+    private synchronized BufferedImage remember(final String url, final BufferedImage image) {
+        final var previous = memory.put(url, image);
+        if (previous != null) {
+            memoryUsed -= bytes(previous);
+        }
+        memoryUsed += bytes(image);
+        final var iterator = memory.values().iterator();
+        while (memoryUsed > memorySize && memory.size() > 1) {
+            memoryUsed -= bytes(iterator.next());
+            iterator.remove();
+        }
+        return image;
+    }
+
+    /**
+     * Returns the bytes of the pixels of the given image.
+     *
+     * @param image the image
+     * @return the bytes of its pixels
+     */
+    private static long bytes(final BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * Integer.BYTES;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.cover;
+
+/**
+ * This record contains the URLs of the cover art of the current song and of
+ * the song scheduled next.
+ *
+ * @param current the URL of the cover of the current song, {@code null} if unknown
+ * @param next    the URL of the cover of the next song, {@code null} if unknown
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public record Covers(String current, String next) {
+    /** The covers if none are known. */
+    public static final Covers NONE = new Covers(null, null);
+}
@@ -0,0 +1,155 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.cover;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+
+/**
+ * This class represents a size-bounded cache of downloaded files in a
+ * folder. The files are named by the SHA-256 hash of their URL; reading
+ * a file renews its modification time, so the least recently used files
+ * are removed first once the cache exceeds its size.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class DiskCache {
+    /** The folder containing the cached files.      */
+    private final Path directory;
+    /** The maximum total size of the files in bytes. */
+    private final long maxSize;
+
+    /**
+     * Constructs this cache. The folder is created with the first write.
+     *
+     * @param directory the folder containing the cached files
+     * @param maxSize   the maximum total size of the files in bytes
+     */
+    DiskCache(final Path directory, final long maxSize) {
+        this.directory = directory;
+        this.maxSize   = maxSize;
+    }
+
+    /**
+     * Returns the file caching the given URL.
+     *
+     * @param url the URL
+     * @return the file
+     */
+    private Path file(final String url) {
+        try {
+            final var hash = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(hash));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required to be supported", e);
+        }
+    }
+
+    /**
+     * Reads the cached data of the given URL.
+     *
+     * @param url the URL
+     * @return the cached data or {@code null} if not cached
+     * @throws IOException if the data could not be read
+     */
+    byte[] read(final String url) throws IOException {
+        final var file = file(url);
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return Files.readAllBytes(file);
+        } catch (final NoSuchFileException _) {
+            return null;
+        }
+    }
+
+    /**
+     * Caches the given data of the given URL. The least recently used
+     * files are removed afterward if the cache exceeds its size.
+     *
+     * @param url  the URL
+     * @param data the data to be cached
+     * @throws IOException if the data could not be written
+     */
+    void write(final String url, final byte[] data) throws IOException {
+        Files.createDirectories(directory);
+        final var temp = Files.createTempFile(directory, null, ".tmp");
+        try {
+            Files.write(temp, data);
+            Files.move(temp, file(url), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        trim();
+    }
+
+    /**
+     * Removes the cached data of the given URL.
+     *
+     * @param url the URL
+     * @throws IOException if the data could not be removed
+     */
+    void remove(final String url) throws IOException {
+        Files.deleteIfExists(file(url));
+    }
+
+    /**
+     * Removes the least recently used files until the cache fits its size.
+     *
+     * @throws IOException if the folder could not be read
+     */
+    private void trim() throws IOException {
+        record Entry(Path file, long size, long time) {}
+
+        final var entries = new ArrayList<Entry>();
+        var total = 0L;
+        try (final var files = Files.newDirectoryStream(directory, file -> !file.toString().endsWith(".tmp"))) {
+            for (final var file : files) {
+                try {
+                    final var size = Files.size(file);
+                    entries.add(new Entry(file, size, Files.getLastModifiedTime(file).toMillis()));
+                    total += size;
+                } catch (final NoSuchFileException _) {
+                    // Removed concurrently.
+                }
+            }
+        }
+        if (total <= maxSize) return;
+
+        entries.sort(Comparator.comparingLong(Entry::time));
+        for (final var entry : entries) {
+            if (total <= maxSize) break;
+            Files.deleteIfExists(entry.file());
+            total -= entry.size();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.error;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class aggregates the errors happening while recognizing songs.
+ * The errors are grouped by their source and their cause and counted
+ * in a sliding window. The groups are logged at a limited rate. As the
+ * causes may contain varying details, such as URLs or sizes, the amount
+ * of groups is limited; the least recently seen group is evicted first.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class ErrorAggregator {
+    /** The length of the sliding window in seconds.                            */
+    public static final int WINDOW_SECONDS = 60;
+    /** The maximum amount of error groups kept.                                */
+    public static final int MAX_GROUPS = 64;
+    /** The minimal time in milliseconds between two log entries of a group.    */
+    private static final long LOG_INTERVAL = 30_000;
+    /** The logger used for the rate-limited log.                               */
+    private static final System.Logger logger = System.getLogger(ErrorAggregator.class.getName());
+
+    /** The groups of errors, mapped by source and cause, in access order.      */
+    private final Map<Key, Group> groups = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Group> eldest) {
+            return size() > MAX_GROUPS;
+        }
+    };
+    /** The callback called when an error has been reported.                    */
+    private final Runnable changeListener;
+
+    /**
+     * Constructs this error aggregator.
+     *
+     * @param changeListener the callback called when an error has been reported
+     */
+    public ErrorAggregator(final Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Reports the given error. The change listener is called afterwards.
+     *
+     * @param source the source of the error
+     * @param error  the error to be reported
+     */
+    public void report(final ErrorSource source, final Exception error) {
+        final var now   = System.currentTimeMillis();
+        final var cause = describe(error);
+
+        final int suppressed;
+        synchronized (groups) {
+            final var group = groups.computeIfAbsent(new Key(source, cause), _ -> new Group(now));
+            group.add(now);
+            suppressed = group.log(now);
+        }
+        if (suppressed >= 0) {
+            logger.log(System.Logger.Level.WARNING,
+                       source.name() + ": " + cause + (suppressed > 0 ? " (" + suppressed + " more suppressed)" : ""),
+                       error);
+        }
+        changeListener.run();
+    }
+
+    /**
+     * Returns a snapshot of the aggregated errors. The most recent
+     * group comes first.
+     *
+     * @return the summaries of the error groups
+     */
+    public List<ErrorSummary> getSummaries() {
+        final var now    = System.currentTimeMillis();
+        final var result = new ArrayList<ErrorSummary>();
+        synchronized (groups) {
+            groups.forEach((key, group) -> result.add(new ErrorSummary(key.source(),
+                                                                       key.cause(),
+                                                                       group.recent(now),
+                                                                       group.total,
+                                                                       group.firstSeen,
+                                                                       group.lastSeen)));
+        }
+        result.sort(Comparator.comparingLong(ErrorSummary::lastSeen).reversed());
+        return result;
+    }
+
+    /**
+     * Returns the amount of errors that happened within the sliding window.
+     *
+     * @return the amount of recent errors
+     */
+    public int getRecentCount() {
+        final var now = System.currentTimeMillis();
+        int count = 0;
+        synchronized (groups) {
+            for (final var group : groups.values()) {
+                count += group.recent(now);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns whether any errors have been aggregated.
+     *
+     * @return whether errors are present
+     */
+    public boolean hasErrors() {
+        synchronized (groups) { return !groups.isEmpty(); }
+    }
+
+    /**
+     * Removes all aggregated errors. The change listener is called afterwards.
+     */
+    public void clear() {
+        synchronized (groups) { groups.clear(); }
+        changeListener.run();
+    }
+
+    /**
+     * Creates the description of the cause of the given error.
+     *
+     * @param error the error to be described
+     * @return the description of the cause
+     */
+    private static String describe(final Exception error) {
+        final var message = error.getLocalizedMessage();
+        final var name    = error.getClass().getSimpleName();
+        return message == null || message.isBlank() ? name : name + ": " + message.strip();
+    }
+
+    /**
+     * This record represents the key of an error group.
+     *
+     * @param source the source of the errors
+     * @param cause  the description of the cause
+     */
+    private record Key(ErrorSource source, String cause) {}
+
+    /**
+     * This class represents a group of errors sharing their source and cause.
+     * The errors are counted in buckets of one second each.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private static final class Group {
+        /** The amount of errors per bucket.                            */
+        private final int[] counts = new int[WINDOW_SECONDS];
+        /** The second each bucket has been counting for.               */
+        private final long[] seconds = new long[WINDOW_SECONDS];
+        /** The time the first error of this group happened.            */
+        private final long firstSeen;
+        /** The time the last error of this group happened.             */
+        private long lastSeen;
+        /** The total amount of errors of this group.                   */
+        private long total;
+        /** The time this group has been logged the last time.          */
+        private long lastLogged = Long.MIN_VALUE;
+        /** The amount of errors not logged since the last log entry.   */
+        private int suppressed;
+
+        /**
+         * Constructs this group.
+         *
+         * @param firstSeen the time the first error happened
+         */
+        Group(final long firstSeen) {
+            this.firstSeen = firstSeen;
+        }
+
+        /**
+         * Counts an error that happened at the given time.
+         *
+         * @param now the current time in milliseconds
+         */
+        void add(final long now) {
+            final var second = now / 1000;
+            final var index  = (int) (second % WINDOW_SECONDS);
+            if (seconds[index] != second) {
+                seconds[index] = second;
+                counts[index]  = 0;
+            }
+            ++counts[index];
+            ++total;
+            lastSeen = now;
+        }
+
+        /**
+         * Returns the amount of errors within the sliding window.
+         *
+         * @param now the current time in milliseconds
+         * @return the amount of recent errors
+         */
+        int recent(final long now) {
+            final var second = now / 1000;
+            int sum = 0;
+            for (int i = 0; i < WINDOW_SECONDS; ++i) {
+                if (second - seconds[i] < WINDOW_SECONDS) {
+                    sum += counts[i];
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * Decides whether the latest error should be logged. If so, the amount
+         * of errors suppressed since the last log entry is returned, otherwise
+         * {@code -1}.
+         *
+         * @param now the current time in milliseconds
+         * @return the amount of suppressed errors or {@code -1}
+         */
+        int log(final long now) {
+            if (lastLogged != Long.MIN_VALUE && now - lastLogged < LOG_INTERVAL) {
+                ++suppressed;
+                return -1;
+            }
+            final var result = suppressed;
+            lastLogged = now;
+            suppressed = 0;
+            return result;
+        }
+    }
+}
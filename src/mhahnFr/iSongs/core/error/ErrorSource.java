@@ -0,0 +1,56 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.error;
+
+import mhahnFr.iSongs.core.Settings;
+import mhahnFr.iSongs.core.locale.StringID;
+
+/**
+ * This enumeration contains the possible sources of errors.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public enum ErrorSource {
+    /** Indicates the URL of the JSON feed.               */
+    URL,
+    /** Indicates the fetching and parsing of the feed.   */
+    FEED,
+    /** Indicates the AppleScript based recognition.      */
+    SCRIPT,
+    /** Indicates the saving of songs.                    */
+    SAVE,
+    /** Indicates the song API.                           */
+    API;
+
+    @Override
+    public String toString() {
+        final var locale = Settings.getInstance().getLocale();
+        return switch (this) {
+            case URL    -> locale.get(StringID.ERROR_SOURCE_URL);
+            case FEED   -> locale.get(StringID.ERROR_SOURCE_FEED);
+            case SCRIPT -> locale.get(StringID.ERROR_SOURCE_SCRIPT);
+            case SAVE   -> locale.get(StringID.ERROR_SOURCE_SAVE);
+            case API    -> locale.get(StringID.ERROR_SOURCE_API);
+        };
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.error;
+
+/**
+ * This record represents a snapshot of a group of aggregated errors.
+ *
+ * @param source    the source of the errors
+ * @param cause     the description of the cause shared by the errors
+ * @param recent    the amount of errors within the sliding window
+ * @param total     the amount of errors since the group was created
+ * @param firstSeen the time in milliseconds the first error happened
+ * @param lastSeen  the time in milliseconds the last error happened
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public record ErrorSummary(ErrorSource source,
+                           String      cause,
+                           int         recent,
+                           long        total,
+                           long        firstSeen,
+                           long        lastSeen) {
+}
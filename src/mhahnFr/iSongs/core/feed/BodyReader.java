@@ -0,0 +1,318 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.ZipException;
+
+/**
+ * This class reads the body of a response into a pooled buffer. Compressed
+ * bodies are inflated while they are received, directly into the body
+ * buffer, so the compressed body is never held as a whole.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+final class BodyReader {
+    /** The magic number of the gzip format.              */
+    private static final int GZIP_MAGIC = 0x8b1f;
+    /** The flag indicating a gzip header checksum.       */
+    private static final int FHCRC      = 2;
+    /** The flag indicating extra gzip header fields.     */
+    private static final int FEXTRA     = 4;
+    /** The flag indicating a file name in the header.    */
+    private static final int FNAME      = 8;
+    /** The flag indicating a comment in the header.      */
+    private static final int FCOMMENT   = 16;
+
+    /** The pool providing the buffers.                   */
+    private final BufferPool pool;
+    /** The maximum size of the body in bytes.            */
+    private final int maxBodySize;
+    /** The stream the body is read from.                 */
+    private final InputStream in;
+    /** The body buffer.                                  */
+    private byte[] body;
+    /** The length of the body.                           */
+    private int length;
+    /** The buffer of the received compressed bytes.      */
+    private byte[] input;
+    /** The position of the next unconsumed input byte.   */
+    private int position;
+    /** The end of the received input bytes.              */
+    private int limit;
+    /** The amount of bytes received.                     */
+    private long wire;
+
+    /**
+     * Constructs a body reader.
+     *
+     * @param in          the stream the body is read from
+     * @param pool        the pool providing the buffers
+     * @param maxBodySize the maximum size of the body in bytes
+     * @param capacity    the expected capacity of the body
+     */
+    BodyReader(final InputStream in, final BufferPool pool, final int maxBodySize, final int capacity) {
+        this.in          = in;
+        this.pool        = pool;
+        this.maxBodySize = maxBodySize;
+        this.body        = pool.acquire(capacity);
+    }
+
+    /**
+     * Returns the buffer containing the body.
+     *
+     * @return the body buffer
+     */
+    byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Returns the length of the body.
+     *
+     * @return the body length
+     */
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the amount of bytes received.
+     *
+     * @return the transferred bytes
+     */
+    long getWire() {
+        return wire;
+    }
+
+    /**
+     * Releases the buffers of this reader, including the body buffer.
+     */
+    void releaseAll() {
+        releaseInput();
+        pool.release(body);
+    }
+
+    /**
+     * Releases the input buffer.
+     */
+    private void releaseInput() {
+        if (input != null) {
+            pool.release(input);
+            input = null;
+        }
+    }
+
+    /**
+     * Makes room for more body bytes, growing the body buffer if necessary.
+     *
+     * @throws FeedTooLargeException if the body exceeds the maximum size
+     */
+    private void ensureRoom() throws FeedTooLargeException {
+        if (length > maxBodySize) {
+            throw new FeedTooLargeException(maxBodySize);
+        }
+        if (length == body.length) {
+            body = pool.grow(body, length, (int) Math.min(length * 2L, maxBodySize + 1L));
+        }
+    }
+
+    /**
+     * Reads the uncompressed body.
+     *
+     * @throws IOException if the body could not be read or exceeds the maximum size
+     */
+    void readPlain() throws IOException {
+        for (int read; (read = in.read(body, length, body.length - length)) != -1; ) {
+            length += read;
+            wire   += read;
+            ensureRoom();
+        }
+    }
+
+    /**
+     * Reads a body compressed using the gzip format.
+     *
+     * @param inflaters the pool providing the inflater
+     * @throws IOException if the body could not be read, is corrupt or exceeds the maximum size
+     */
+    void readGzip(final InflaterPool inflaters) throws IOException {
+        input = pool.acquire(BufferPool.MIN_SIZE);
+        if (readShort() != GZIP_MAGIC || readByte() != 8) {
+            throw new ZipException("Not in gzip format");
+        }
+        final var flags = readByte();
+        skip(6);
+        if ((flags & FEXTRA) != 0) skip(readShort());
+        if ((flags & FNAME) != 0) while (readByte() != 0);
+        if ((flags & FCOMMENT) != 0) while (readByte() != 0);
+        if ((flags & FHCRC) != 0) skip(2);
+
+        final var crc = new CRC32();
+        inflate(inflaters, true, crc);
+        if (readInt() != (int) crc.getValue() || readInt() != length) {
+            throw new ZipException("Corrupt gzip trailer");
+        }
+        drain();
+    }
+
+    /**
+     * Reads a body compressed using the deflate format. Both zlib wrapped
+     * and raw deflate streams are accepted, as servers send either.
+     *
+     * @param inflaters the pool providing the inflater
+     * @throws IOException if the body could not be read, is corrupt or exceeds the maximum size
+     */
+    void readDeflate(final InflaterPool inflaters) throws IOException {
+        input = pool.acquire(BufferPool.MIN_SIZE);
+        while (limit - position < 2) {
+            if (!fill()) throw new EOFException("Truncated deflate stream");
+        }
+        final var header = (input[position] & 0xFF) << 8 | input[position + 1] & 0xFF;
+        final var zlib   = (header & 0x0F00) == 0x0800 && header % 31 == 0;
+        inflate(inflaters, !zlib, null);
+        drain();
+    }
+
+    /**
+     * Inflates the deflate stream at the current input position into the body.
+     *
+     * @param inflaters the pool providing the inflater
+     * @param nowrap    whether the stream is a raw deflate stream
+     * @param crc       the checksum updated with the inflated bytes, may be {@code null}
+     * @throws IOException if the stream could not be read, is corrupt or exceeds the maximum size
+     */
+    private void inflate(final InflaterPool inflaters, final boolean nowrap, final CRC32 crc) throws IOException {
+        final var inflater = inflaters.acquire(nowrap);
+        try {
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    if (position == limit && !fill()) {
+                        throw new EOFException("Truncated compressed body");
+                    }
+                    inflater.setInput(input, position, limit - position);
+                    position = limit;
+                } else if (inflater.needsDictionary()) {
+                    throw new ZipException("Preset dictionaries are not supported");
+                }
+                ensureRoom();
+                final var inflated = inflater.inflate(body, length, body.length - length);
+                if (crc != null) {
+                    crc.update(body, length, inflated);
+                }
+                length += inflated;
+            }
+            position = limit - inflater.getRemaining();
+            if (length > maxBodySize) {
+                throw new FeedTooLargeException(maxBodySize);
+            }
+        } catch (final DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        } finally {
+            inflaters.release(inflater, nowrap);
+        }
+    }
+
+    /**
+     * Reads the remaining bytes of the stream, so the connection can be
+     * reused, and releases the input buffer.
+     *
+     * @throws IOException if the stream could not be read
+     */
+    private void drain() throws IOException {
+        while (fill()) {
+            position = limit;
+        }
+        releaseInput();
+    }
+
+    /**
+     * Receives more input bytes, discarding the consumed ones.
+     *
+     * @return whether bytes were received
+     * @throws IOException if the stream could not be read
+     */
+    private boolean fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(input, position, input, 0, limit - position);
+            limit   -= position;
+            position = 0;
+        }
+        final var read = in.read(input, limit, input.length - limit);
+        if (read == -1) {
+            return false;
+        }
+        limit += read;
+        wire  += read;
+        return true;
+    }
+
+    /**
+     * Reads an unsigned byte of the input.
+     *
+     * @return the read byte
+     * @throws IOException if the stream ends or could not be read
+     */
+    private int readByte() throws IOException {
+        while (position == limit) {
+            if (!fill()) throw new EOFException("Truncated gzip stream");
+        }
+        return input[position++] & 0xFF;
+    }
+
+    /**
+     * Reads an unsigned little-endian short of the input.
+     *
+     * @return the read short
+     * @throws IOException if the stream ends or could not be read
+     */
+    private int readShort() throws IOException {
+        return readByte() | readByte() << 8;
+    }
+
+    /**
+     * Reads a little-endian int of the input.
+     *
+     * @return the read int
+     * @throws IOException if the stream ends or could not be read
+     */
+    private int readInt() throws IOException {
+        return readShort() | readShort() << 16;
+    }
+
+    /**
+     * Skips the given amount of input bytes.
+     *
+     * @param count the amount of bytes to be skipped
+     * @throws IOException if the stream ends or could not be read
+     */
+    private void skip(final int count) throws IOException {
+        for (var i = 0; i < count; ++i) {
+            readByte();
+        }
+    }
+}
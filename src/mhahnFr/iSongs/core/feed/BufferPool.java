@@ -0,0 +1,226 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class manages reusable buffers for the bodies of the feeds.
+ * <p>
+ * The buffers are grouped into size classes of powers of two, starting
+ * at {@link #MIN_SIZE}. Released buffers are kept in stripes selected by
+ * the releasing thread, so the threads polling the stations rarely
+ * contend. The total size of the kept buffers is bounded; buffers
+ * exceeding the bound or the largest size class are left to the garbage
+ * collector.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class BufferPool {
+    /** The size of the smallest size class.                        */
+    public static final int MIN_SIZE = 4096;
+    /** The amount of size classes.                                 */
+    private static final int CLASSES = 12;
+    /** The amount of buffers kept per size class and stripe.       */
+    private static final int SLOTS   = 4;
+
+    /** The shared instance.                                        */
+    private static final BufferPool instance = new BufferPool(Runtime.getRuntime().availableProcessors(), 32 << 20);
+
+    /** The kept buffers, indexed by stripe, size class and slot.  */
+    private final AtomicReferenceArray<byte[]> slots;
+    /** The mask selecting the stripe of a thread.                  */
+    private final int stripeMask;
+    /** The maximum total size of the kept buffers in bytes.       */
+    private final long maxRetained;
+    /** The total size of the kept buffers in bytes.                */
+    private final AtomicLong retained = new AtomicLong();
+    /** The amount of buffers taken from the pool.                  */
+    private final LongAdder hits     = new LongAdder();
+    /** The amount of buffers allocated newly.                      */
+    private final LongAdder misses   = new LongAdder();
+    /** The amount of released buffers that were not kept.         */
+    private final LongAdder dropped  = new LongAdder();
+
+    /**
+     * Constructs a buffer pool.
+     *
+     * @param stripes     the amount of stripes, rounded up to a power of two
+     * @param maxRetained the maximum total size of the kept buffers in bytes
+     */
+    public BufferPool(final int stripes, final long maxRetained) {
+        final var count = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripeMask  = count - 1;
+        this.maxRetained = maxRetained;
+        this.slots       = new AtomicReferenceArray<>(count * CLASSES * SLOTS);
+    }
+
+    /**
+     * Returns the shared instance.
+     *
+     * @return the shared buffer pool
+     */
+    public static BufferPool getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the size class fitting the given capacity.
+     *
+     * @param capacity the requested capacity
+     * @return the index of the size class, {@link #CLASSES} if the capacity exceeds all classes
+     */
+    private static int classOf(final int capacity) {
+        if (capacity <= MIN_SIZE) {
+            return 0;
+        }
+        return Math.min(CLASSES, 32 - Integer.numberOfLeadingZeros((capacity - 1) / MIN_SIZE));
+    }
+
+    /**
+     * Returns the index of the first slot of the given size class for the current thread.
+     *
+     * @param sizeClass the size class
+     * @return the index of the first slot
+     */
+    private int firstSlot(final int sizeClass) {
+        final var stripe = (int) Thread.currentThread().threadId() & stripeMask;
+        return (stripe * CLASSES + sizeClass) * SLOTS;
+    }
+
+    /**
+     * Returns a buffer of at least the given capacity. The content of the
+     * returned buffer is undefined.
+     *
+     * @param capacity the minimum capacity
+     * @return the buffer
+     */
+    public byte[] acquire(final int capacity) {
+        final var sizeClass = classOf(capacity);
+        if (sizeClass == CLASSES) {
+            misses.increment();
+            return new byte[capacity];
+        }
+        final var first = firstSlot(sizeClass);
+        for (var i = first; i < first + SLOTS; ++i) {
+            final var buffer = slots.getAndSet(i, null);
+            if (buffer != null) {
+                retained.addAndGet(-buffer.length);
+                hits.increment();
+                return buffer;
+            }
+        }
+        misses.increment();
+        return new byte[MIN_SIZE << sizeClass];
+    }
+
+    /**
+     * Returns a buffer of at least the given capacity containing the first
+     * bytes of the given buffer. The given buffer is released.
+     *
+     * @param buffer   the buffer to be grown
+     * @param length   the amount of bytes to be kept
+     * @param capacity the minimum capacity
+     * @return the grown buffer
+     */
+    public byte[] grow(final byte[] buffer, final int length, final int capacity) {
+        final var result = acquire(capacity);
+        System.arraycopy(buffer, 0, result, 0, length);
+        release(buffer);
+        return result;
+    }
+
+    /**
+     * Releases the given buffer to this pool. The buffer must not be used
+     * after it has been released, and it must not be released twice.
+     *
+     * @param buffer the buffer to be released
+     */
+    public void release(final byte[] buffer) {
+        final var sizeClass = classOf(buffer.length);
+        if (sizeClass == CLASSES || buffer.length != MIN_SIZE << sizeClass) {
+            dropped.increment();
+            return;
+        }
+        if (retained.addAndGet(buffer.length) <= maxRetained) {
+            final var first = firstSlot(sizeClass);
+            for (var i = first; i < first + SLOTS; ++i) {
+                if (slots.compareAndSet(i, null, buffer)) {
+                    return;
+                }
+            }
+        }
+        retained.addAndGet(-buffer.length);
+        dropped.increment();
+    }
+
+    /**
+     * Returns the total size of the kept buffers in bytes.
+     *
+     * @return the retained bytes
+     */
+    public long getRetained() {
+        return retained.get();
+    }
+
+    /**
+     * Returns the amount of buffers that were taken from this pool.
+     *
+     * @return the amount of reused buffers
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the amount of buffers that had to be allocated.
+     *
+     * @return the amount of allocated buffers
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the amount of released buffers that were not kept.
+     *
+     * @return the amount of dropped buffers
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Discards all kept buffers.
+     */
+    public void clear() {
+        for (var i = 0; i < slots.length(); ++i) {
+            final var buffer = slots.getAndSet(i, null);
+            if (buffer != null) {
+                retained.addAndGet(-buffer.length);
+            }
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * This class contains the compact rolling archive of recorded feed responses.
+ * An archive is a folder containing numbered segment files. A new segment is
+ * started once the current one exceeds its maximal size, the oldest segments
+ * are deleted once the maximal amount of segments is exceeded.
+ * <p>
+ * The bodies are stored deflated. A body equal to the previous one of the
+ * same segment is stored as a reference only.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public abstract class FeedArchive {
+    /** The magic number at the beginning of each segment.          */
+    private static final int MAGIC = 0x69536E67;
+    /** The version of the segment format.                          */
+    private static final short VERSION = 1;
+    /** The prefix of the segment file names.                       */
+    private static final String PREFIX = "feed-";
+    /** The suffix of the segment file names.                       */
+    private static final String SUFFIX = ".rec";
+    /** Indicates a body equal to the previous one.                 */
+    private static final byte BODY_SAME = 0;
+    /** Indicates a deflated body.                                  */
+    private static final byte BODY_DEFLATED = 1;
+    /** The default maximal size of a segment in bytes.             */
+    public static final long DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+    /** The default maximal amount of kept segments.                */
+    public static final int DEFAULT_SEGMENTS = 8;
+
+    /**
+     * Returns a folder name usable for the archive of the given station.
+     *
+     * @param stationId the identifier of the station
+     * @return the name of the folder
+     */
+    public static String folderName(final String stationId) {
+        final var name = stationId.replaceAll("[^A-Za-z0-9._-]", "_");
+        return (name.length() > 64 ? name.substring(0, 64) : name) + "-" + Integer.toHexString(stationId.hashCode());
+    }
+
+    /**
+     * Opens a writer appending to the archive in the given folder using
+     * the default limits.
+     *
+     * @param folder the folder of the archive
+     * @return the writer
+     * @throws IOException if the archive could not be opened
+     */
+    public static Writer writer(final Path folder) throws IOException {
+        return new Writer(folder, DEFAULT_SEGMENT_SIZE, DEFAULT_SEGMENTS);
+    }
+
+    /**
+     * Opens a reader reading the archive in the given folder from the
+     * oldest to the newest response.
+     *
+     * @param folder the folder of the archive
+     * @return the reader
+     * @throws IOException if the archive could not be opened
+     */
+    public static Reader reader(final Path folder) throws IOException {
+        return new Reader(segments(folder));
+    }
+
+    /**
+     * Returns the segments of the archive in the given folder, oldest first.
+     *
+     * @param folder the folder of the archive
+     * @return the segment files
+     * @throws IOException if the folder could not be listed
+     */
+    private static List<Path> segments(final Path folder) throws IOException {
+        if (!Files.isDirectory(folder)) {
+            return new ArrayList<>();
+        }
+        try (final Stream<Path> files = Files.list(folder)) {
+            return files.filter(file -> {
+                            final var name = file.getFileName().toString();
+                            return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                        })
+                        .sorted(Comparator.comparingLong(FeedArchive::sequenceOf))
+                        .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+        }
+    }
+
+    /**
+     * Returns the sequence number of the given segment file.
+     *
+     * @param segment the segment file
+     * @return the sequence number or {@code -1} if the name is invalid
+     */
+    private static long sequenceOf(final Path segment) {
+        final var name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (final NumberFormatException _) {
+            return -1;
+        }
+    }
+
+    /**
+     * This class represents a writer appending responses to an archive.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    public static class Writer implements Closeable {
+        /** The folder of the archive.                          */
+        private final Path folder;
+        /** The maximal size of a segment in bytes.             */
+        private final long segmentSize;
+        /** The maximal amount of kept segments.                */
+        private final int maxSegments;
+        /** The segments of the archive, oldest first.          */
+        private final Deque<Path> segments;
+        /** The compressor of the bodies.                       */
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        /** The buffer for the compressed bodies.               */
+        private byte[] buffer = new byte[8192];
+        /** The stream of the current segment.                  */
+        private DataOutputStream out;
+        /** The body of the previous response of the segment.   */
+        private byte[] previous;
+        /** The sequence number of the current segment.         */
+        private long sequence;
+        /** Whether this writer has been closed.                */
+        private boolean closed;
+
+        /**
+         * Constructs this writer. A new segment is started.
+         *
+         * @param folder      the folder of the archive
+         * @param segmentSize the maximal size of a segment in bytes
+         * @param maxSegments the maximal amount of kept segments
+         * @throws IOException if the archive could not be opened
+         */
+        public Writer(final Path folder, final long segmentSize, final int maxSegments) throws IOException {
+            this.folder      = folder;
+            this.segmentSize = segmentSize;
+            this.maxSegments = Math.max(1, maxSegments);
+
+            Files.createDirectories(folder);
+            segments = new ArrayDeque<>(segments(folder));
+            sequence = segments.isEmpty() ? 0 : sequenceOf(segments.getLast()) + 1;
+            roll();
+        }
+
+        /**
+         * Starts a new segment and deletes the oldest segments exceeding the limit.
+         *
+         * @throws IOException if the new segment could not be created
+         */
+        private void roll() throws IOException {
+            if (out != null) {
+                out.close();
+            }
+            final var segment = folder.resolve(String.format("%s%08d%s", PREFIX, sequence++, SUFFIX));
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(segment)));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            previous = null;
+
+            segments.addLast(segment);
+            while (segments.size() > maxSegments) {
+                Files.deleteIfExists(segments.removeFirst());
+            }
+        }
+
+        /**
+         * Appends the given response to the archive.
+         *
+         * @param response the response to be appended
+         * @throws IOException if the response could not be written
+         */
+        public synchronized void append(final FeedResponse response) throws IOException {
+            if (closed) throw new IOException("Archive closed");
+
+            if (out.size() >= segmentSize) {
+                roll();
+            }
+            out.writeLong(response.time());
+            out.writeLong(response.latency());
+            out.writeLong(response.connectTime());
+            out.writeShort(response.status());
+
+            final var headers = new ArrayList<String>();
+            response.headers().forEach((name, values) -> {
+                if (name == null) return;
+                for (final var value : values) {
+                    headers.add(name);
+                    headers.add(value);
+                }
+            });
+            out.writeShort(headers.size() / 2);
+            for (final var header : headers) {
+                out.writeUTF(header);
+            }
+
+            final var body       = response.body();
+            final var bodyLength = response.length();
+            if (previous != null && Arrays.equals(body, 0, bodyLength, previous, 0, previous.length)) {
+                out.writeByte(BODY_SAME);
+            } else {
+                out.writeByte(BODY_DEFLATED);
+                out.writeInt(bodyLength);
+                final var length = deflate(body, bodyLength);
+                out.writeInt(length);
+                out.write(buffer, 0, length);
+                previous = response.bytes();
+            }
+            out.flush();
+        }
+
+        /**
+         * Compresses the given body into the buffer.
+         *
+         * @param body   the buffer containing the body to be compressed
+         * @param length the length of the body
+         * @return the length of the compressed body
+         */
+        private int deflate(final byte[] body, final int length) {
+            deflater.reset();
+            deflater.setInput(body, 0, length);
+            deflater.finish();
+            int written = 0;
+            while (!deflater.finished()) {
+                if (written == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                written += deflater.deflate(buffer, written, buffer.length - written);
+            }
+            return written;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (closed) return;
+
+            closed = true;
+            deflater.end();
+            out.close();
+        }
+    }
+
+    /**
+     * This class represents a reader reading the responses of an archive.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    public static class Reader implements Closeable {
+        /** The segments not yet read, oldest first.            */
+        private final Deque<Path> segments;
+        /** The decompressor of the bodies.                     */
+        private final Inflater inflater = new Inflater();
+        /** The stream of the current segment.                  */
+        private DataInputStream in;
+        /** The body of the previous response of the segment.   */
+        private byte[] previous;
+
+        /**
+         * Constructs this reader.
+         *
+         * @param segments the segments to be read, oldest first
+         */
+        private Reader(final List<Path> segments) {
+            this.segments = new ArrayDeque<>(segments);
+        }
+
+        /**
+         * Reads the next response of the archive.
+         *
+         * @return the next response or {@code null} if the end of the archive is reached
+         * @throws IOException if the archive is invalid
+         */
+        public FeedResponse next() throws IOException {
+            while (true) {
+                if (in == null) {
+                    if (segments.isEmpty()) {
+                        return null;
+                    }
+                    in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segments.removeFirst())));
+                    if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                        throw new IOException("Invalid feed archive segment");
+                    }
+                    previous = null;
+                }
+                try {
+                    return readResponse();
+                } catch (final EOFException _) {
+                    in.close();
+                    in = null;
+                }
+            }
+        }
+
+        /**
+         * Reads a single response from the current segment.
+         *
+         * @return the read response
+         * @throws IOException if the segment is invalid or at its end
+         */
+        private FeedResponse readResponse() throws IOException {
+            final var time        = in.readLong();
+            final var latency     = in.readLong();
+            final var connectTime = in.readLong();
+            final var status      = in.readShort();
+
+            final var headers = new LinkedHashMap<String, List<String>>();
+            final var count   = in.readUnsignedShort();
+            for (int i = 0; i < count; ++i) {
+                headers.computeIfAbsent(in.readUTF(), _ -> new ArrayList<>()).add(in.readUTF());
+            }
+
+            final byte[] body;
+            switch (in.readByte()) {
+                case BODY_SAME -> {
+                    if (previous == null) throw new IOException("Invalid body reference");
+                    body = previous;
+                }
+                case BODY_DEFLATED -> {
+                    body = new byte[in.readInt()];
+                    final var compressed = new byte[in.readInt()];
+                    in.readFully(compressed);
+                    inflate(compressed, body);
+                }
+                default -> throw new IOException("Invalid body kind");
+            }
+            previous = body;
+            return new FeedResponse(body, status, headers, time, latency, connectTime);
+        }
+
+        /**
+         * Decompresses the given bytes into the given body.
+         *
+         * @param compressed the compressed bytes
+         * @param body       the array to decompress into
+         * @throws IOException if the compressed bytes are invalid
+         */
+        private void inflate(final byte[] compressed, final byte[] body) throws IOException {
+            inflater.reset();
+            inflater.setInput(compressed);
+            try {
+                int length = 0;
+                while (length < body.length && !inflater.finished()) {
+                    final var read = inflater.inflate(body, length, body.length - length);
+                    if (read == 0 && inflater.needsInput()) {
+                        throw new IOException("Truncated body");
+                    }
+                    length += read;
+                }
+            } catch (final DataFormatException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.end();
+            if (in != null) {
+                in.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This record represents a response of a feed. The body may be a buffer
+ * of a {@link BufferPool} that is larger than the body; in this case, the
+ * response is to be {@link #release() released} once the body has been
+ * consumed.
+ *
+ * @param body         the buffer containing the raw bytes of the body
+ * @param length       the length of the body
+ * @param status       the HTTP status code, {@code -1} if not available
+ * @param headers      the response headers
+ * @param time         the time the response has been received in milliseconds since the epoch
+ * @param latency      the time in nanoseconds needed for fetching the response
+ * @param connectTime  the time in nanoseconds needed for connecting
+ * @param pool         the pool the body buffer belongs to, {@code null} if not pooled
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public record FeedResponse(byte[]                    body,
+                           int                       length,
+                           int                       status,
+                           Map<String, List<String>> headers,
+                           long                      time,
+                           long                      latency,
+                           long                      connectTime,
+                           BufferPool                pool) {
+    /** The status of a response to a conditional request whose feed has not changed. */
+    public static final int NOT_MODIFIED = 304;
+
+    /**
+     * Constructs a response whose body is not pooled.
+     *
+     * @param body        the raw bytes of the body
+     * @param status      the HTTP status code, {@code -1} if not available
+     * @param headers     the response headers
+     * @param time        the time the response has been received in milliseconds since the epoch
+     * @param latency     the time in nanoseconds needed for fetching the response
+     * @param connectTime the time in nanoseconds needed for connecting
+     */
+    public FeedResponse(final byte[]                    body,
+                        final int                       status,
+                        final Map<String, List<String>> headers,
+                        final long                      time,
+                        final long                      latency,
+                        final long                      connectTime) {
+        this(body, body.length, status, headers, time, latency, connectTime, null);
+    }
+
+    /**
+     * Returns the body as an array of its exact length that stays valid
+     * after this response has been released.
+     *
+     * @return the bytes of the body
+     */
+    public byte[] bytes() {
+        return pool == null && length == body.length ? body : Arrays.copyOf(body, length);
+    }
+
+    /**
+     * Returns whether this response indicates that the feed has not changed
+     * since the response the validators of the request were taken from.
+     *
+     * @return whether the feed has not been modified
+     */
+    public boolean isNotModified() {
+        return status == NOT_MODIFIED;
+    }
+
+    /**
+     * Returns the body buffer to its pool. Afterwards, the body must
+     * no longer be used.
+     */
+    public void release() {
+        if (pool != null) {
+            pool.release(body);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import mhahnFr.iSongs.core.Station;
+import mhahnFr.iSongs.core.metrics.PipelineMetrics;
+import mhahnFr.iSongs.core.schedule.Clock;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This interface defines a source of the JSON feed of a station.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public interface FeedSource extends AutoCloseable {
+    /** The system property naming the folder feeds are recorded into. */
+    String RECORD_PROPERTY = "iSongs.recordFeeds";
+
+    /**
+     * Fetches the current response of the feed.
+     *
+     * @return the fetched response
+     * @throws java.net.MalformedURLException if the URL of the feed is invalid
+     * @throws IOException if the feed could not be fetched
+     */
+    FeedResponse fetch() throws IOException;
+
+    /**
+     * Returns the validators of the last complete response of this source.
+     * Sources not supporting conditional requests return {@link Validators#NONE}.
+     *
+     * @return the current validators
+     */
+    default Validators getValidators() {
+        return Validators.NONE;
+    }
+
+    /**
+     * Sets the validators sent along with the next request, such as the
+     * ones persisted before a restart. Ignored by sources not supporting
+     * conditional requests.
+     *
+     * @param validators the validators
+     */
+    default void setValidators(final Validators validators) {}
+
+    @Override
+    default void close() throws IOException {}
+
+    /**
+     * Creates the source of the given station. If the station has several
+     * URLs, a {@link MirrorFeedSource} over them is created. If the system property
+     * {@link #RECORD_PROPERTY} names a folder, the responses are recorded
+     * into a {@link FeedArchive} in a subfolder named after the station.
+     *
+     * @param station the station
+     * @return the source of the feed of the station
+     */
+    static FeedSource of(final Station station) {
+        final var transfer = PipelineMetrics.getInstance().station(station.id()).getTransfer();
+        final var urls     = station.urls().isEmpty() ? List.of(station.url()) : station.urls();
+        final var sources  = new ArrayList<HttpFeedSource>(urls.size());
+        for (final var url : urls) {
+            sources.add(new HttpFeedSource(url,
+                                           station.maxBodySize(),
+                                           HttpFeedSource.timeoutFor(station.delay()),
+                                           BufferPool.getInstance(),
+                                           InflaterPool.getInstance(),
+                                           transfer));
+        }
+        final FeedSource source = sources.size() > 1 ? new MirrorFeedSource(sources, urls, Clock.SYSTEM)
+                                                     : sources.getFirst();
+        final var folder = System.getProperty(RECORD_PROPERTY);
+        if (folder == null || folder.isBlank()) {
+            return source;
+        }
+        try {
+            return new RecordingFeedSource(source, FeedArchive.writer(Path.of(folder, FeedArchive.folderName(station.id()))));
+        } catch (final IOException _) {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import mhahnFr.iSongs.core.metrics.TransferMetrics;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+/**
+ * This class represents a feed source fetching the feed using HTTP.
+ * The body is read into a buffer of the {@link BufferPool}; bodies
+ * exceeding the maximum size are rejected while reading. Compressed
+ * transfer using gzip or deflate is requested; compressed bodies are
+ * inflated while being received using an {@link InflaterPool}.
+ * The requests are conditional using the validators of the last complete
+ * response, so an unchanged feed is answered without a body. Connecting
+ * and reading time out, so a stalled server cannot block the polling.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class HttpFeedSource implements FeedSource {
+    /** The accepted content encodings.                 */
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+    /** The body of responses without a body.           */
+    private static final byte[] EMPTY = new byte[0];
+    /** The minimal timeout in milliseconds.            */
+    private static final int MIN_TIMEOUT = 5_000;
+    /** The maximal timeout in milliseconds.            */
+    private static final int MAX_TIMEOUT = 30_000;
+
+    /** The URL of the feed as given.                   */
+    private final String location;
+    /** The maximum size of a body in bytes.            */
+    private final int maxBodySize;
+    /** The connect and read timeout in milliseconds.   */
+    private final int timeout;
+    /** The pool providing the body buffers.            */
+    private final BufferPool pool;
+    /** The pool providing the inflaters.               */
+    private final InflaterPool inflaters;
+    /** The metrics the transfers are recorded in.      */
+    private final TransferMetrics metrics;
+    /** The parsed URL of the feed.                     */
+    private URL url;
+    /** The validators of the last complete response.   */
+    private volatile Validators validators = Validators.NONE;
+
+    /**
+     * Constructs this feed source. The given URL is parsed lazily.
+     *
+     * @param location    the URL of the feed
+     * @param maxBodySize the maximum size of a body in bytes
+     * @param timeout     the connect and read timeout in milliseconds
+     * @param pool        the pool providing the body buffers
+     * @param inflaters   the pool providing the inflaters
+     * @param metrics     the metrics the transfers are recorded in
+     */
+    public HttpFeedSource(final String          location,
+                          final int             maxBodySize,
+                          final int             timeout,
+                          final BufferPool      pool,
+                          final InflaterPool    inflaters,
+                          final TransferMetrics metrics) {
+        this.location    = location;
+        this.maxBodySize = maxBodySize;
+        this.timeout     = timeout;
+        this.pool        = pool;
+        this.inflaters   = inflaters;
+        this.metrics     = metrics;
+    }
+
+    /**
+     * Returns the timeout of the requests of a feed polled with the given
+     * delay: twice the delay, but at least five and at most thirty seconds.
+     *
+     * @param delay the delay between the requests in milliseconds
+     * @return the connect and read timeout in milliseconds
+     */
+    public static int timeoutFor(final long delay) {
+        return Math.clamp(delay * 2, MIN_TIMEOUT, MAX_TIMEOUT);
+    }
+
+    /**
+     * Returns the parsed URL of the feed.
+     *
+     * @return the URL
+     * @throws MalformedURLException if the URL is invalid
+     */
+    private URL getURL() throws MalformedURLException {
+        if (url == null) {
+            try {
+                url = new URI(location).toURL();
+            } catch (final URISyntaxException | IllegalArgumentException e) {
+                throw (MalformedURLException) new MalformedURLException(e.getMessage()).initCause(e);
+            }
+        }
+        return url;
+    }
+
+    @Override
+    public FeedResponse fetch() throws IOException {
+        final var start      = System.nanoTime();
+        final var connection = getURL().openConnection();
+        connection.setConnectTimeout(timeout);
+        connection.setReadTimeout(timeout);
+        connection.setRequestProperty("Accept-Encoding", ACCEPT_ENCODING);
+        final var validators = this.validators;
+        if (validators.etag() != null) {
+            connection.setRequestProperty("If-None-Match", validators.etag());
+        }
+        if (validators.lastModified() != null) {
+            connection.setRequestProperty("If-Modified-Since", validators.lastModified());
+        }
+        connection.connect();
+        final var connectTime = System.nanoTime() - start;
+
+        if (connection instanceof HttpURLConnection http && http.getResponseCode() == FeedResponse.NOT_MODIFIED) {
+            // Servers may announce a content encoding without sending a body.
+            connection.getInputStream().close();
+            return new FeedResponse(EMPTY, FeedResponse.NOT_MODIFIED, connection.getHeaderFields(),
+                                    System.currentTimeMillis(), System.nanoTime() - start, connectTime);
+        }
+
+        final var encoding      = connection.getContentEncoding();
+        final var compressed    = encoding != null && !encoding.equalsIgnoreCase("identity");
+        final var contentLength = connection.getContentLengthLong();
+        if (!compressed && contentLength > maxBodySize) {
+            connection.getInputStream().close();
+            throw new FeedTooLargeException(maxBodySize);
+        }
+        final int capacity;
+        if (contentLength < 0) {
+            capacity = BufferPool.MIN_SIZE;
+        } else {
+            capacity = (int) Math.min(maxBodySize + 1L, compressed ? contentLength * 8 : contentLength + 1);
+        }
+
+        final var cpuStart = TransferMetrics.cpuTime();
+        try (final var in = connection.getInputStream()) {
+            final var reader = new BodyReader(in, pool, maxBodySize, capacity);
+            try {
+                if (!compressed) {
+                    reader.readPlain();
+                } else if (encoding.equalsIgnoreCase("gzip") || encoding.equalsIgnoreCase("x-gzip")) {
+                    reader.readGzip(inflaters);
+                } else if (encoding.equalsIgnoreCase("deflate")) {
+                    reader.readDeflate(inflaters);
+                } else {
+                    throw new IOException("Unsupported content encoding: " + encoding);
+                }
+            } catch (final IOException e) {
+                reader.releaseAll();
+                throw e;
+            }
+            metrics.record(reader.getWire(), reader.getLength(), compressed, cpuStart);
+
+            final var status = connection instanceof HttpURLConnection http ? http.getResponseCode() : -1;
+            if (status == HttpURLConnection.HTTP_OK) {
+                this.validators = Validators.of(connection.getHeaderFields());
+            }
+            return new FeedResponse(reader.getBody(),
+                                    reader.getLength(),
+                                    status,
+                                    connection.getHeaderFields(),
+                                    System.currentTimeMillis(),
+                                    System.nanoTime() - start,
+                                    connectTime,
+                                    pool);
+        }
+    }
+
+    @Override
+    public Validators getValidators() {
+        return validators;
+    }
+
+    @Override
+    public void setValidators(final Validators validators) {
+        this.validators = validators;
+    }
+}
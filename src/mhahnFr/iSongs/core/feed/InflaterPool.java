@@ -0,0 +1,87 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Inflater;
+
+/**
+ * This class manages reusable {@link Inflater}s. Creating an inflater
+ * allocates native memory, so the inflaters are kept for reuse instead.
+ * The amount of kept inflaters is bounded; surplus inflaters are ended.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class InflaterPool {
+    /** The shared instance.                                         */
+    private static final InflaterPool instance = new InflaterPool(2 * Runtime.getRuntime().availableProcessors());
+
+    /** The kept inflaters of raw deflate streams.                   */
+    private final ArrayBlockingQueue<Inflater> raw;
+    /** The kept inflaters of zlib wrapped deflate streams.          */
+    private final ArrayBlockingQueue<Inflater> wrapped;
+
+    /**
+     * Constructs an inflater pool.
+     *
+     * @param capacity the maximum amount of kept inflaters per kind
+     */
+    public InflaterPool(final int capacity) {
+        raw     = new ArrayBlockingQueue<>(capacity);
+        wrapped = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Returns the shared instance.
+     *
+     * @return the shared inflater pool
+     */
+    public static InflaterPool getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns a reset inflater.
+     *
+     * @param nowrap whether the inflater reads raw deflate streams instead of zlib wrapped ones
+     * @return the inflater
+     */
+    public Inflater acquire(final boolean nowrap) {
+        final var inflater = (nowrap ? raw : wrapped).poll();
+        return inflater != null ? inflater : new Inflater(nowrap);
+    }
+
+    /**
+     * Releases the given inflater to this pool. It must not be used after
+     * it has been released.
+     *
+     * @param inflater the inflater to be released
+     * @param nowrap   whether the inflater reads raw deflate streams
+     */
+    public void release(final Inflater inflater, final boolean nowrap) {
+        inflater.reset();
+        if (!(nowrap ? raw : wrapped).offer(inflater)) {
+            inflater.end();
+        }
+    }
+}
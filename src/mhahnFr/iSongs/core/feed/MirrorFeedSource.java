@@ -0,0 +1,533 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import mhahnFr.iSongs.core.metrics.Histogram;
+import mhahnFr.iSongs.core.resilience.CircuitBreaker;
+import mhahnFr.iSongs.core.schedule.Clock;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class represents a feed source fetching the same feed from several
+ * endpoints. The requests are routed to the healthy endpoint with the lowest
+ * smoothed latency; failing endpoints are skipped by their circuit breaker
+ * and the next endpoint is tried instead. If the chosen endpoint takes longer
+ * than its 95th latency percentile, a hedging request is sent to the next
+ * endpoint and the first successful response is used.
+ * <p>
+ * The validators reported are the ones of the endpoint that sent the most
+ * recent complete response. Validators set from outside, such as restored
+ * ones, are sent to every endpoint; mirrors not knowing them simply
+ * answer with the complete feed.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class MirrorFeedSource implements FeedSource {
+    /** The executor running the hedged requests.                               */
+    private static final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    /** Every how many fetches a request is sent to the least recently used one. */
+    private static final int EXPLORE_INTERVAL = 32;
+
+    /** The endpoints of the feed.                                              */
+    private final List<Endpoint> endpoints;
+    /** The amount of sent hedging requests.                                    */
+    private final LongAdder hedges = new LongAdder();
+    /** The amount of hedging requests whose response was used.                 */
+    private final LongAdder hedgeWins = new LongAdder();
+    /** The amount of fetches that failed over to another endpoint.             */
+    private final LongAdder failovers = new LongAdder();
+    /** The amount of fetches.                                                  */
+    private long fetches;
+
+    /**
+     * Constructs this mirrored source.
+     *
+     * @param sources the sources of the endpoints, the first one is preferred initially
+     * @param names   the names of the endpoints
+     * @param clock   the clock used for the circuit breakers of the endpoints
+     */
+    public MirrorFeedSource(final List<? extends FeedSource> sources, final List<String> names, final Clock clock) {
+        if (sources.isEmpty() || sources.size() != names.size()) {
+            throw new IllegalArgumentException("Expected one name per source");
+        }
+        final var endpoints = new ArrayList<Endpoint>(sources.size());
+        for (int i = 0; i < sources.size(); ++i) {
+            endpoints.add(new Endpoint(names.get(i), sources.get(i), i, new CircuitBreaker(names.get(i),
+                                                                                           clock,
+                                                                                           ThreadLocalRandom.current(),
+                                                                                           2,
+                                                                                           5,
+                                                                                           120,
+                                                                                           TimeUnit.SECONDS)));
+        }
+        this.endpoints = List.copyOf(endpoints);
+    }
+
+    @Override
+    public FeedResponse fetch() throws IOException {
+        final var ranked = rank();
+        final var tried  = new boolean[ranked.size()];
+        IOException failure = null;
+        for (int i = 0; i < ranked.size(); ++i) {
+            final var endpoint = ranked.get(i);
+            if (tried[i] || !endpoint.breaker.allowRequest()) continue;
+
+            tried[i] = true;
+            if (failure != null) {
+                failovers.increment();
+            }
+            try {
+                final var hedge = failure == null ? findHedge(ranked, i) : -1;
+                if (hedge == -1) {
+                    return endpoint.fetch();
+                }
+                return fetchHedged(endpoint, ranked, hedge, tried);
+            } catch (final IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        throw failure != null ? failure : new IOException("All feed endpoints are paused");
+    }
+
+    /**
+     * Returns the endpoints in the order they should be tried: the closed ones
+     * ordered by their smoothed latency, followed by the others. Periodically,
+     * the least recently used closed endpoint is moved to the front, so the
+     * latencies of the slower endpoints stay up to date.
+     *
+     * @return the ranked endpoints
+     */
+    private synchronized List<Endpoint> rank() {
+        final var closed  = new boolean[endpoints.size()];
+        final var latency = new double[endpoints.size()];
+        for (final var endpoint : endpoints) {
+            closed[endpoint.index]  = endpoint.breaker.state() == CircuitBreaker.State.CLOSED;
+            latency[endpoint.index] = endpoint.getLatency();
+        }
+        final var ranked = new ArrayList<>(endpoints);
+        ranked.sort(Comparator.comparing((Endpoint endpoint) -> !closed[endpoint.index])
+                              .thenComparingDouble(endpoint -> latency[endpoint.index])
+                              .thenComparingInt(endpoint -> endpoint.index));
+        if (++fetches % EXPLORE_INTERVAL == 0) {
+            Endpoint stalest = null;
+            for (final var endpoint : ranked) {
+                if (closed[endpoint.index] && (stalest == null || endpoint.getLastUsed() < stalest.getLastUsed())) {
+                    stalest = endpoint;
+                }
+            }
+            if (stalest != null) {
+                ranked.remove(stalest);
+                ranked.addFirst(stalest);
+            }
+        }
+        return ranked;
+    }
+
+    /**
+     * Searches the endpoint hedging a request to the given endpoint. Hedging
+     * is only done once the latency percentile of the endpoint is known.
+     *
+     * @param ranked  the ranked endpoints
+     * @param primary the index of the endpoint the request is sent to
+     * @return the index of the hedging endpoint or {@code -1} if the request should not be hedged
+     */
+    private static int findHedge(final List<Endpoint> ranked, final int primary) {
+        if (ranked.get(primary).getHedgeDelay() <= 0) return -1;
+
+        for (int i = primary + 1; i < ranked.size(); ++i) {
+            if (ranked.get(i).breaker.state() == CircuitBreaker.State.CLOSED) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Fetches the feed from the given primary endpoint. If it has not
+     * responded within its hedge delay, the request is sent to the given
+     * hedging endpoint as well and the first successful response is used.
+     * The response of the other request is released. The hedging endpoint
+     * is only marked as tried if the request has actually been sent to it,
+     * so it can still be failed over to otherwise.
+     *
+     * @param primary the primary endpoint
+     * @param ranked  the ranked endpoints
+     * @param index   the index of the hedging endpoint
+     * @param tried   whether the ranked endpoints have been tried
+     * @return the first successful response
+     * @throws IOException if all sent requests failed
+     */
+    private FeedResponse fetchHedged(final Endpoint       primary,
+                                     final List<Endpoint> ranked,
+                                     final int            index,
+                                     final boolean[]      tried) throws IOException {
+        final var hedge = ranked.get(index);
+        final var first = submit(primary);
+        try {
+            return first.get(primary.getHedgeDelay(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException _) {
+            // Hedged below.
+        } catch (final ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (final InterruptedException e) {
+            throw interrupted(first, e);
+        }
+        if (!hedge.breaker.allowRequest()) {
+            return await(first);
+        }
+        tried[index] = true;
+        hedges.increment();
+        final var second = submit(hedge);
+        final var result = new CompletableFuture<FeedResponse>();
+        final var failed = new AtomicInteger();
+        first.whenComplete((response, error) -> complete(result, response, error, failed));
+        second.whenComplete((response, error) -> {
+            if (complete(result, response, error, failed)) {
+                hedgeWins.increment();
+            }
+        });
+        return await(result);
+    }
+
+    /**
+     * Completes the given result with the given outcome of one of two requests.
+     * A response arriving after the result has been completed is released; the
+     * result fails only once both requests have failed.
+     *
+     * @param result   the result to be completed
+     * @param response the response of the request
+     * @param error    the failure of the request
+     * @param failed   the amount of failed requests
+     * @return whether the given response completed the result
+     */
+    private static boolean complete(final CompletableFuture<FeedResponse> result,
+                                    final FeedResponse                    response,
+                                    final Throwable                       error,
+                                    final AtomicInteger                   failed) {
+        if (error == null) {
+            if (result.complete(response)) {
+                return true;
+            }
+            response.release();
+        } else if (failed.incrementAndGet() == 2) {
+            result.completeExceptionally(error);
+        }
+        return false;
+    }
+
+    /**
+     * Fetches the feed from the given endpoint asynchronously.
+     *
+     * @param endpoint the endpoint
+     * @return the future response
+     */
+    private static CompletableFuture<FeedResponse> submit(final Endpoint endpoint) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return endpoint.fetch();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Waits for the given response.
+     *
+     * @param future the future response
+     * @return the response
+     * @throws IOException if the request failed
+     */
+    private static FeedResponse await(final CompletableFuture<FeedResponse> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (final InterruptedException e) {
+            throw interrupted(future, e);
+        }
+    }
+
+    /**
+     * Handles the interruption of the waiting for the given response.
+     * The response is released once it arrives.
+     *
+     * @param future the future response
+     * @param cause  the interruption
+     * @return the exception to be thrown
+     */
+    private static InterruptedIOException interrupted(final CompletableFuture<FeedResponse> future,
+                                                      final InterruptedException           cause) {
+        Thread.currentThread().interrupt();
+        future.thenAccept(FeedResponse::release);
+        return (InterruptedIOException) new InterruptedIOException("Interrupted while fetching the feed").initCause(cause);
+    }
+
+    /**
+     * Unwraps the failure of an asynchronous request.
+     *
+     * @param cause the failure
+     * @return the exception to be thrown
+     */
+    private static IOException unwrap(Throwable cause) {
+        if (cause instanceof UncheckedIOException e) {
+            cause = e.getCause();
+        }
+        if (cause instanceof IOException e) {
+            return e;
+        }
+        if (cause instanceof RuntimeException e) {
+            throw e;
+        }
+        return new IOException(cause);
+    }
+
+    /**
+     * Returns the amount of sent hedging requests.
+     *
+     * @return the amount of hedges
+     */
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * Returns the amount of hedging requests whose response was used.
+     *
+     * @return the amount of won hedges
+     */
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * Returns the amount of fetches that failed over to another endpoint.
+     *
+     * @return the amount of failovers
+     */
+    public long getFailovers() {
+        return failovers.sum();
+    }
+
+    /**
+     * Returns the circuit breakers of the endpoints, in the order the
+     * endpoints were given.
+     *
+     * @return the circuit breakers
+     */
+    public List<CircuitBreaker> getBreakers() {
+        return endpoints.stream().map(endpoint -> endpoint.breaker).toList();
+    }
+
+    @Override
+    public Validators getValidators() {
+        var latest = endpoints.getFirst();
+        for (final var endpoint : endpoints) {
+            if (endpoint.getValidatedAt() > latest.getValidatedAt()) {
+                latest = endpoint;
+            }
+        }
+        return latest.source.getValidators();
+    }
+
+    @Override
+    public void setValidators(final Validators validators) {
+        for (final var endpoint : endpoints) {
+            endpoint.source.setValidators(validators);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (final var endpoint : endpoints) {
+            try {
+                endpoint.source.close();
+            } catch (final IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * This class represents an endpoint of the feed together with its
+     * measured latency and its health.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private static class Endpoint {
+        /** The weight of a new latency sample in the smoothed latency.         */
+        private static final double ALPHA = 0.2;
+        /** The minimum amount of samples before the percentile is used.        */
+        private static final int MIN_SAMPLES = 20;
+        /** The amount of samples after which the percentile is recalculated.   */
+        private static final int WINDOW = 256;
+
+        /** The name of this endpoint.                                          */
+        private final String name;
+        /** The source fetching from this endpoint.                             */
+        private final FeedSource source;
+        /** The index of this endpoint in the configuration.                    */
+        private final int index;
+        /** The circuit breaker of this endpoint.                               */
+        private final CircuitBreaker breaker;
+        /** The latencies of the current window in nanoseconds.                 */
+        private final Histogram latencies = new Histogram();
+        /** The smoothed latency in nanoseconds, zero if not measured yet.      */
+        private double latency;
+        /** The 95th latency percentile of the last complete window.            */
+        private long p95;
+        /** The monotonic time this endpoint was last used at.                  */
+        private long lastUsed;
+        /** The monotonic time of the last complete response.                   */
+        private long validatedAt = Long.MIN_VALUE;
+
+        /**
+         * Constructs an endpoint.
+         *
+         * @param name    the name of the endpoint
+         * @param source  the source fetching from the endpoint
+         * @param index   the index of the endpoint in the configuration
+         * @param breaker the circuit breaker of the endpoint
+         */
+        Endpoint(final String name, final FeedSource source, final int index, final CircuitBreaker breaker) {
+            this.name    = name;
+            this.source  = source;
+            this.index   = index;
+            this.breaker = breaker;
+        }
+
+        /**
+         * Fetches the feed from this endpoint, recording the latency and
+         * the outcome.
+         *
+         * @return the response
+         * @throws IOException if the feed could not be fetched
+         */
+        FeedResponse fetch() throws IOException {
+            final var start = System.nanoTime();
+            synchronized (this) { lastUsed = start; }
+            final FeedResponse response;
+            try {
+                response = source.fetch();
+            } catch (final IOException e) {
+                breaker.onFailure();
+                throw e;
+            }
+            breaker.onSuccess();
+            record(System.nanoTime() - start);
+            if (response.status() == HttpURLConnection.HTTP_OK) {
+                synchronized (this) { validatedAt = start; }
+            }
+            return response;
+        }
+
+        /**
+         * Records the given latency.
+         *
+         * @param nanos the latency in nanoseconds
+         */
+        private synchronized void record(final long nanos) {
+            latency = latency == 0 ? nanos : latency + ALPHA * (nanos - latency);
+            latencies.record(nanos);
+            if (latencies.getCount() >= WINDOW) {
+                p95 = latencies.getPercentile(95);
+                latencies.reset();
+            }
+        }
+
+        /**
+         * Returns the smoothed latency of this endpoint.
+         *
+         * @return the smoothed latency in nanoseconds, zero if not measured yet
+         */
+        synchronized double getLatency() {
+            return latency;
+        }
+
+        /**
+         * Returns the time after which a request to this endpoint is hedged:
+         * its 95th latency percentile.
+         *
+         * @return the hedge delay in nanoseconds, zero if not known yet
+         */
+        synchronized long getHedgeDelay() {
+            if (p95 == 0 && latencies.getCount() >= MIN_SAMPLES) {
+                return latencies.getPercentile(95);
+            }
+            return p95;
+        }
+
+        /**
+         * Returns the monotonic time this endpoint was last used at.
+         *
+         * @return the time of the last use
+         */
+        synchronized long getLastUsed() {
+            return lastUsed;
+        }
+
+        /**
+         * Returns the monotonic time of the last complete response sent by
+         * this endpoint.
+         *
+         * @return the time of the last complete response, {@link Long#MIN_VALUE} if none
+         */
+        synchronized long getValidatedAt() {
+            return validatedAt;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import java.io.IOException;
+
+/**
+ * This class represents a feed source recording the responses of another
+ * source into a {@link FeedArchive}. Failures of the recording do not
+ * affect the fetching.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class RecordingFeedSource implements FeedSource {
+    /** The source whose responses are recorded.   */
+    private final FeedSource source;
+    /** The archive the responses are recorded to. */
+    private final FeedArchive.Writer archive;
+
+    /**
+     * Constructs this recording source.
+     *
+     * @param source  the source whose responses are recorded
+     * @param archive the archive the responses are recorded to
+     */
+    public RecordingFeedSource(final FeedSource source, final FeedArchive.Writer archive) {
+        this.source  = source;
+        this.archive = archive;
+    }
+
+    @Override
+    public FeedResponse fetch() throws IOException {
+        final var response = source.fetch();
+        try {
+            archive.append(response);
+        } catch (final IOException _) {
+            // The recording is best effort only.
+        }
+        return response;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (archive) {
+            source.close();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class represents a feed source replaying the responses recorded
+ * in a {@link FeedArchive}.
+ * <p>
+ * When replaying at real speed, each fetch returns the response that was
+ * current at the same offset from the beginning of the recording, after
+ * waiting for the recorded latency. Otherwise, each fetch returns the next
+ * recorded response immediately.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class ReplayFeedSource implements FeedSource {
+    /** The reader of the recorded responses.                       */
+    private final FeedArchive.Reader reader;
+    /** Whether to replay at the speed of the recording.            */
+    private final boolean realTime;
+    /** The response returned by the previous fetch.                */
+    private FeedResponse current;
+    /** The next recorded response.                                 */
+    private FeedResponse next;
+    /** The time the replay started in milliseconds.                */
+    private long replayStart;
+    /** The time the recording started in milliseconds.             */
+    private long recordStart;
+    /** Whether the last recorded response has been returned.       */
+    private boolean finished;
+
+    /**
+     * Constructs this replaying source.
+     *
+     * @param reader   the reader of the recorded responses
+     * @param realTime whether to replay at the speed of the recording
+     */
+    public ReplayFeedSource(final FeedArchive.Reader reader, final boolean realTime) {
+        this.reader   = reader;
+        this.realTime = realTime;
+    }
+
+    @Override
+    public FeedResponse fetch() throws IOException {
+        if (current == null) {
+            current = reader.next();
+            if (current == null) {
+                throw new EOFException("Empty feed archive");
+            }
+            next        = reader.next();
+            replayStart = System.currentTimeMillis();
+            recordStart = current.time();
+            return delay(current);
+        }
+        if (!realTime) {
+            if (next == null) {
+                throw new EOFException("End of the feed archive");
+            }
+            current = next;
+            next    = reader.next();
+            return current;
+        }
+        final var offset = System.currentTimeMillis() - replayStart;
+        while (next != null && next.time() - recordStart <= offset) {
+            current = next;
+            next    = reader.next();
+        }
+        if (next == null) {
+            if (finished) {
+                throw new EOFException("End of the feed archive");
+            }
+            finished = true;
+        }
+        return delay(current);
+    }
+
+    /**
+     * Waits for the recorded latency of the given response if replaying at real speed.
+     *
+     * @param response the response to be returned
+     * @return the given response
+     * @throws IOException if interrupted while waiting
+     */
+    private FeedResponse delay(final FeedResponse response) throws IOException {
+        if (realTime && response.latency() > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(response.latency());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
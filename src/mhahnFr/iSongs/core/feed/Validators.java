@@ -0,0 +1,70 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This record represents the validators of the last response of a feed,
+ * sent along with the next request to make it conditional. If the feed has
+ * not changed, the server answers {@link FeedResponse#NOT_MODIFIED} without
+ * a body.
+ *
+ * @param etag         the entity tag, {@code null} if not sent by the server
+ * @param lastModified the last modification date, {@code null} if not sent by the server
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public record Validators(String etag, String lastModified) {
+    /** The absence of validators. */
+    public static final Validators NONE = new Validators(null, null);
+
+    /**
+     * Extracts the validators from the given response headers.
+     *
+     * @param headers the response headers
+     * @return the validators
+     */
+    public static Validators of(final Map<String, List<String>> headers) {
+        String etag = null, lastModified = null;
+        for (final var header : headers.entrySet()) {
+            if (header.getKey() == null || header.getValue().isEmpty()) continue;
+
+            if (header.getKey().equalsIgnoreCase("ETag")) {
+                etag = header.getValue().getFirst();
+            } else if (header.getKey().equalsIgnoreCase("Last-Modified")) {
+                lastModified = header.getValue().getFirst();
+            }
+        }
+        return etag == null && lastModified == null ? NONE : new Validators(etag, lastModified);
+    }
+
+    /**
+     * Returns whether no validator is present.
+     *
+     * @return whether this instance is empty
+     */
+    public boolean isEmpty() {
+        return etag == null && lastModified == null;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * This event is emitted when the JSON feed of a station has been downloaded.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@Name("mhahnFr.iSongs.FeedFetch")
+@Label("Feed Fetch")
+@Category({ "iSongs", "Pipeline" })
+@Description("The download of the JSON feed of a station")
+public class FeedFetchEvent extends Event {
+    /** The identifier of the station.                                          */
+    @Label("Station")
+    public String station;
+
+    /** The amount of downloaded bytes.                                         */
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    /** The HTTP status code, {@code -1} if not available.                      */
+    @Label("Status")
+    public int status;
+
+    /** The time needed for establishing the connection.                        */
+    @Label("Connect Duration")
+    @Timespan
+    public long connectDuration;
+
+    /** Whether a kept-alive connection has been reused.                        */
+    @Label("Connection Reused")
+    @Description("Estimated from the connect duration, as the JDK does not report the reuse of connections")
+    public boolean connectionReused;
+}
@@ -0,0 +1,41 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * This event is emitted when the displayed song has been rendered.
+ * Its duration covers the waiting for the UI thread and the rendering.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@Name("mhahnFr.iSongs.Render")
+@Label("Render")
+@Category({ "iSongs", "UI" })
+@Description("The rendering of the displayed song, including the waiting for the event dispatch thread")
+public class RenderEvent extends Event {
+    /** The rendered song.  */
+    @Label("Song")
+    public String song;
+}
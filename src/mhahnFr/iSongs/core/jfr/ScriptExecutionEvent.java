@@ -0,0 +1,44 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * This event is emitted when an AppleScript has been executed.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@Name("mhahnFr.iSongs.ScriptExecution")
+@Label("Script Execution")
+@Category({ "iSongs", "Pipeline" })
+@Description("The execution of an AppleScript by osascript")
+public class ScriptExecutionEvent extends Event {
+    /** The process identifier, {@code -1} if the process could not be started. */
+    @Label("PID")
+    public long pid;
+
+    /** The exit code of the process, {@code -1} if not available.              */
+    @Label("Exit Code")
+    public int exitCode;
+}
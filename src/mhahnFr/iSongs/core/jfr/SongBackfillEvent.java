@@ -0,0 +1,55 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * This event is emitted when the loader has backfilled a song missed
+ * during a gap in the polling.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@Name("mhahnFr.iSongs.SongBackfill")
+@Label("Song Backfill")
+@Category({ "iSongs", "Pipeline" })
+@Description("A song played during a gap in the polling, taken from the playlist afterward")
+public class SongBackfillEvent extends Event {
+    /** The identifier of the station.                              */
+    @Label("Station")
+    public String station;
+
+    /** The backfilled song.                                        */
+    @Label("Song")
+    public String song;
+
+    /** The time the song started at.                               */
+    @Label("Start Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    public long songStart;
+
+    /** The duration of the gap.                                    */
+    @Label("Gap")
+    @Timespan(Timespan.MILLISECONDS)
+    public long gap;
+}
@@ -0,0 +1,54 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * This event is emitted when the loader has decided whether the song
+ * of a station has changed.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@Name("mhahnFr.iSongs.SongChange")
+@Label("Song Change Decision")
+@Category({ "iSongs", "Pipeline" })
+@Description("The decision whether the currently played song has changed")
+public class SongChangeEvent extends Event {
+    /** The identifier of the station.                              */
+    @Label("Station")
+    public String station;
+
+    /** The previously displayed song.                              */
+    @Label("Old Song")
+    public String oldSong;
+
+    /** The newly displayed song.                                   */
+    @Label("New Song")
+    public String newSong;
+
+    /** The reason of the decision.                                 */
+    @Label("Reason")
+    @Description("JSON or SCRIPT if the song was changed by the respective recognition, UNCHANGED otherwise")
+    public String reason;
+}
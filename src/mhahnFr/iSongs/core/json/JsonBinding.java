@@ -0,0 +1,45 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.json;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a data transfer object for which a binder is generated at compile
+ * time. The generated class is named after the annotated class with the
+ * suffix {@code Binder} and fills the public fields of the annotated class
+ * and of the classes it refers to directly from a {@link JsonReader},
+ * without using reflection.
+ * <p>
+ * Supported field types are {@code String}, {@code int}, {@code long},
+ * {@code double}, {@code boolean}, {@code Object}, maps with string keys,
+ * arrays and classes with a public no-argument constructor.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JsonBinding {}
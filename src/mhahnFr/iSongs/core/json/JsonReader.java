@@ -0,0 +1,514 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class implements a streaming reader of a UTF-8 encoded JSON document.
+ * It is used by the binders generated for the classes annotated with
+ * {@link JsonBinding}.
+ * <p>
+ * Field names are compared against the expected names directly on the
+ * bytes of the document and skipped values are never materialized, so
+ * unknown fields are passed over without allocating.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class JsonReader {
+    /** Returned by {@link #nextField(byte[][])} at the end of an object. */
+    public static final int END     = -1;
+    /** Returned by {@link #nextField(byte[][])} for an unknown field.    */
+    public static final int UNKNOWN = -2;
+
+    /** The document.                                                     */
+    private final byte[] data;
+    /** The end of the document.                                          */
+    private final int limit;
+    /** The current position in the document.                             */
+    private int pos;
+
+    /**
+     * Constructs a reader of the given document.
+     *
+     * @param data the UTF-8 encoded document
+     */
+    public JsonReader(final byte[] data) {
+        this(data, 0, data.length);
+    }
+
+    /**
+     * Constructs a reader of the given part of the given buffer.
+     *
+     * @param data   the buffer containing the UTF-8 encoded document
+     * @param offset the start of the document
+     * @param length the length of the document
+     */
+    public JsonReader(final byte[] data, final int offset, final int length) {
+        this.data  = data;
+        this.pos   = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * Encodes the given field names for {@link #nextField(byte[][])}.
+     *
+     * @param names the field names
+     * @return the encoded field names
+     */
+    public static byte[][] names(final String... names) {
+        final var result = new byte[names.length][];
+        for (var i = 0; i < names.length; ++i) {
+            result[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    /**
+     * Skips the whitespace and returns the next character without consuming it.
+     *
+     * @return the next character
+     * @throws JsonSyntaxException if the document ends
+     */
+    private byte peek() throws JsonSyntaxException {
+        while (pos < limit) {
+            final var c = data[pos];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+            ++pos;
+        }
+        throw new JsonSyntaxException("Unexpected end of document", pos);
+    }
+
+    /**
+     * Consumes the given character.
+     *
+     * @param expected the expected character
+     * @throws JsonSyntaxException if the next character is a different one
+     */
+    private void expect(final char expected) throws JsonSyntaxException {
+        if (peek() != expected) {
+            throw new JsonSyntaxException("Expected '" + expected + "'", pos);
+        }
+        ++pos;
+    }
+
+    /**
+     * Consumes a {@code null} literal if it is the next value.
+     *
+     * @return whether the next value was {@code null}
+     * @throws JsonSyntaxException if the document ends
+     */
+    public boolean nextNull() throws JsonSyntaxException {
+        if (peek() == 'n') {
+            literal("null");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Consumes the given literal.
+     *
+     * @param literal the literal
+     * @throws JsonSyntaxException if the document does not continue with the literal
+     */
+    private void literal(final String literal) throws JsonSyntaxException {
+        final var length = literal.length();
+        if (limit - pos < length) {
+            throw new JsonSyntaxException("Expected " + literal, pos);
+        }
+        for (var i = 0; i < length; ++i) {
+            if (data[pos + i] != literal.charAt(i)) {
+                throw new JsonSyntaxException("Expected " + literal, pos);
+            }
+        }
+        pos += length;
+    }
+
+    /**
+     * Begins to read an object.
+     *
+     * @return {@code false} if the value is {@code null} instead of an object
+     * @throws JsonSyntaxException if the value is neither an object nor {@code null}
+     */
+    public boolean beginObject() throws JsonSyntaxException {
+        if (nextNull()) {
+            return false;
+        }
+        expect('{');
+        return true;
+    }
+
+    /**
+     * Reads the name of the next field of the current object and returns
+     * its index in the given names. The value of the field is to be read
+     * or skipped afterwards.
+     *
+     * @param names the expected names, as returned by {@link #names(String...)}
+     * @return the index of the name, {@link #UNKNOWN} if it is not expected
+     *         or {@link #END} if the object ends
+     * @throws JsonSyntaxException if the document is malformed
+     */
+    public int nextField(final byte[][] names) throws JsonSyntaxException {
+        if (!nextMember('}')) {
+            return END;
+        }
+        expect('"');
+        final var start = pos;
+        var escaped = false;
+        while (true) {
+            if (pos >= limit) {
+                throw new JsonSyntaxException("Unterminated string", start);
+            }
+            final var c = data[pos++];
+            if (c == '"') break;
+            if (c == '\\') {
+                escaped = true;
+                ++pos;
+            }
+        }
+        final var end = pos - 1;
+        expect(':');
+        if (escaped) {
+            pos = start - 1;
+            final var name = readString();
+            expect(':');
+            for (var i = 0; i < names.length; ++i) {
+                if (name.equals(new String(names[i], StandardCharsets.UTF_8))) {
+                    return i;
+                }
+            }
+            return UNKNOWN;
+        }
+        for (var i = 0; i < names.length; ++i) {
+            if (Arrays.equals(data, start, end, names[i], 0, names[i].length)) {
+                return i;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Begins to read an array.
+     *
+     * @return {@code false} if the value is {@code null} instead of an array
+     * @throws JsonSyntaxException if the value is neither an array nor {@code null}
+     */
+    public boolean beginArray() throws JsonSyntaxException {
+        if (nextNull()) {
+            return false;
+        }
+        expect('[');
+        return true;
+    }
+
+    /**
+     * Returns whether the current array has another element to be read.
+     *
+     * @return whether another element follows
+     * @throws JsonSyntaxException if the document is malformed
+     */
+    public boolean hasNext() throws JsonSyntaxException {
+        return nextMember(']');
+    }
+
+    /**
+     * Advances to the next member of the current object or array.
+     *
+     * @param close the character closing the object or array
+     * @return whether another member follows
+     * @throws JsonSyntaxException if the document ends
+     */
+    private boolean nextMember(final char close) throws JsonSyntaxException {
+        var c = peek();
+        if (c == close) {
+            ++pos;
+            return false;
+        }
+        if (c == ',') {
+            ++pos;
+            peek();
+        }
+        return true;
+    }
+
+    /**
+     * Reads a string value.
+     *
+     * @return the string or {@code null} if the value is {@code null}
+     * @throws JsonSyntaxException if the value is neither a string nor {@code null}
+     */
+    public String readString() throws JsonSyntaxException {
+        if (nextNull()) {
+            return null;
+        }
+        expect('"');
+        var start = pos;
+        StringBuilder builder = null;
+        while (true) {
+            if (pos >= limit) {
+                throw new JsonSyntaxException("Unterminated string", start);
+            }
+            final var c = data[pos];
+            if (c == '"') {
+                final var tail = new String(data, start, pos++ - start, StandardCharsets.UTF_8);
+                return builder == null ? tail : builder.append(tail).toString();
+            } else if (c == '\\') {
+                if (builder == null) {
+                    builder = new StringBuilder(pos - start + 16);
+                }
+                builder.append(new String(data, start, pos - start, StandardCharsets.UTF_8));
+                builder.append(readEscape());
+                start = pos;
+            } else {
+                ++pos;
+            }
+        }
+    }
+
+    /**
+     * Reads the escape sequence at the current position.
+     *
+     * @return the escaped character
+     * @throws JsonSyntaxException if the escape sequence is invalid
+     */
+    private char readEscape() throws JsonSyntaxException {
+        if (limit - pos < 2) {
+            throw new JsonSyntaxException("Unterminated escape sequence", pos);
+        }
+        final var c = data[pos + 1];
+        pos += 2;
+        return switch (c) {
+            case 'n' -> '\n';
+            case 't' -> '\t';
+            case 'r' -> '\r';
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'u' -> {
+                if (limit - pos < 4) {
+                    throw new JsonSyntaxException("Unterminated escape sequence", pos);
+                }
+                var value = 0;
+                for (var i = 0; i < 4; ++i) {
+                    final var digit = Character.digit(data[pos++], 16);
+                    if (digit < 0) {
+                        throw new JsonSyntaxException("Invalid unicode escape", pos - 1);
+                    }
+                    value = value << 4 | digit;
+                }
+                yield (char) value;
+            }
+            default -> (char) c;
+        };
+    }
+
+    /**
+     * Reads a number as {@code long}. A {@code null} value is read as zero,
+     * fractions are truncated.
+     *
+     * @return the read number
+     * @throws JsonSyntaxException if the value is not a number
+     */
+    public long readLong() throws JsonSyntaxException {
+        if (nextNull()) {
+            return 0;
+        }
+        final var start    = pos;
+        final var negative = data[pos] == '-';
+        if (negative) ++pos;
+
+        var result = 0L;
+        var digits = 0;
+        while (pos < limit && data[pos] >= '0' && data[pos] <= '9') {
+            result = result * 10 + (data[pos++] - '0');
+            ++digits;
+        }
+        if (digits == 0) {
+            throw new JsonSyntaxException("Expected a number", start);
+        }
+        if (digits > 18 || pos < limit && (data[pos] == '.' || data[pos] == 'e' || data[pos] == 'E')) {
+            pos = start;
+            return (long) readDouble();
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Reads a number as {@code int}. A {@code null} value is read as zero,
+     * fractions are truncated.
+     *
+     * @return the read number
+     * @throws JsonSyntaxException if the value is not a number
+     */
+    public int readInt() throws JsonSyntaxException {
+        return (int) readLong();
+    }
+
+    /**
+     * Reads a number as {@code double}. A {@code null} value is read as zero.
+     *
+     * @return the read number
+     * @throws JsonSyntaxException if the value is not a number
+     */
+    public double readDouble() throws JsonSyntaxException {
+        if (nextNull()) {
+            return 0;
+        }
+        final var start = pos;
+        while (pos < limit && isNumberChar(data[pos])) {
+            ++pos;
+        }
+        try {
+            return Double.parseDouble(new String(data, start, pos - start, StandardCharsets.US_ASCII));
+        } catch (final NumberFormatException _) {
+            throw new JsonSyntaxException("Expected a number", start);
+        }
+    }
+
+    /**
+     * Returns whether the given character can be part of a number.
+     *
+     * @param c the character
+     * @return whether the character belongs to a number
+     */
+    private static boolean isNumberChar(final byte c) {
+        return c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    /**
+     * Reads a boolean. A {@code null} value is read as {@code false}.
+     *
+     * @return the read boolean
+     * @throws JsonSyntaxException if the value is not a boolean
+     */
+    public boolean readBoolean() throws JsonSyntaxException {
+        return switch (peek()) {
+            case 'n' -> { literal("null");  yield false; }
+            case 't' -> { literal("true");  yield true;  }
+            case 'f' -> { literal("false"); yield false; }
+            default  -> throw new JsonSyntaxException("Expected a boolean", pos);
+        };
+    }
+
+    /**
+     * Reads an arbitrary value. Objects are read as {@link Map}, arrays as
+     * {@link List}, numbers as {@link Double}.
+     *
+     * @return the read value
+     * @throws JsonSyntaxException if the document is malformed
+     */
+    public Object readValue() throws JsonSyntaxException {
+        return switch (peek()) {
+            case '"' -> readString();
+            case '{' -> {
+                final var map = new HashMap<String, Object>();
+                beginObject();
+                while (nextMember('}')) {
+                    final var key = readString();
+                    expect(':');
+                    map.put(key, readValue());
+                }
+                yield map;
+            }
+            case '[' -> {
+                final var list = new ArrayList<>();
+                beginArray();
+                while (hasNext()) {
+                    list.add(readValue());
+                }
+                yield list;
+            }
+            case 'n' -> { literal("null"); yield null; }
+            case 't', 'f' -> readBoolean();
+            default -> readDouble();
+        };
+    }
+
+    /**
+     * Reads an object whose values are strings as map.
+     *
+     * @return the read map or {@code null} if the value is {@code null}
+     * @throws JsonSyntaxException if the document is malformed
+     */
+    public Map<String, String> readStringMap() throws JsonSyntaxException {
+        if (!beginObject()) {
+            return null;
+        }
+        final var map = new HashMap<String, String>();
+        while (nextMember('}')) {
+            final var key = readString();
+            expect(':');
+            map.put(key, readString());
+        }
+        return map;
+    }
+
+    /**
+     * Skips the next value without materializing it.
+     *
+     * @throws JsonSyntaxException if the document is malformed
+     */
+    public void skipValue() throws JsonSyntaxException {
+        var depth = 0;
+        do {
+            switch (peek()) {
+                case '{', '[' -> { ++pos; ++depth; }
+                case '}', ']' -> { ++pos; --depth; }
+                case ',', ':' -> ++pos;
+                case '"'      -> skipString();
+                case 'n'      -> literal("null");
+                case 't'      -> literal("true");
+                case 'f'      -> literal("false");
+                default       -> {
+                    final var start = pos;
+                    while (pos < limit && isNumberChar(data[pos])) ++pos;
+                    if (pos == start) {
+                        throw new JsonSyntaxException("Unexpected character", pos);
+                    }
+                }
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Skips the string at the current position.
+     *
+     * @throws JsonSyntaxException if the string is unterminated
+     */
+    private void skipString() throws JsonSyntaxException {
+        final var start = pos++;
+        while (pos < limit) {
+            final var c = data[pos++];
+            if (c == '"') return;
+            if (c == '\\') ++pos;
+        }
+        throw new JsonSyntaxException("Unterminated string", start);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.json;
+
+import java.io.IOException;
+
+/**
+ * This exception is thrown if a JSON document is malformed.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class JsonSyntaxException extends IOException {
+    /**
+     * Constructs this exception.
+     *
+     * @param message  the description of the error
+     * @param position the position in the document the error was found at
+     */
+    public JsonSyntaxException(final String message, final int position) {
+        super(message + " at position " + position);
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.json;
+
+import java.util.BitSet;
+
+/**
+ * This class writes a JSON document into a {@link StringBuilder}. The
+ * separators between the members are inserted automatically.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class JsonWriter {
+    /** The hexadecimal digits used for escaping.                       */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** The builder the document is written to.                         */
+    private final StringBuilder builder;
+    /** Whether the container at each nesting level has members.        */
+    private final BitSet nonEmpty = new BitSet();
+    /** The current nesting level.                                      */
+    private int depth;
+    /** Whether a value follows a name, needing no separator.           */
+    private boolean afterName;
+
+    /**
+     * Constructs a writer writing into a new builder.
+     */
+    public JsonWriter() {
+        this(new StringBuilder());
+    }
+
+    /**
+     * Constructs a writer writing into the given builder.
+     *
+     * @param builder the builder to write to
+     */
+    public JsonWriter(final StringBuilder builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Writes the separator preceding a value or a name if needed.
+     */
+    private void separate() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (nonEmpty.get(depth)) {
+            builder.append(',');
+        }
+        nonEmpty.set(depth);
+    }
+
+    /**
+     * Opens a container using the given character.
+     *
+     * @param c the opening character
+     * @return this instance
+     */
+    private JsonWriter open(final char c) {
+        separate();
+        builder.append(c);
+        nonEmpty.clear(++depth);
+        return this;
+    }
+
+    /**
+     * Closes a container using the given character.
+     *
+     * @param c the closing character
+     * @return this instance
+     */
+    private JsonWriter close(final char c) {
+        --depth;
+        builder.append(c);
+        return this;
+    }
+
+    /**
+     * Begins an object.
+     *
+     * @return this instance
+     */
+    public JsonWriter beginObject() {
+        return open('{');
+    }
+
+    /**
+     * Ends the current object.
+     *
+     * @return this instance
+     */
+    public JsonWriter endObject() {
+        return close('}');
+    }
+
+    /**
+     * Begins an array.
+     *
+     * @return this instance
+     */
+    public JsonWriter beginArray() {
+        return open('[');
+    }
+
+    /**
+     * Ends the current array.
+     *
+     * @return this instance
+     */
+    public JsonWriter endArray() {
+        return close(']');
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     *
+     * @param name the name
+     * @return this instance
+     */
+    public JsonWriter name(final String name) {
+        separate();
+        quote(name);
+        builder.append(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes the given string value.
+     *
+     * @param value the value, may be {@code null}
+     * @return this instance
+     */
+    public JsonWriter value(final String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        separate();
+        quote(value);
+        return this;
+    }
+
+    /**
+     * Writes the given number.
+     *
+     * @param value the value
+     * @return this instance
+     */
+    public JsonWriter value(final long value) {
+        separate();
+        builder.append(value);
+        return this;
+    }
+
+    /**
+     * Writes the given boolean.
+     *
+     * @param value the value
+     * @return this instance
+     */
+    public JsonWriter value(final boolean value) {
+        separate();
+        builder.append(value);
+        return this;
+    }
+
+    /**
+     * Writes a {@code null} literal.
+     *
+     * @return this instance
+     */
+    public JsonWriter nullValue() {
+        separate();
+        builder.append("null");
+        return this;
+    }
+
+    /**
+     * Writes the given string quoted and escaped.
+     *
+     * @param value the string
+     */
+    private void quote(final String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); ++i) {
+            final var c = value.charAt(i);
+            switch (c) {
+                case '"'  -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20 || c == 0x2028 || c == 0x2029) {
+                        builder.append("\\u").append(HEX[c >> 12 & 0xF]).append(HEX[c >> 8 & 0xF])
+                               .append(HEX[c >> 4 & 0xF]).append(HEX[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+
+    /**
+     * Returns the written document.
+     *
+     * @return the document
+     */
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * iSongs-RadioText - Radio-text part of iSongs.
  *
- * Copyright (C) 2023 - 2024  mhahnFr
+ * Copyright (C) 2023 - 2026  mhahnFr
  *
  * This file is part of the iSongs-RadioText.
  *
@@ -52,13 +52,16 @@ public class English extends Locale {
             case MAIN_UI_STATE_SAVE_ERROR -> "Could not save UI state";
             case MAIN_UI_CHECK_SETTINGS   -> "Please check the settings!";
             case MAIN_ERROR_HAPPENED      -> "Error happened";
+            case MAIN_SOURCE_PAUSED       -> "paused, retrying in";
 
             case SETTINGS_CHOOSE_THEME          -> "Choose theme";
             case SETTINGS_CHOOSE_LANG           -> "Choose language";
-            case SETTINGS_JSON_URI_DESC         -> "URL to the file containing the song data";
+            case SETTINGS_JSON_URI_DESC         -> "URL to the file containing the song data, mirrors separated by spaces";
             case SETTINGS_SONG_INFO_FOLDER_DESC -> "The path where to store the song info";
             case SETTINGS_CHANGE                -> "Change";
             case SETTINGS_SONG_REFRESH_RATE     -> "Refresh rate for fetching song data (in milliseconds)";
+            case SETTINGS_MAX_FEED_SIZE         -> "Maximum size of the feed (in KiB)";
+            case SETTINGS_API_PORT              -> "Port of the local song API (0 = off)";
             case SETTINGS_REMOVE                -> "Delete settings";
             case SETTINGS_REMOVE_ERROR          -> "Error occurred while deleting settings";
             case SETTINGS_SAVE_ERROR            -> "Could not save settings";
@@ -68,6 +71,7 @@ public class English extends Locale {
             case SETTINGS_APPLESCRIPT_ON        -> "Activated";
             case SETTINGS_APPLESCRIPT_ONLY      -> "Only (Internet based recognition disabled)";
             case SETTINGS_ALLOW_NO_SONG         -> "Show no song recognized";
+            case SETTINGS_USE_RELAY             -> "Share the song data with other instances (local relay)";
             case SETTINGS_REMOVE_REALLY         -> """
                                                    Really delete settings?
                                                    This action cannot be undone.
@@ -78,6 +82,18 @@ public class English extends Locale {
             case DARK_MODE_LIGHT -> "light";
             case DARK_MODE_DARK  -> "dark";
 
+            case ERRORS_CLEAR        -> "Clear";
+            case ERRORS_SOURCE       -> "Source";
+            case ERRORS_CAUSE        -> "Cause";
+            case ERRORS_RECENT       -> "Last minute";
+            case ERRORS_TOTAL        -> "Total";
+            case ERRORS_LAST_SEEN    -> "Last occurrence";
+            case ERROR_SOURCE_URL    -> "URL";
+            case ERROR_SOURCE_FEED   -> "Song data";
+            case ERROR_SOURCE_SCRIPT -> "Apple Events";
+            case ERROR_SOURCE_SAVE   -> "Saving";
+            case ERROR_SOURCE_API    -> "Song API";
+
             case INTERNAL_NO_TRACK_RECOGNIZED -> "No track recognized!";
             case INTERNAL_SAVE_FOLDER_UNSET   -> "Save folder not set!";
         };
@@ -1,7 +1,7 @@
 /*
  * iSongs-RadioText - Radio-text part of iSongs.
  *
- * Copyright (C) 2023 - 2024  mhahnFr
+ * Copyright (C) 2023 - 2026  mhahnFr
  *
  * This file is part of the iSongs-RadioText.
  *
@@ -47,13 +47,16 @@ public class German extends Locale {
             case MAIN_UI_STATE_SAVE_ERROR -> "Konnte UI-State nicht speichern";
             case MAIN_UI_CHECK_SETTINGS   -> "Bitte Einstellungen überprüfen!";
             case MAIN_ERROR_HAPPENED      -> "Fehler aufgetreten";
+            case MAIN_SOURCE_PAUSED       -> "pausiert, neuer Versuch in";
 
             case SETTINGS_CHOOSE_THEME          -> "Design wählen";
             case SETTINGS_CHOOSE_LANG           -> "Sprache wählen";
-            case SETTINGS_JSON_URI_DESC         -> "Die URL zur Datei mit den aktuellen Titelinformationen";
+            case SETTINGS_JSON_URI_DESC         -> "Die URL zur Datei mit den aktuellen Titelinformationen, Spiegel durch Leerzeichen getrennt";
             case SETTINGS_SONG_INFO_FOLDER_DESC -> "Der Ordner, in dem die Titelinfos gespeichert werden sollen";
             case SETTINGS_CHANGE                -> "Ändern";
             case SETTINGS_SONG_REFRESH_RATE     -> "Intervall zwischen den Titelabfragen (in Millisekunden)";
+            case SETTINGS_MAX_FEED_SIZE         -> "Maximale Größe des Feeds (in KiB)";
+            case SETTINGS_API_PORT              -> "Port der lokalen Titel-API (0 = aus)";
             case SETTINGS_REMOVE                -> "Einstellungen löschen";
             case SETTINGS_REMOVE_ERROR          -> "Fehler beim Löschen der Einstellungen aufgetreten";
             case SETTINGS_SAVE_ERROR            -> "Konnte Einstellungen nicht sichern";
@@ -63,6 +66,7 @@ public class German extends Locale {
             case SETTINGS_APPLESCRIPT_ON        -> "Aktiviert";
             case SETTINGS_APPLESCRIPT_ONLY      -> "Alleinig (Internet basierte Erkennung deaktiviert)";
             case SETTINGS_ALLOW_NO_SONG         -> "Kein Titel erkannt anzeigen";
+            case SETTINGS_USE_RELAY             -> "Titelinformationen mit anderen Instanzen teilen (lokales Relay)";
             case SETTINGS_REMOVE_REALLY         -> """
                                                    Sollen die Einstellungen wirklich gelöscht werden?
                                                    Diese Aktion ist nicht widerruflich!
@@ -73,6 +77,18 @@ public class German extends Locale {
             case DARK_MODE_DARK  -> "Dunkel";
             case DARK_MODE_AUTO  -> "Automatisch";
 
+            case ERRORS_CLEAR        -> "Leeren";
+            case ERRORS_SOURCE       -> "Quelle";
+            case ERRORS_CAUSE        -> "Ursache";
+            case ERRORS_RECENT       -> "Letzte Minute";
+            case ERRORS_TOTAL        -> "Insgesamt";
+            case ERRORS_LAST_SEEN    -> "Zuletzt aufgetreten";
+            case ERROR_SOURCE_URL    -> "URL";
+            case ERROR_SOURCE_FEED   -> "Titeldaten";
+            case ERROR_SOURCE_SCRIPT -> "Apple Events";
+            case ERROR_SOURCE_SAVE   -> "Sichern";
+            case ERROR_SOURCE_API    -> "Titel-API";
+
             case INTERNAL_NO_TRACK_RECOGNIZED -> "Kein Titel erkannt!";
             case INTERNAL_SAVE_FOLDER_UNSET   -> "Titelinfo-Ordner nicht gesetzt!";
         };
@@ -1,7 +1,7 @@
 /*
  * iSongs-RadioText - Radio-text part of iSongs.
  *
- * Copyright (C) 2023 - 2024  mhahnFr
+ * Copyright (C) 2023 - 2026  mhahnFr
  *
  * This file is part of the iSongs-RadioText.
  *
@@ -42,6 +42,7 @@ public enum StringID {
     MAIN_UI_STATE_SAVE_ERROR,
     MAIN_UI_CHECK_SETTINGS,
     MAIN_ERROR_HAPPENED,
+    MAIN_SOURCE_PAUSED,
 
     SETTINGS_CHOOSE_THEME,
     SETTINGS_CHOOSE_LANG,
@@ -49,6 +50,8 @@ public enum StringID {
     SETTINGS_SONG_INFO_FOLDER_DESC,
     SETTINGS_CHANGE,
     SETTINGS_SONG_REFRESH_RATE,
+    SETTINGS_MAX_FEED_SIZE,
+    SETTINGS_API_PORT,
     SETTINGS_REMOVE,
     SETTINGS_REMOVE_REALLY,
     SETTINGS_REMOVE_ERROR,
@@ -59,11 +62,24 @@ public enum StringID {
     SETTINGS_APPLESCRIPT_ON,
     SETTINGS_APPLESCRIPT_ONLY,
     SETTINGS_ALLOW_NO_SONG,
+    SETTINGS_USE_RELAY,
 
     DARK_MODE_DARK,
     DARK_MODE_LIGHT,
     DARK_MODE_AUTO,
 
+    ERRORS_CLEAR,
+    ERRORS_SOURCE,
+    ERRORS_CAUSE,
+    ERRORS_RECENT,
+    ERRORS_TOTAL,
+    ERRORS_LAST_SEEN,
+    ERROR_SOURCE_URL,
+    ERROR_SOURCE_FEED,
+    ERROR_SOURCE_SCRIPT,
+    ERROR_SOURCE_SAVE,
+    ERROR_SOURCE_API,
+
     INTERNAL_NO_TRACK_RECOGNIZED,
     INTERNAL_SAVE_FOLDER_UNSET,
 }
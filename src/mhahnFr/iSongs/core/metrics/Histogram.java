@@ -0,0 +1,161 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class represents a log-linear histogram. Each power of two is
+ * divided into {@link #SUB_BUCKETS} linear buckets, giving a relative
+ * error of about three percent. Recording a value does not allocate.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class Histogram {
+    /** The amount of bits used for the linear sub-buckets.             */
+    private static final int SUB_BITS = 5;
+    /** The amount of linear sub-buckets per power of two.              */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /** The highest power of two tracked, larger values are clamped.    */
+    private static final int MAX_EXPONENT = 40;
+    /** The total amount of buckets.                                    */
+    private static final int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BITS + 1) * SUB_BUCKETS;
+
+    /** The counts of the buckets.                                      */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    /** The total amount of recorded values.                            */
+    private final LongAdder count = new LongAdder();
+    /** The sum of all recorded values.                                 */
+    private final LongAdder sum = new LongAdder();
+    /** The largest recorded value.                                     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records the given value. Negative values are recorded as zero.
+     *
+     * @param value the value to be recorded
+     */
+    public void record(final long value) {
+        final var clamped = Math.max(0, value);
+        counts.incrementAndGet(indexOf(clamped));
+        count.increment();
+        sum.add(clamped);
+        max.accumulate(clamped);
+    }
+
+    /**
+     * Returns the amount of recorded values.
+     *
+     * @return the amount of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the arithmetic mean of the recorded values.
+     *
+     * @return the mean value or {@code 0} if no values were recorded
+     */
+    public double getMean() {
+        final var n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the maximum
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value below which the given percentage of the
+     * recorded values fall. The value is exact up to the resolution
+     * of the buckets.
+     *
+     * @param percentile the percentile in the range from {@code 0} to {@code 100}
+     * @return the approximated value at the given percentile
+     */
+    public long getPercentile(final double percentile) {
+        final var total = count.sum();
+        if (total == 0) return 0;
+
+        final var rank = (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            seen += counts.get(i);
+            if (seen >= Math.max(1, rank)) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; ++i) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * Returns the index of the bucket the given value belongs to.
+     *
+     * @param value the non-negative value
+     * @return the index of the bucket
+     */
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final var exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+        final var shift    = exponent - SUB_BITS;
+        final var sub      = (int) Math.min((value >>> shift) - SUB_BUCKETS, SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Returns the highest value belonging to the bucket of the given index.
+     *
+     * @param index the index of the bucket
+     * @return the highest value of the bucket
+     */
+    static long highestValueOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final var shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        final var sub   = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.metrics;
+
+import mhahnFr.iSongs.core.resilience.CircuitBreaker;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * This class contains the metrics singleton of the song recognition
+ * pipeline. The metrics are broken down by station and are exposed
+ * as MXBeans in the domain {@link #DOMAIN}. The MXBeans are registered
+ * in the background, as creating the platform MBean server takes
+ * hundreds of milliseconds, which would otherwise delay the startup.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class PipelineMetrics implements PipelineMetricsMXBean {
+    /** The domain of the registered MXBeans.                 */
+    public static final String DOMAIN = "mhahnFr.iSongs";
+
+    /** The one and only instance of this class.              */
+    private static PipelineMetrics instance;
+    /** The executor registering the MXBeans in order.        */
+    private static final Executor registrar = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("iSongs-jmx").daemon().factory());
+
+    /** The metrics of the stations, mapped by their ID.      */
+    private final Map<String, StationMetrics> stations = new ConcurrentHashMap<>();
+
+    /**
+     * The default constructor. Can only be used internally.
+     */
+    private PipelineMetrics() {
+        register(DOMAIN + ":type=Pipeline", this);
+    }
+
+    /**
+     * Returns the metrics of the given station. If the station has not
+     * been measured yet, its metrics are created and registered.
+     *
+     * @param station the identifier of the station
+     * @return the metrics of the station
+     */
+    public StationMetrics station(final String station) {
+        final var existing = stations.get(station);
+        if (existing != null) {
+            return existing;
+        }
+        return stations.computeIfAbsent(station, id -> {
+            final var metrics = new StationMetrics(id);
+            for (final var stage : Stage.values()) {
+                register(DOMAIN + ":type=Pipeline,station=" + ObjectName.quote(id)
+                                + ",source=" + stage.source + ",stage=" + stage, metrics.get(stage));
+            }
+            register(DOMAIN + ":type=Pipeline,station=" + ObjectName.quote(id) + ",name=Transfer", metrics.getTransfer());
+            return metrics;
+        });
+    }
+
+    /**
+     * Sets the circuit breaker protecting the given source of the given
+     * station. A previously registered breaker of that source is replaced.
+     *
+     * @param station the identifier of the station
+     * @param source  the protected source
+     * @param breaker the circuit breaker
+     */
+    public void setBreaker(final String station, final Stage.Source source, final CircuitBreaker breaker) {
+        station(station).setBreaker(source, breaker);
+        registrar.execute(() -> {
+            try {
+                final var server = ManagementFactory.getPlatformMBeanServer();
+                final var name   = new ObjectName(DOMAIN + ":type=Pipeline,station=" + ObjectName.quote(station)
+                                                         + ",source=" + source + ",name=CircuitBreaker");
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+                server.registerMBean(breaker, name);
+            } catch (final JMException _) {}
+        });
+    }
+
+    @Override
+    public String[] getStations() {
+        return stations.keySet().toArray(String[]::new);
+    }
+
+    @Override
+    public String getSnapshot() {
+        final var builder = new StringBuilder();
+        new TreeMap<>(stations).values().forEach(metrics -> metrics.appendTo(builder));
+        return builder.toString();
+    }
+
+    @Override
+    public void reset() {
+        for (final var metrics : stations.values()) {
+            for (final var stage : Stage.values()) {
+                metrics.get(stage).reset();
+            }
+            metrics.getTransfer().reset();
+        }
+    }
+
+    /**
+     * Registers the given MXBean using the given name in the background.
+     * Errors are ignored, as the metrics are usable without being registered.
+     *
+     * @param name the object name
+     * @param bean the MXBean to be registered
+     */
+    static void register(final String name, final Object bean) {
+        registrar.execute(() -> {
+            try {
+                final var server     = ManagementFactory.getPlatformMBeanServer();
+                final var objectName = new ObjectName(name);
+                if (!server.isRegistered(objectName)) {
+                    server.registerMBean(bean, objectName);
+                }
+            } catch (final JMException _) {}
+        });
+    }
+
+    /**
+     * Returns the one and only instance of this class.
+     * When this method is called for the first time, the
+     * singleton is created.
+     *
+     * @return the one and only {@link PipelineMetrics} instance
+     */
+    public static synchronized PipelineMetrics getInstance() {
+        if (instance == null) {
+            instance = new PipelineMetrics();
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.metrics;
+
+/**
+ * This enumeration contains the measured stages of the song
+ * recognition pipeline.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public enum Stage {
+    /** The download of the JSON feed.          */
+    FETCH(Source.JSON),
+    /** The parsing of the JSON feed.           */
+    PARSE(Source.JSON),
+    /** The execution of the AppleScript.       */
+    SCRIPT(Source.SCRIPT),
+    /** The detection of song changes.          */
+    DETECT(Source.LOADER),
+    /** The saving of a song.                   */
+    SAVE(Source.LOADER);
+
+    /** The source this stage belongs to.       */
+    public final Source source;
+
+    /**
+     * Constructs a stage.
+     *
+     * @param source the source the stage belongs to
+     */
+    Stage(final Source source) {
+        this.source = source;
+    }
+
+    /**
+     * This enumeration contains the sources the stages belong to.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    public enum Source {
+        /** The JSON based song recognition.        */
+        JSON,
+        /** The AppleScript based song recognition. */
+        SCRIPT,
+        /** The loader itself.                      */
+        LOADER
+    }
+}
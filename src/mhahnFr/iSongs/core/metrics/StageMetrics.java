@@ -0,0 +1,107 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class contains the metrics of a single stage of a station.
+ * The latencies are measured in nanoseconds.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class StageMetrics implements StageMetricsMXBean {
+    /** The amount of nanoseconds per millisecond.          */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /** The latencies of the successful executions.         */
+    private final Histogram latency = new Histogram();
+    /** The amount of failed executions.                    */
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Records a successful execution that started at the given time.
+     *
+     * @param startNanos the start time as returned by {@link System#nanoTime()}
+     */
+    public void success(final long startNanos) {
+        latency.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records a failed execution.
+     */
+    public void failure() {
+        failures.increment();
+    }
+
+    /**
+     * Returns the latency histogram.
+     *
+     * @return the histogram of the latencies
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public long getCount() {
+        return latency.getCount();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return latency.getMean() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return latency.getPercentile(50) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP95Millis() {
+        return latency.getPercentile(95) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP99Millis() {
+        return latency.getPercentile(99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return latency.getMax() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        failures.reset();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.metrics;
+
+/**
+ * This interface defines the management interface of the
+ * metrics of a single stage.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public interface StageMetricsMXBean {
+    /**
+     * Returns the amount of successful executions.
+     *
+     * @return the amount of successful executions
+     */
+    long getCount();
+
+    /**
+     * Returns the amount of failed executions.
+     *
+     * @return the amount of failed executions
+     */
+    long getFailures();
+
+    /**
+     * Returns the mean latency in milliseconds.
+     *
+     * @return the mean latency
+     */
+    double getMeanMillis();
+
+    /**
+     * Returns the median latency in milliseconds.
+     *
+     * @return the median latency
+     */
+    double getP50Millis();
+
+    /**
+     * Returns the 95th percentile of the latency in milliseconds.
+     *
+     * @return the 95th percentile
+     */
+    double getP95Millis();
+
+    /**
+     * Returns the 99th percentile of the latency in milliseconds.
+     *
+     * @return the 99th percentile
+     */
+    double getP99Millis();
+
+    /**
+     * Returns the maximal latency in milliseconds.
+     *
+     * @return the maximal latency
+     */
+    double getMaxMillis();
+
+    /**
+     * Removes all measured values.
+     */
+    void reset();
+}
@@ -0,0 +1,163 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class contains the metrics singleton of the startup: the time from
+ * the start of the process until the main window is visible and until the
+ * first song is displayed, and the durations of the tasks run in parallel
+ * meanwhile. Once the first song is displayed, the metrics are logged and
+ * exposed as MXBean in the domain {@link PipelineMetrics#DOMAIN}.
+ * <p>
+ * The instance should be obtained first thing in the main method, as the
+ * entry into it is recorded when the instance is created.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class StartupMetrics implements StartupMetricsMXBean {
+    /** The logger of the startup summary.                   */
+    private static final System.Logger logger = System.getLogger(StartupMetrics.class.getName());
+
+    /** The one and only instance of this class.             */
+    private static StartupMetrics instance;
+
+    /** The monotonic time of entering the main method.      */
+    private final long mainNanos = System.nanoTime();
+    /** The wall-clock time of entering the main method.     */
+    private final long mainWallMillis = System.currentTimeMillis();
+    /** The durations of the startup tasks in nanoseconds.   */
+    private final Map<String, Long> tasks = new ConcurrentHashMap<>();
+    /** The time from the main method to the visible window. */
+    private volatile long windowVisibleNanos = -1;
+    /** The time from the main method to the first song.     */
+    private volatile long firstSongNanos = -1;
+    /** The time from the process start to the main method.  */
+    private volatile long mainMillis = -1;
+
+    /**
+     * The default constructor. Can only be used internally.
+     */
+    private StartupMetrics() {}
+
+    /**
+     * Runs the given startup task, recording its duration under the given
+     * name. Only the first run of a task is recorded.
+     *
+     * @param task     the name of the task
+     * @param runnable the task to be run
+     */
+    public void measure(final String task, final Runnable runnable) {
+        final var start = System.nanoTime();
+        try {
+            runnable.run();
+        } finally {
+            tasks.putIfAbsent(task, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records that the main window has become visible.
+     */
+    public void windowVisible() {
+        if (windowVisibleNanos < 0) {
+            windowVisibleNanos = System.nanoTime() - mainNanos;
+        }
+    }
+
+    /**
+     * Records that the first song has been displayed. Only the first call
+     * is recorded, it logs the metrics and registers the MXBean.
+     */
+    public void firstSong() {
+        if (firstSongNanos >= 0) return;
+
+        synchronized (this) {
+            if (firstSongNanos >= 0) return;
+            firstSongNanos = System.nanoTime() - mainNanos;
+        }
+        PipelineMetrics.register(PipelineMetrics.DOMAIN + ":type=Startup", this);
+        logger.log(System.Logger.Level.INFO,
+                   () -> "Startup: main after " + getMainMillis() + " ms, window visible after "
+                         + getWindowVisibleMillis() + " ms, first song after " + getFirstSongMillis()
+                         + " ms, tasks " + getTaskMillis());
+    }
+
+    /**
+     * Converts the given time since entering the main method to the time
+     * since the start of the process.
+     *
+     * @param nanos the time since entering the main method, negative if not reached
+     * @return the time since the process start in milliseconds or {@code -1}
+     */
+    private long sinceProcessStart(final long nanos) {
+        return nanos < 0 ? -1 : getMainMillis() + TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    @Override
+    public long getMainMillis() {
+        if (mainMillis < 0) {
+            mainMillis = ProcessHandle.current()
+                                      .info()
+                                      .startInstant()
+                                      .map(start -> Math.max(0, mainWallMillis - start.toEpochMilli()))
+                                      .orElse(0L);
+        }
+        return mainMillis;
+    }
+
+    @Override
+    public long getWindowVisibleMillis() {
+        return sinceProcessStart(windowVisibleNanos);
+    }
+
+    @Override
+    public long getFirstSongMillis() {
+        return sinceProcessStart(firstSongNanos);
+    }
+
+    @Override
+    public Map<String, Long> getTaskMillis() {
+        final var result = new TreeMap<String, Long>();
+        tasks.forEach((task, nanos) -> result.put(task, TimeUnit.NANOSECONDS.toMillis(nanos)));
+        return result;
+    }
+
+    /**
+     * Returns the one and only instance of this class.
+     * When this method is called for the first time, the
+     * singleton is created.
+     *
+     * @return the one and only {@link StartupMetrics} instance
+     */
+    public static synchronized StartupMetrics getInstance() {
+        if (instance == null) {
+            instance = new StartupMetrics();
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.metrics;
+
+import java.util.Map;
+
+/**
+ * This interface defines the management interface of the startup metrics.
+ * All points in time are given in milliseconds since the start of the process.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public interface StartupMetricsMXBean {
+    /**
+     * Returns when the main method has been entered.
+     *
+     * @return the time until the main method has been entered
+     */
+    long getMainMillis();
+
+    /**
+     * Returns when the main window has become visible.
+     *
+     * @return the time until the window has become visible, {@code -1} if not yet visible
+     */
+    long getWindowVisibleMillis();
+
+    /**
+     * Returns when the first song has been displayed.
+     *
+     * @return the time until the first song has been displayed, {@code -1} if none yet
+     */
+    long getFirstSongMillis();
+
+    /**
+     * Returns the durations of the tasks run during the startup.
+     *
+     * @return the durations in milliseconds, mapped by the names of the tasks
+     */
+    Map<String, Long> getTaskMillis();
+}
@@ -0,0 +1,239 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.metrics;
+
+import mhahnFr.iSongs.core.resilience.CircuitBreaker;
+import mhahnFr.iSongs.core.text.TextRules;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class contains the metrics of all stages of a station.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class StationMetrics {
+    /** The cached stages.                              */
+    private static final Stage[] stages = Stage.values();
+
+    /** The identifier of the station.                  */
+    private final String station;
+    /** The metrics of the stages, indexed by ordinal.  */
+    private final StageMetrics[] metrics = new StageMetrics[stages.length];
+    /** The amount of recognized song changes.          */
+    private final LongAdder songChanges = new LongAdder();
+    /** The amount of backfilled songs.                 */
+    private final LongAdder backfilled = new LongAdder();
+    /** The amount of entries accepted as music.        */
+    private final LongAdder acceptedEntries = new LongAdder();
+    /** The amount of entries rejected as non-music.    */
+    private final LongAdder rejectedEntries = new LongAdder();
+    /** The metrics of the transfer of the feed.        */
+    private final TransferMetrics transfer = new TransferMetrics();
+    /** The circuit breakers of the sources.            */
+    private final Map<Stage.Source, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    /** The rules recognizing songs in the radio text.  */
+    private volatile TextRules textRules;
+
+    /**
+     * Constructs the metrics of the given station.
+     *
+     * @param station the identifier of the station
+     */
+    StationMetrics(final String station) {
+        this.station = station;
+        for (int i = 0; i < metrics.length; ++i) {
+            metrics[i] = new StageMetrics();
+        }
+    }
+
+    /**
+     * Returns the identifier of the station.
+     *
+     * @return the station identifier
+     */
+    public String getStation() {
+        return station;
+    }
+
+    /**
+     * Returns the metrics of the given stage.
+     *
+     * @param stage the stage
+     * @return the metrics of the stage
+     */
+    public StageMetrics get(final Stage stage) {
+        return metrics[stage.ordinal()];
+    }
+
+    /**
+     * Returns the metrics of the transfer of the feed.
+     *
+     * @return the transfer metrics
+     */
+    public TransferMetrics getTransfer() {
+        return transfer;
+    }
+
+    /**
+     * Returns the circuit breaker protecting the given source.
+     *
+     * @param source the source
+     * @return the circuit breaker or {@code null} if the source is not protected
+     */
+    public CircuitBreaker getBreaker(final Stage.Source source) {
+        return breakers.get(source);
+    }
+
+    /**
+     * Sets the circuit breaker protecting the given source.
+     *
+     * @param source  the source
+     * @param breaker the circuit breaker
+     */
+    void setBreaker(final Stage.Source source, final CircuitBreaker breaker) {
+        breakers.put(source, breaker);
+    }
+
+    /**
+     * Returns the rules recognizing songs in the radio text, counting
+     * their hits.
+     *
+     * @return the rules or {@code null} if not set
+     */
+    public TextRules getTextRules() {
+        return textRules;
+    }
+
+    /**
+     * Sets the rules recognizing songs in the radio text.
+     *
+     * @param textRules the rules
+     */
+    public void setTextRules(final TextRules textRules) {
+        this.textRules = textRules;
+    }
+
+    /**
+     * Counts a recognized song change.
+     */
+    public void songChanged() {
+        songChanges.increment();
+    }
+
+    /**
+     * Returns the amount of recognized song changes.
+     *
+     * @return the amount of song changes
+     */
+    public long getSongChanges() {
+        return songChanges.sum();
+    }
+
+    /**
+     * Counts a song missed during a gap in the polling and backfilled afterward.
+     */
+    public void songBackfilled() {
+        backfilled.increment();
+    }
+
+    /**
+     * Returns the amount of songs missed during gaps in the polling and
+     * backfilled afterward.
+     *
+     * @return the amount of backfilled songs
+     */
+    public long getBackfilledSongs() {
+        return backfilled.sum();
+    }
+
+    /**
+     * Counts a new playlist entry classified as music or as other content.
+     *
+     * @param music whether the entry has been accepted as music
+     */
+    public void entryClassified(final boolean music) {
+        (music ? acceptedEntries : rejectedEntries).increment();
+    }
+
+    /**
+     * Returns the amount of new playlist entries accepted as music.
+     *
+     * @return the amount of accepted entries
+     */
+    public long getAcceptedEntries() {
+        return acceptedEntries.sum();
+    }
+
+    /**
+     * Returns the amount of new playlist entries rejected as other content,
+     * such as jingles, news or advertisements.
+     *
+     * @return the amount of rejected entries
+     */
+    public long getRejectedEntries() {
+        return rejectedEntries.sum();
+    }
+
+    /**
+     * Appends the textual representation of these metrics to the given builder.
+     *
+     * @param builder the builder to append to
+     */
+    void appendTo(final StringBuilder builder) {
+        builder.append(station).append(" (song changes: ").append(getSongChanges())
+               .append(", backfilled: ").append(getBackfilledSongs()).append(")\n");
+        for (final var source : Stage.Source.values()) {
+            builder.append("  ").append(source).append('\n');
+            for (final var stage : stages) {
+                if (stage.source != source) continue;
+
+                final var m = get(stage);
+                builder.append(String.format("    %-7s count=%d failures=%d mean=%.2fms p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms%n",
+                                             stage, m.getCount(), m.getFailures(), m.getMeanMillis(),
+                                             m.getP50Millis(), m.getP95Millis(), m.getP99Millis(), m.getMaxMillis()));
+            }
+            final var breaker = getBreaker(source);
+            if (breaker != null) {
+                builder.append(String.format("    BREAKER state=%s failures=%d retryIn=%dms trips=%d rejected=%d%n",
+                                             breaker.getState(), breaker.getConsecutiveFailures(),
+                                             breaker.getRetryInMillis(), breaker.getTrips(), breaker.getRejected()));
+            }
+        }
+        builder.append(String.format("  ENTRIES accepted=%d rejected=%d%n", getAcceptedEntries(), getRejectedEntries()));
+        final var textRules = this.textRules;
+        if (textRules != null) {
+            builder.append(String.format("  RULES misses=%d%n", textRules.getMisses()));
+            final var rules = textRules.getRules();
+            for (int i = 0; i < rules.size(); ++i) {
+                builder.append(String.format("    %-30s hits=%d%n", rules.get(i), textRules.getHits(i)));
+            }
+        }
+        builder.append(String.format("  TRANSFER responses=%d compressed=%d wire=%dB body=%dB ratio=%.2f cpu=%.1fus inflate=%.1fus%n",
+                                     transfer.getResponses(), transfer.getCompressedResponses(), transfer.getWireBytes(),
+                                     transfer.getBodyBytes(), transfer.getCompressionRatio(),
+                                     transfer.getMeanReadCpuMicros(), transfer.getMeanInflateCpuMicros()));
+    }
+}
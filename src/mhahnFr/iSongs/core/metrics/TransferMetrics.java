@@ -0,0 +1,140 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class contains the metrics of the transfer of the feed of a
+ * station: the transferred and decoded sizes and the CPU time spent
+ * reading and decoding the bodies.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class TransferMetrics implements TransferMetricsMXBean {
+    /** The bean used for measuring the CPU time of a thread.       */
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    /** Whether the CPU time of the current thread can be measured. */
+    private static final boolean cpuTimeSupported = threads.isCurrentThreadCpuTimeSupported();
+
+    /** The amount of responses.                                    */
+    private final LongAdder responses           = new LongAdder();
+    /** The amount of compressed responses.                         */
+    private final LongAdder compressedResponses = new LongAdder();
+    /** The transferred bytes.                                      */
+    private final LongAdder wireBytes           = new LongAdder();
+    /** The decoded bytes.                                          */
+    private final LongAdder bodyBytes           = new LongAdder();
+    /** The transferred bytes of the compressed responses.          */
+    private final LongAdder compressedWire      = new LongAdder();
+    /** The decoded bytes of the compressed responses.              */
+    private final LongAdder compressedBody      = new LongAdder();
+    /** The CPU time spent reading in nanoseconds.                  */
+    private final LongAdder readCpu             = new LongAdder();
+    /** The CPU time spent reading compressed bodies in nanoseconds. */
+    private final LongAdder inflateCpu          = new LongAdder();
+
+    /**
+     * Returns the CPU time of the current thread, to be passed to
+     * {@link #record(long, long, boolean, long)}.
+     *
+     * @return the CPU time in nanoseconds, zero if not supported
+     */
+    public static long cpuTime() {
+        return cpuTimeSupported ? threads.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * Records a received response.
+     *
+     * @param wire       the amount of transferred bytes
+     * @param body       the amount of decoded bytes
+     * @param compressed whether the response was compressed
+     * @param cpuStart   the CPU time of the current thread before reading, as returned by {@link #cpuTime()}
+     */
+    public void record(final long wire, final long body, final boolean compressed, final long cpuStart) {
+        final var cpu = cpuTime() - cpuStart;
+        responses.increment();
+        wireBytes.add(wire);
+        bodyBytes.add(body);
+        readCpu.add(cpu);
+        if (compressed) {
+            compressedResponses.increment();
+            compressedWire.add(wire);
+            compressedBody.add(body);
+            inflateCpu.add(cpu);
+        }
+    }
+
+    @Override
+    public long getResponses() {
+        return responses.sum();
+    }
+
+    @Override
+    public long getCompressedResponses() {
+        return compressedResponses.sum();
+    }
+
+    @Override
+    public long getWireBytes() {
+        return wireBytes.sum();
+    }
+
+    @Override
+    public long getBodyBytes() {
+        return bodyBytes.sum();
+    }
+
+    @Override
+    public double getCompressionRatio() {
+        final var wire = compressedWire.sum();
+        return wire == 0 ? 0 : (double) compressedBody.sum() / wire;
+    }
+
+    @Override
+    public double getMeanReadCpuMicros() {
+        final var count = responses.sum();
+        return count == 0 ? 0 : readCpu.sum() / 1000.0 / count;
+    }
+
+    @Override
+    public double getMeanInflateCpuMicros() {
+        final var count = compressedResponses.sum();
+        return count == 0 ? 0 : inflateCpu.sum() / 1000.0 / count;
+    }
+
+    @Override
+    public void reset() {
+        responses.reset();
+        compressedResponses.reset();
+        wireBytes.reset();
+        bodyBytes.reset();
+        compressedWire.reset();
+        compressedBody.reset();
+        readCpu.reset();
+        inflateCpu.reset();
+    }
+}
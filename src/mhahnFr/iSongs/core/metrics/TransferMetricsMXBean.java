@@ -0,0 +1,87 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.metrics;
+
+/**
+ * This interface defines the management interface of the
+ * transfer metrics of a station.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public interface TransferMetricsMXBean {
+    /**
+     * Returns the amount of received responses.
+     *
+     * @return the amount of responses
+     */
+    long getResponses();
+
+    /**
+     * Returns the amount of received responses that were compressed.
+     *
+     * @return the amount of compressed responses
+     */
+    long getCompressedResponses();
+
+    /**
+     * Returns the amount of bytes received over the network.
+     *
+     * @return the amount of transferred bytes
+     */
+    long getWireBytes();
+
+    /**
+     * Returns the amount of bytes of the decoded bodies.
+     *
+     * @return the amount of body bytes
+     */
+    long getBodyBytes();
+
+    /**
+     * Returns the ratio of the decoded to the transferred bytes of
+     * the compressed responses.
+     *
+     * @return the compression ratio, zero if no compressed response was received
+     */
+    double getCompressionRatio();
+
+    /**
+     * Returns the mean CPU time spent reading and decoding a body in microseconds.
+     *
+     * @return the mean CPU time per body
+     */
+    double getMeanReadCpuMicros();
+
+    /**
+     * Returns the mean CPU time spent reading and decoding a compressed
+     * body in microseconds.
+     *
+     * @return the mean CPU time per compressed body
+     */
+    double getMeanInflateCpuMicros();
+
+    /**
+     * Removes all measured values.
+     */
+    void reset();
+}
@@ -0,0 +1,197 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.relay;
+
+import mhahnFr.iSongs.core.Song;
+import mhahnFr.iSongs.core.Station;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class represents a subscription to the local relay. The songs pushed
+ * by the relay are received in a background thread. If no relay is reachable,
+ * one is started in this process; if the relay disappears, the subscription
+ * is retried with an exponential backoff while the owner polls directly.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class RelayClient implements AutoCloseable {
+    /** The initial delay before reconnecting in milliseconds.          */
+    private static final long MIN_BACKOFF = 1_000;
+    /** The maximum delay before reconnecting in milliseconds.          */
+    private static final long MAX_BACKOFF = 60_000;
+
+    /** The subscribed station.                                         */
+    private final Station station;
+    /** The port of the relay.                                          */
+    private final int port;
+    /** The callback called when a song has been received.              */
+    private final Runnable onChange;
+    /** The thread receiving the songs.                                 */
+    private final Thread thread;
+    /** Whether this subscription is currently connected.               */
+    private volatile boolean connected;
+    /** Whether this subscription has been closed.                      */
+    private volatile boolean closed;
+    /** The last received song.                                         */
+    private volatile Song song;
+
+    /**
+     * Constructs a subscription to the given station.
+     *
+     * @param station  the station
+     * @param port     the port of the relay
+     * @param onChange the callback called when a song has been received
+     */
+    public RelayClient(final Station station, final int port, final Runnable onChange) {
+        this.station  = station;
+        this.port     = port;
+        this.onChange = onChange;
+        this.thread   = Thread.ofVirtual().name("iSongs relay " + station.id()).unstarted(this::run);
+    }
+
+    /**
+     * Starts receiving the songs.
+     */
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Subscribes repeatedly until this subscription is closed.
+     */
+    private void run() {
+        var backoff = MIN_BACKOFF;
+        while (!closed) {
+            try {
+                receive();
+                backoff = MIN_BACKOFF;
+            } catch (final IOException _) {
+                // Retried below, the owner polls directly in the meantime.
+            } finally {
+                connected = false;
+            }
+            if (closed) break;
+
+            try {
+                Thread.sleep(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+            } catch (final InterruptedException _) {
+                break;
+            }
+            backoff = Math.min(MAX_BACKOFF, backoff * 2);
+        }
+    }
+
+    /**
+     * Opens a connection to the relay.
+     *
+     * @return the opened connection
+     * @throws IOException if the relay could not be reached
+     */
+    private HttpURLConnection open() throws IOException {
+        final var url        = URI.create("http://127.0.0.1:" + port + RelayProtocol.PATH + "?" + RelayProtocol.query(station)).toURL();
+        final var connection = (HttpURLConnection) url.openConnection();
+        connection.setConnectTimeout(1_000);
+        connection.setReadTimeout((int) TimeUnit.SECONDS.toMillis(3L * RelayProtocol.HEARTBEAT_SECONDS));
+        connection.setRequestProperty("Accept", "text/event-stream");
+        connection.connect();
+        return connection;
+    }
+
+    /**
+     * Subscribes to the relay and receives the pushed songs until the
+     * connection ends. If no relay is reachable, it is started in this process.
+     *
+     * @throws IOException if the relay could not be reached or the connection failed
+     */
+    private void receive() throws IOException {
+        HttpURLConnection connection;
+        try {
+            connection = open();
+        } catch (final ConnectException e) {
+            if (!RelayServer.ensureRunning(port)) throw e;
+
+            connection = open();
+        }
+        try (final var reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+            connected = true;
+            String event = null;
+            final var data = new StringBuilder();
+            for (String line; !closed && (line = reader.readLine()) != null; ) {
+                if (line.isEmpty()) {
+                    if (RelayProtocol.EVENT.equals(event)) {
+                        song = RelayProtocol.decode(data.toString());
+                        onChange.run();
+                    }
+                    event = null;
+                    data.setLength(0);
+                } else if (line.startsWith("event:")) {
+                    event = line.substring(6).strip();
+                } else if (line.startsWith("data:")) {
+                    if (!data.isEmpty()) {
+                        data.append('\n');
+                    }
+                    data.append(line.substring(5).strip());
+                }
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Returns whether the songs are currently received from the relay.
+     *
+     * @return whether this subscription is connected
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Returns the last song received from the relay.
+     *
+     * @return the last received song, {@code null} if no song is played
+     */
+    public Song getSong() {
+        return song;
+    }
+
+    /**
+     * Closes this subscription. Interrupting the receiving virtual thread
+     * closes its connection as well.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.relay;
+
+import mhahnFr.iSongs.core.Song;
+import mhahnFr.iSongs.core.Station;
+import mhahnFr.iSongs.core.appleScript.ScriptSupport;
+import mhahnFr.iSongs.core.json.JsonReader;
+import mhahnFr.iSongs.core.json.JsonSyntaxException;
+import mhahnFr.iSongs.core.json.JsonWriter;
+import mhahnFr.iSongs.core.text.TextRules;
+import mhahnFr.iSongs.core.timeline.EntryClassifier;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * This class contains the definitions of the protocol spoken between the
+ * relay and its clients. A client subscribes to a station by requesting
+ * {@link #PATH} with the station, including the classification of its
+ * playlist entries, as query; the relay answers with a stream
+ * of {@link #EVENT} events whose data is the current song as JSON object,
+ * or {@code null} if no song is played.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public abstract class RelayProtocol {
+    /** The system property overriding the port of the relay.             */
+    public static final String PORT_PROPERTY = "iSongs.relayPort";
+    /** The default port of the relay.                                     */
+    public static final int DEFAULT_PORT = 48_761;
+    /** The path of the song subscriptions.                                */
+    public static final String PATH = "/songs";
+    /** The name of the events carrying the current song.                  */
+    public static final String EVENT = "song";
+    /** The interval of the keep-alive comments in seconds.                */
+    public static final int HEARTBEAT_SECONDS = 15;
+
+    /** The names of the fields of an encoded song.                        */
+    private static final byte[][] SONG_FIELDS = JsonReader.names("title", "interpreter");
+
+    /**
+     * Returns the port of the relay, as configured by the system property
+     * {@link #PORT_PROPERTY}.
+     *
+     * @return the port of the relay
+     */
+    public static int port() {
+        return Integer.getInteger(PORT_PROPERTY, DEFAULT_PORT);
+    }
+
+    /**
+     * Encodes the given song as data of an event.
+     *
+     * @param song the song, may be {@code null}
+     * @return the encoded song
+     */
+    public static String encode(final Song song) {
+        if (song == null) {
+            return "null";
+        }
+        return new JsonWriter().beginObject()
+                               .name("title").value(song.title())
+                               .name("interpreter").value(song.interpreter())
+                               .endObject()
+                               .toString();
+    }
+
+    /**
+     * Decodes the song encoded in the given event data.
+     *
+     * @param data the event data
+     * @return the decoded song, {@code null} if no song is played
+     * @throws JsonSyntaxException if the data is malformed
+     */
+    public static Song decode(final String data) throws JsonSyntaxException {
+        final var reader = new JsonReader(data.getBytes(StandardCharsets.UTF_8));
+        if (!reader.beginObject()) {
+            return null;
+        }
+        String title = null, interpreter = null;
+        for (int field; (field = reader.nextField(SONG_FIELDS)) != JsonReader.END; ) {
+            switch (field) {
+                case 0  -> title       = reader.readString();
+                case 1  -> interpreter = reader.readString();
+                default -> reader.skipValue();
+            }
+        }
+        return new Song(title, interpreter);
+    }
+
+    /**
+     * Creates the query subscribing to the given station.
+     *
+     * @param station the station
+     * @return the query
+     */
+    public static String query(final Station station) {
+        final var classifier = station.classifier();
+        return "urls=" + encode(String.join(" ", station.urls()))
+             + "&delay=" + station.delay()
+             + "&maxBodySize=" + station.maxBodySize()
+             + "&skipTypes=" + encode(classifier.getRejectedTypes())
+             + "&minDuration=" + classifier.getMinDuration()
+             + "&skipTitles=" + encode(classifier.getTitlePattern())
+             + "&skipArtists=" + encode(classifier.getArtistPattern());
+    }
+
+    /**
+     * Encodes the given value of a query parameter.
+     *
+     * @param value the value
+     * @return the encoded value
+     */
+    private static String encode(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the station subscribed to by the given request URI. The
+     * station is polled by the relay itself, without script support.
+     * The entries of its playlist are classified as requested by the
+     * subscriber, using the default classification for missing parameters.
+     *
+     * @param uri the request URI
+     * @return the subscribed station
+     * @throws IllegalArgumentException if the query is invalid
+     */
+    static Station parse(final URI uri) {
+        final var parameters = new HashMap<String, String>();
+        final var query      = uri.getRawQuery();
+        if (query != null) {
+            for (final var parameter : query.split("&")) {
+                final var index = parameter.indexOf('=');
+                if (index > 0) {
+                    parameters.put(parameter.substring(0, index),
+                                   URLDecoder.decode(parameter.substring(index + 1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        final var urls = parameters.getOrDefault("urls", "").strip();
+        if (urls.isEmpty()) {
+            throw new IllegalArgumentException("No URL given");
+        }
+        final var list = List.of(urls.split("\\s+"));
+        return new Station(list.getFirst(),
+                           list,
+                           Math.max(100, Long.parseLong(parameters.getOrDefault("delay", "1000"))),
+                           ScriptSupport.off,
+                           true,
+                           Integer.parseInt(parameters.getOrDefault("maxBodySize", Integer.toString(Station.DEFAULT_MAX_BODY_SIZE))),
+                           false,
+                           new EntryClassifier(parameters.getOrDefault("skipTypes", EntryClassifier.DEFAULT_TYPES),
+                                               Integer.parseInt(parameters.getOrDefault("minDuration",
+                                                                                        Integer.toString(EntryClassifier.DEFAULT_MIN_DURATION))),
+                                               parameters.getOrDefault("skipTitles", ""),
+                                               parameters.getOrDefault("skipArtists", "")),
+                           new TextRules(TextRules.DEFAULT_RULES));
+    }
+}
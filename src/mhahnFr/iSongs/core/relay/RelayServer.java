@@ -0,0 +1,281 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.relay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import mhahnFr.iSongs.core.InfoLoader;
+import mhahnFr.iSongs.core.Station;
+import mhahnFr.iSongs.core.error.ErrorAggregator;
+import mhahnFr.iSongs.core.feed.FeedSource;
+import mhahnFr.iSongs.core.schedule.ExecutorScheduler;
+import mhahnFr.iSongs.core.schedule.Scheduler;
+import mhahnFr.iSongs.core.timeline.EntryClassifier;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class represents the local relay. It polls the feed of each station
+ * subscribed to once, using an {@link InfoLoader} per station, and pushes
+ * the changes of the recognized song to all subscribers as Server-Sent
+ * Events. The relay only listens on the loopback interface; at most one
+ * relay is started per process.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class RelayServer {
+    /** The amount of events queued for a subscriber.                   */
+    private static final int QUEUE_SIZE = 8;
+    /** The keep-alive comment sent if no event happened.               */
+    private static final byte[] HEARTBEAT = ": keep-alive\n\n".getBytes(StandardCharsets.UTF_8);
+
+    /** The relay started by this process.                              */
+    private static RelayServer instance;
+
+    /** The underlying HTTP server.                                     */
+    private final HttpServer server;
+    /** The executor running the loaders of the stations.               */
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+    /** The scheduler running the loaders of the stations.              */
+    private final Scheduler scheduler = new ExecutorScheduler(executor);
+    /** The executor handling the subscriptions.                        */
+    private final ExecutorService handlers = Executors.newVirtualThreadPerTaskExecutor();
+    /** The aggregator of the errors of the loaders.                    */
+    private final ErrorAggregator errors = new ErrorAggregator(() -> {});
+    /** The channels of the subscribed stations.                        */
+    private final Map<ChannelKey, Channel> channels = new HashMap<>();
+
+    /**
+     * Constructs and starts the relay on the given port of the loopback interface.
+     *
+     * @param port the port
+     * @throws IOException if the port could not be bound
+     */
+    private RelayServer(final int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 64);
+        server.createContext(RelayProtocol.PATH, this::handle);
+        server.setExecutor(handlers);
+        server.start();
+    }
+
+    /**
+     * Makes sure the relay is running in this process, starting it on the
+     * given port if needed.
+     *
+     * @param port the port of the relay
+     * @return whether the relay is running in this process
+     */
+    public static synchronized boolean ensureRunning(final int port) {
+        if (instance == null) {
+            try {
+                instance = new RelayServer(port);
+            } catch (final IOException _) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops the relay running in this process, if any. The subscribers
+     * are disconnected and fall back to polling directly.
+     */
+    public static synchronized void shutdown() {
+        if (instance == null) return;
+
+        final var relay = instance;
+        instance = null;
+        relay.server.stop(0);
+        relay.handlers.shutdownNow();
+        final List<Channel> channels;
+        synchronized (relay) {
+            channels = List.copyOf(relay.channels.values());
+            relay.channels.clear();
+        }
+        channels.forEach(channel -> channel.loader.stop());
+        relay.executor.shutdownNow();
+    }
+
+    /**
+     * Handles a subscription. The current song is sent immediately, the
+     * changes are sent as they happen until the subscriber disconnects.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the response could not be sent
+     */
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final Station station;
+            try {
+                station = RelayProtocol.parse(exchange.getRequestURI());
+            } catch (final IllegalArgumentException _) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+
+            final var queue   = new ArrayBlockingQueue<byte[]>(QUEUE_SIZE);
+            final var channel = subscribe(station, queue);
+            try {
+                final var out = exchange.getResponseBody();
+                while (true) {
+                    final var event = queue.poll(RelayProtocol.HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+                    out.write(event == null ? HEARTBEAT : event);
+                    out.flush();
+                }
+            } catch (final IOException _) {
+                // The subscriber has disconnected.
+            } catch (final InterruptedException _) {
+                Thread.currentThread().interrupt();
+            } finally {
+                unsubscribe(channel, queue);
+            }
+        }
+    }
+
+    /**
+     * Subscribes the given queue to the given station. The loader of the
+     * station is started if it is the first subscription.
+     *
+     * @param station the station
+     * @param queue   the queue of the subscriber
+     * @return the channel of the station
+     */
+    private synchronized Channel subscribe(final Station station, final BlockingQueue<byte[]> queue) {
+        final var key     = new ChannelKey(station.urls(), station.classifier());
+        var       channel = channels.get(key);
+        if (channel == null) {
+            channel = new Channel(key, station);
+            channels.put(key, channel);
+            channel.subscribers.add(queue);
+            channel.loader.start();
+        } else {
+            channel.subscribers.add(queue);
+            final var current = channel.current;
+            if (current != null) {
+                offer(queue, current);
+            }
+        }
+        return channel;
+    }
+
+    /**
+     * Removes the given queue from the given channel. The loader of the
+     * station is stopped if it was the last subscription. The loader is
+     * stopped outside of the monitor of this relay, so the subscriptions
+     * of the other stations are not held up meanwhile.
+     *
+     * @param channel the channel
+     * @param queue   the queue of the subscriber
+     */
+    private void unsubscribe(final Channel channel, final BlockingQueue<byte[]> queue) {
+        synchronized (this) {
+            channel.subscribers.remove(queue);
+            if (!channel.subscribers.isEmpty()) return;
+
+            channels.remove(channel.key);
+        }
+        channel.loader.stop();
+    }
+
+    /**
+     * Queues the given event. If the subscriber is too slow, the queued
+     * events are dropped in favour of the given, newest one.
+     *
+     * @param queue the queue of the subscriber
+     * @param event the event
+     */
+    private static void offer(final BlockingQueue<byte[]> queue, final byte[] event) {
+        while (!queue.offer(event)) {
+            queue.clear();
+        }
+    }
+
+    /**
+     * This record identifies a channel. Subscribers classifying the entries
+     * of the playlist differently receive different songs, so they are
+     * served by separate channels.
+     *
+     * @param urls       the URLs of the feed of the station
+     * @param classifier the classifier of the entries of the playlist
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private record ChannelKey(List<String> urls, EntryClassifier classifier) {}
+
+    /**
+     * This class represents the subscriptions of a station together with
+     * the loader polling its feed.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private final class Channel {
+        /** The key of this channel.                                    */
+        private final ChannelKey key;
+        /** The loader polling the feed of the station.                 */
+        private final InfoLoader loader;
+        /** The queues of the subscribers.                              */
+        private final List<BlockingQueue<byte[]>> subscribers = new CopyOnWriteArrayList<>();
+        /** The event carrying the current song, if recognized yet.     */
+        private volatile byte[] current;
+
+        /**
+         * Constructs the channel of the given station.
+         *
+         * @param key     the key of the channel
+         * @param station the station
+         */
+        Channel(final ChannelKey key, final Station station) {
+            this.key    = key;
+            this.loader = new InfoLoader(() -> station, FeedSource::of, scheduler, this::publish, _ -> {}, _ -> {}, errors);
+        }
+
+        /**
+         * Publishes the song currently recognized by the loader to all subscribers.
+         */
+        private void publish() {
+            final var event = ("event: " + RelayProtocol.EVENT + "\ndata: "
+                               + RelayProtocol.encode(loader.getCurrentSong()) + "\n\n").getBytes(StandardCharsets.UTF_8);
+            current = event;
+            for (final var queue : subscribers) {
+                offer(queue, event);
+            }
+        }
+    }
+}
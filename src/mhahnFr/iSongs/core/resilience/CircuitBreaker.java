@@ -0,0 +1,233 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.resilience;
+
+import mhahnFr.iSongs.core.schedule.Clock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class represents a circuit breaker protecting a single source.
+ * After a given amount of consecutive failures, the breaker opens and
+ * rejects requests for an exponentially growing, jittered backoff. Once
+ * the backoff has elapsed, a single probing request is allowed: if it
+ * succeeds, the breaker closes again, otherwise the backoff is doubled.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class CircuitBreaker implements CircuitBreakerMXBean {
+    /** The logger used for the state transitions.                      */
+    private static final System.Logger logger = System.getLogger(CircuitBreaker.class.getName());
+
+    /** The name of the protected source.                               */
+    private final String name;
+    /** The clock used for measuring the backoff.                       */
+    private final Clock clock;
+    /** The random generator used for the jitter.                       */
+    private final RandomGenerator random;
+    /** The amount of consecutive failures opening the breaker.         */
+    private final int threshold;
+    /** The backoff after the first trip in nanoseconds.                */
+    private final long baseBackoff;
+    /** The maximum backoff in nanoseconds.                             */
+    private final long maxBackoff;
+    /** The current state.                                              */
+    private State state = State.CLOSED;
+    /** The amount of consecutive failures.                             */
+    private int failures;
+    /** The amount of consecutive trips without a successful probe.     */
+    private int attempt;
+    /** The monotonic time until which requests are rejected.           */
+    private long openUntil;
+    /** How often the breaker has been opened.                          */
+    private long trips;
+    /** The amount of rejected requests.                                */
+    private long rejected;
+
+    /**
+     * Constructs a closed circuit breaker.
+     *
+     * @param name        the name of the protected source
+     * @param clock       the clock used for measuring the backoff
+     * @param random      the random generator used for the jitter
+     * @param threshold   the amount of consecutive failures opening the breaker
+     * @param baseBackoff the backoff after the first trip
+     * @param maxBackoff  the maximum backoff
+     * @param unit        the unit of the backoff durations
+     */
+    public CircuitBreaker(final String          name,
+                          final Clock           clock,
+                          final RandomGenerator random,
+                          final int             threshold,
+                          final long            baseBackoff,
+                          final long            maxBackoff,
+                          final TimeUnit        unit) {
+        if (threshold < 1 || baseBackoff < 1 || maxBackoff < baseBackoff) {
+            throw new IllegalArgumentException("Invalid circuit breaker configuration");
+        }
+        this.name        = name;
+        this.clock       = clock;
+        this.random      = random;
+        this.threshold   = threshold;
+        this.baseBackoff = unit.toNanos(baseBackoff);
+        this.maxBackoff  = unit.toNanos(maxBackoff);
+    }
+
+    /**
+     * Returns whether a request to the protected source is allowed. When
+     * the backoff has elapsed, the breaker becomes half-open and allows a
+     * single probing request, whose outcome must be reported.
+     *
+     * @return whether the source may be queried
+     * @see #onSuccess()
+     * @see #onFailure()
+     */
+    public synchronized boolean allowRequest() {
+        switch (state) {
+            case CLOSED -> { return true; }
+            case OPEN -> {
+                if (clock.nanoTime() - openUntil >= 0) {
+                    state = State.HALF_OPEN;
+                    return true;
+                }
+            }
+            case HALF_OPEN -> {}
+        }
+        ++rejected;
+        return false;
+    }
+
+    /**
+     * Reports a successful request. The breaker is closed.
+     */
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            logger.log(System.Logger.Level.INFO, "{0} recovered after {1} failures", name, failures);
+        }
+        close();
+    }
+
+    /**
+     * Reports a failed request. The breaker is opened if the threshold
+     * has been reached or if the probing request failed.
+     */
+    public synchronized void onFailure() {
+        ++failures;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && failures >= threshold)) {
+            final var backoff = nextBackoff();
+            openUntil = clock.nanoTime() + backoff;
+            state     = State.OPEN;
+            ++trips;
+            logger.log(System.Logger.Level.INFO, "{0} opened after {1} failures, retrying in {2} ms",
+                       name, failures, TimeUnit.NANOSECONDS.toMillis(backoff));
+        }
+    }
+
+    /**
+     * Calculates the backoff of the next trip: the base backoff doubled for
+     * each unsuccessful probe, capped at the maximum. The upper half of it is
+     * jittered, so sources failing at the same time do not probe in lockstep.
+     *
+     * @return the backoff in nanoseconds
+     */
+    private long nextBackoff() {
+        final var shift   = Math.min(attempt++, Long.numberOfLeadingZeros(baseBackoff) - 1);
+        final var backoff = Math.min(maxBackoff, baseBackoff << shift);
+        final var half    = backoff / 2;
+        return backoff - half + random.nextLong(half + 1);
+    }
+
+    /**
+     * Closes the breaker and forgets about the previous failures.
+     */
+    private void close() {
+        state    = State.CLOSED;
+        failures = 0;
+        attempt  = 0;
+    }
+
+    /**
+     * Returns the current state of this breaker. An open breaker whose
+     * backoff has elapsed stays open until the next request is made.
+     *
+     * @return the current state
+     */
+    public synchronized State state() {
+        return state;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getState() {
+        return state().name();
+    }
+
+    @Override
+    public synchronized int getConsecutiveFailures() {
+        return failures;
+    }
+
+    @Override
+    public synchronized long getRetryInMillis() {
+        if (state != State.OPEN) return 0;
+
+        return TimeUnit.NANOSECONDS.toMillis(Math.max(0, openUntil - clock.nanoTime()));
+    }
+
+    @Override
+    public synchronized long getTrips() {
+        return trips;
+    }
+
+    @Override
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    @Override
+    public synchronized void reset() {
+        close();
+    }
+
+    /**
+     * This enumeration contains the states of a circuit breaker.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    public enum State {
+        /** Requests are allowed.                                       */
+        CLOSED,
+        /** Requests are rejected until the backoff has elapsed.        */
+        OPEN,
+        /** A single probing request is in flight.                      */
+        HALF_OPEN
+    }
+}
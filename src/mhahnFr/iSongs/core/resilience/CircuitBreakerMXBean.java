@@ -0,0 +1,78 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.resilience;
+
+/**
+ * This interface defines the management interface of a circuit breaker.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public interface CircuitBreakerMXBean {
+    /**
+     * Returns the name of the protected source.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Returns the name of the current state.
+     *
+     * @return the current state
+     * @see CircuitBreaker.State
+     */
+    String getState();
+
+    /**
+     * Returns the amount of consecutive failures of the protected source.
+     *
+     * @return the amount of consecutive failures
+     */
+    int getConsecutiveFailures();
+
+    /**
+     * Returns the time until the next probing request is allowed.
+     *
+     * @return the remaining backoff in milliseconds, zero if not open
+     */
+    long getRetryInMillis();
+
+    /**
+     * Returns how often the breaker has been opened.
+     *
+     * @return the amount of trips
+     */
+    long getTrips();
+
+    /**
+     * Returns the amount of requests rejected while the breaker was open.
+     *
+     * @return the amount of rejected requests
+     */
+    long getRejected();
+
+    /**
+     * Closes the breaker immediately, allowing requests again.
+     */
+    void reset();
+}
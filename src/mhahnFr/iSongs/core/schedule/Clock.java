@@ -0,0 +1,59 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.schedule;
+
+/**
+ * This interface defines a source of the current time.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public interface Clock {
+    /** The clock of the system. */
+    Clock SYSTEM = new Clock() {
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+    };
+
+    /**
+     * Returns the current wall-clock time in milliseconds since the epoch.
+     *
+     * @return the current time
+     * @see System#currentTimeMillis()
+     */
+    long currentTimeMillis();
+
+    /**
+     * Returns the current value of a monotonic time source in nanoseconds.
+     *
+     * @return the monotonic time
+     * @see System#nanoTime()
+     */
+    long nanoTime();
+}
@@ -0,0 +1,52 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.schedule;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class adapts a {@link ScheduledExecutorService} running in real time
+ * to the {@link Scheduler}.
+ *
+ * @param executor the executor running the tasks
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public record ExecutorScheduler(ScheduledExecutorService executor) implements Scheduler {
+    @Override
+    public Clock clock() {
+        return Clock.SYSTEM;
+    }
+
+    @Override
+    public Task schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        final var future = executor.schedule(task, delay, unit);
+        return () -> future.cancel(false);
+    }
+
+    @Override
+    public Task scheduleAtFixedRate(final Runnable task, final long initialDelay, final long period, final TimeUnit unit) {
+        final var future = executor.scheduleAtFixedRate(task, initialDelay, period, unit);
+        return () -> future.cancel(false);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.schedule;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This interface defines a scheduler of the tasks of the song recognition.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public interface Scheduler {
+    /**
+     * This interface defines a scheduled task.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    interface Task {
+        /**
+         * Cancels this task. A currently running execution is not interrupted.
+         */
+        void cancel();
+    }
+
+    /**
+     * Returns the clock defining the time of this scheduler.
+     *
+     * @return the clock of this scheduler
+     */
+    Clock clock();
+
+    /**
+     * Schedules the given task to be run once after the given delay.
+     *
+     * @param task  the task to be run
+     * @param delay the delay
+     * @param unit  the unit of the delay
+     * @return the scheduled task
+     */
+    Task schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * Schedules the given task to be run periodically at a fixed rate.
+     *
+     * @param task         the task to be run
+     * @param initialDelay the delay of the first execution
+     * @param period       the period between the executions
+     * @param unit         the unit of the delay and the period
+     * @return the scheduled task
+     */
+    Task scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit);
+}
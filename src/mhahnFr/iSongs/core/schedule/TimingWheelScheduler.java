@@ -0,0 +1,320 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.schedule;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class implements a {@link Scheduler} using a hashed timing wheel,
+ * suited for thousands of polling timers. A timer is hashed into the slot
+ * of the wheel its due time falls into; timers due more than one turn of
+ * the wheel ahead count down the remaining turns. Scheduling and cancelling
+ * are therefore O(1) regardless of the amount of timers, in contrast to
+ * the binary heap of a {@link java.util.concurrent.ScheduledThreadPoolExecutor}.
+ * <p>
+ * A single ticker thread advances the wheel once per tick and collects
+ * the timers of the current slot as one batch, which is handed to the
+ * worker executor. Timers fire up to one tick late. Periodic tasks are
+ * rescheduled after their execution has finished, so executions of the
+ * same task never overlap; late executions are caught up at the fixed rate.
+ * If a task throws, its subsequent executions are suppressed.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class TimingWheelScheduler implements Scheduler, AutoCloseable {
+    /** The logger of the failing tasks. */
+    private static final System.Logger logger = System.getLogger(TimingWheelScheduler.class.getName());
+
+    /** The slots of the wheel, each the head of a linked list.  */
+    private final Entry[] wheel;
+    /** The mask mapping a tick to its slot.                     */
+    private final int mask;
+    /** The duration of a tick in nanoseconds.                   */
+    private final long tickNanos;
+    /** The executor running the due tasks.                      */
+    private final Executor workers;
+    /** The timers scheduled since the last tick.                */
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    /** The timers cancelled since the last tick.                */
+    private final Queue<Entry> cancelled = new ConcurrentLinkedQueue<>();
+    /** The amount of task executions.                           */
+    private final LongAdder executions = new LongAdder();
+    /** The thread advancing the wheel.                          */
+    private final Thread ticker;
+    /** The monotonic time of the tick zero.                     */
+    private final long startTime;
+    /** The current tick, only accessed by the ticker.           */
+    private long tick;
+    /** Whether this scheduler has been closed.                  */
+    private volatile boolean closed;
+
+    /**
+     * This class represents a timer of a {@link TimingWheelScheduler}.
+     * The links are only accessed by the ticker thread.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private final class Entry implements Task, Runnable {
+        /** The task to be run.                                    */
+        private final Runnable task;
+        /** The period in nanoseconds, zero for one-shot tasks.    */
+        private final long period;
+        /** The due time in nanoseconds.                           */
+        private long due;
+        /** The remaining turns of the wheel until being due.      */
+        private long rounds;
+        /** The linked slot, {@code -1} if not linked.             */
+        private int slot = -1;
+        /** The previous timer in the same slot.                   */
+        private Entry previous;
+        /** The next timer in the same slot.                       */
+        private Entry next;
+        /** Whether this timer has been cancelled.                 */
+        private volatile boolean cancelled;
+
+        /**
+         * Constructs a timer.
+         *
+         * @param task   the task to be run
+         * @param due    the due time in nanoseconds
+         * @param period the period in nanoseconds, zero for one-shot tasks
+         */
+        private Entry(final Runnable task, final long due, final long period) {
+            this.task   = task;
+            this.due    = due;
+            this.period = period;
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                TimingWheelScheduler.this.cancelled.add(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            executions.increment();
+            try {
+                task.run();
+            } catch (final RuntimeException | Error e) {
+                logger.log(System.Logger.Level.WARNING, "Scheduled task failed", e);
+                return;
+            }
+            if (period > 0 && !cancelled) {
+                due += period;
+                pending.add(this);
+            }
+        }
+    }
+
+    /**
+     * Constructs and starts a timing wheel scheduler.
+     *
+     * @param workers   the executor running the due tasks
+     * @param tick      the duration of a tick
+     * @param unit      the unit of the duration
+     * @param wheelSize the amount of slots, rounded up to a power of two
+     */
+    public TimingWheelScheduler(final Executor workers, final long tick, final TimeUnit unit, final int wheelSize) {
+        if (tick <= 0 || wheelSize <= 0 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("Invalid tick or wheel size: " + tick + ", " + wheelSize);
+        }
+        final var size = Integer.highestOneBit(wheelSize - 1) << 1;
+
+        this.wheel     = new Entry[Math.max(1, size)];
+        this.mask      = wheel.length - 1;
+        this.tickNanos = unit.toNanos(tick);
+        this.workers   = workers;
+        this.startTime = System.nanoTime();
+
+        ticker = Thread.ofPlatform().name("iSongs-timing-wheel").daemon().unstarted(this::runTicker);
+        ticker.start();
+    }
+
+    @Override
+    public Clock clock() {
+        return Clock.SYSTEM;
+    }
+
+    @Override
+    public Task schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        return enqueue(task, unit.toNanos(delay), 0);
+    }
+
+    @Override
+    public Task scheduleAtFixedRate(final Runnable task, final long initialDelay, final long period, final TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        return enqueue(task, unit.toNanos(initialDelay), unit.toNanos(period));
+    }
+
+    /**
+     * Enqueues the given task, to be linked into its slot by the ticker.
+     *
+     * @param task   the task to be run
+     * @param delay  the delay in nanoseconds
+     * @param period the period in nanoseconds, zero for one-shot tasks
+     * @return the scheduled task
+     */
+    private Task enqueue(final Runnable task, final long delay, final long period) {
+        if (closed) {
+            throw new RejectedExecutionException("Scheduler closed");
+        }
+        final var entry = new Entry(task, System.nanoTime() + Math.max(0, delay), period);
+        pending.add(entry);
+        return entry;
+    }
+
+    /**
+     * Advances the wheel once per tick until this scheduler is closed.
+     */
+    private void runTicker() {
+        final var batch = new ArrayList<Entry>();
+        while (!closed) {
+            final var deadline = startTime + (tick + 1) * tickNanos;
+            for (var remaining = deadline - System.nanoTime(); remaining > 0 && !closed; remaining = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            if (closed) {
+                break;
+            }
+            unlinkCancelled();
+            linkPending();
+            expire((int) (tick & mask), batch);
+            for (final var entry : batch) {
+                try {
+                    workers.execute(entry);
+                } catch (final RejectedExecutionException e) {
+                    logger.log(System.Logger.Level.WARNING, "Worker rejected a scheduled task", e);
+                }
+            }
+            batch.clear();
+            ++tick;
+        }
+    }
+
+    /**
+     * Links the pending timers into the slots of their due time. Timers
+     * already due are linked into the current slot.
+     */
+    private void linkPending() {
+        for (var entry = pending.poll(); entry != null; entry = pending.poll()) {
+            if (entry.cancelled) {
+                continue;
+            }
+            final var dueTick = Math.max(tick, (entry.due - startTime + tickNanos - 1) / tickNanos - 1);
+            entry.rounds   = (dueTick - tick) / wheel.length;
+            entry.slot     = (int) (dueTick & mask);
+            entry.previous = null;
+            entry.next     = wheel[entry.slot];
+            if (entry.next != null) {
+                entry.next.previous = entry;
+            }
+            wheel[entry.slot] = entry;
+        }
+    }
+
+    /**
+     * Unlinks the cancelled timers from their slots.
+     */
+    private void unlinkCancelled() {
+        for (var entry = cancelled.poll(); entry != null; entry = cancelled.poll()) {
+            if (entry.slot >= 0) {
+                unlink(entry);
+            }
+        }
+    }
+
+    /**
+     * Unlinks the given timer from its slot.
+     *
+     * @param entry the timer to be unlinked
+     */
+    private void unlink(final Entry entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            wheel[entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next     = null;
+        entry.slot     = -1;
+    }
+
+    /**
+     * Collects the timers of the given slot due in the current turn of the
+     * wheel into the given batch, counting down the turns of the others.
+     *
+     * @param slot  the slot to be expired
+     * @param batch the list the due timers are added to
+     */
+    private void expire(final int slot, final ArrayList<Entry> batch) {
+        var entry = wheel[slot];
+        while (entry != null) {
+            final var next = entry.next;
+            if (entry.rounds <= 0) {
+                unlink(entry);
+                batch.add(entry);
+            } else {
+                --entry.rounds;
+            }
+            entry = next;
+        }
+    }
+
+    /**
+     * Returns the amount of task executions so far.
+     *
+     * @return the amount of executions
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * Stops the ticker. Timers not yet due are discarded; the worker
+     * executor is not shut down.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(ticker);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.schedule;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class implements a deterministic {@link Scheduler} running on
+ * a simulated time. The time only moves forward when {@link #advance(long, TimeUnit)}
+ * is called; the tasks due until then are run on the calling thread in
+ * the order of their due time, tasks due at the same time in the order
+ * they have been scheduled in. This way, hours of polling can be run
+ * in milliseconds.
+ * <p>
+ * Tasks may be scheduled from any thread.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class VirtualScheduler implements Scheduler, Clock {
+    /** The scheduled tasks ordered by their due time.       */
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    /** The wall-clock time corresponding to the time zero.  */
+    private final long epochMillis;
+    /** The simulated time in nanoseconds.                   */
+    private volatile long now;
+    /** The sequence number of the next scheduled task.      */
+    private long sequence;
+    /** The number of the task executions so far.            */
+    private long executions;
+
+    /**
+     * This class represents a task scheduled by a {@link VirtualScheduler}.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private static final class Entry implements Task, Comparable<Entry> {
+        /** The task to be run.                                    */
+        private final Runnable task;
+        /** The period in nanoseconds, zero for one-shot tasks.    */
+        private final long period;
+        /** The sequence number used to order simultaneous tasks.  */
+        private long sequence;
+        /** The due time in nanoseconds.                           */
+        private long due;
+        /** Whether this task has been cancelled.                  */
+        private volatile boolean cancelled;
+
+        /**
+         * Constructs a scheduled task.
+         *
+         * @param task     the task to be run
+         * @param due      the due time in nanoseconds
+         * @param period   the period in nanoseconds, zero for one-shot tasks
+         * @param sequence the sequence number
+         */
+        private Entry(final Runnable task, final long due, final long period, final long sequence) {
+            this.task     = task;
+            this.due      = due;
+            this.period   = period;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public int compareTo(final Entry other) {
+            final var result = Long.compare(due, other.due);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Constructs a virtual scheduler whose time zero corresponds to the
+     * given wall-clock time.
+     *
+     * @param epochMillis the wall-clock time of the time zero
+     */
+    public VirtualScheduler(final long epochMillis) {
+        this.epochMillis = epochMillis;
+    }
+
+    @Override
+    public Clock clock() {
+        return this;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return epochMillis + TimeUnit.NANOSECONDS.toMillis(now);
+    }
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    @Override
+    public Task schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        return enqueue(task, unit.toNanos(delay), 0);
+    }
+
+    @Override
+    public Task scheduleAtFixedRate(final Runnable task, final long initialDelay, final long period, final TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        return enqueue(task, unit.toNanos(initialDelay), unit.toNanos(period));
+    }
+
+    /**
+     * Enqueues the given task.
+     *
+     * @param task   the task to be run
+     * @param delay  the delay in nanoseconds
+     * @param period the period in nanoseconds, zero for one-shot tasks
+     * @return the scheduled task
+     */
+    private Task enqueue(final Runnable task, final long delay, final long period) {
+        synchronized (queue) {
+            final var entry = new Entry(task, now + Math.max(0, delay), period, sequence++);
+            queue.add(entry);
+            return entry;
+        }
+    }
+
+    /**
+     * Advances the simulated time by the given amount, running all tasks
+     * becoming due in the meantime. Tasks scheduled by the run tasks are
+     * run as well if they become due within the advanced time. Exceptions
+     * thrown by a task are propagated to the caller.
+     *
+     * @param amount the amount of time to advance
+     * @param unit   the unit of the amount
+     * @return the number of task executions
+     */
+    public long advance(final long amount, final TimeUnit unit) {
+        final var target = now + unit.toNanos(amount);
+        var count = 0L;
+        for (var entry = poll(target); entry != null; entry = poll(target)) {
+            entry.task.run();
+            ++count;
+            if (entry.period > 0 && !entry.cancelled) {
+                synchronized (queue) {
+                    entry.due     += entry.period;
+                    entry.sequence = sequence++;
+                    queue.add(entry);
+                }
+            }
+        }
+        synchronized (queue) {
+            now         = target;
+            executions += count;
+        }
+        return count;
+    }
+
+    /**
+     * Removes the next task due until the given time and advances the
+     * simulated time to its due time.
+     *
+     * @param target the time until which to look for due tasks
+     * @return the next due task or {@code null} if none is due
+     */
+    private Entry poll(final long target) {
+        synchronized (queue) {
+            for (var entry = queue.peek(); entry != null && entry.due <= target; entry = queue.peek()) {
+                queue.poll();
+                if (!entry.cancelled) {
+                    now = entry.due;
+                    return entry;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of scheduled tasks that have not been cancelled.
+     *
+     * @return the number of pending tasks
+     */
+    public int getPending() {
+        synchronized (queue) {
+            return (int) queue.stream().filter(entry -> !entry.cancelled).count();
+        }
+    }
+
+    /**
+     * Returns the number of task executions so far.
+     *
+     * @return the number of executions
+     */
+    public long getExecutions() {
+        synchronized (queue) { return executions; }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.shard;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * This interface defines the coordination of the members sharing the
+ * stations. A member stays live as long as it renews its lease regularly.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public interface Coordinator {
+    /**
+     * Renews the lease of the given member, joining it if necessary.
+     *
+     * @param member the name of the member
+     * @throws IOException if the lease could not be renewed
+     */
+    void renew(String member) throws IOException;
+
+    /**
+     * Returns the names of the currently live members.
+     *
+     * @return the live members
+     * @throws IOException if the members could not be determined
+     */
+    Set<String> members() throws IOException;
+
+    /**
+     * Removes the given member immediately instead of waiting for its
+     * lease to expire.
+     *
+     * @param member the name of the member
+     * @throws IOException if the lease could not be removed
+     */
+    void leave(String member) throws IOException;
+}
@@ -0,0 +1,134 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.shard;
+
+import mhahnFr.iSongs.core.schedule.Clock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * This class represents a coordinator keeping the leases of the members as
+ * files in a directory shared by the members, such as a local or network
+ * folder. A lease file contains the time in milliseconds since the epoch
+ * until which the member is considered live; it is replaced atomically when
+ * renewed. Leases that have been expired for another lease duration are
+ * removed by the other members, so a member renewing late is not removed.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class DirectoryCoordinator implements Coordinator {
+    /** The suffix of the lease files.                  */
+    private static final String SUFFIX = ".lease";
+    /** The pattern of the valid member names.          */
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    /** The directory containing the lease files.       */
+    private final Path directory;
+    /** The clock the leases are measured with.         */
+    private final Clock clock;
+    /** The duration of a lease in milliseconds.        */
+    private final long leaseMillis;
+
+    /**
+     * Constructs this coordinator. The directory is created if necessary.
+     *
+     * @param directory the directory shared by the members
+     * @param clock     the clock the leases are measured with
+     * @param lease     the duration of a lease
+     * @param unit      the unit of the duration
+     * @throws IOException if the directory could not be created
+     */
+    public DirectoryCoordinator(final Path     directory,
+                                final Clock    clock,
+                                final long     lease,
+                                final TimeUnit unit) throws IOException {
+        this.directory   = Files.createDirectories(directory);
+        this.clock       = clock;
+        this.leaseMillis = unit.toMillis(lease);
+    }
+
+    /**
+     * Returns the lease file of the given member.
+     *
+     * @param member the name of the member
+     * @return the path of the lease file
+     */
+    private Path leaseFile(final String member) {
+        if (!NAME.matcher(member).matches()) {
+            throw new IllegalArgumentException("Invalid member name: " + member);
+        }
+        return directory.resolve(member + SUFFIX);
+    }
+
+    @Override
+    public void renew(final String member) throws IOException {
+        final var file = leaseFile(member);
+        final var temp = Files.createTempFile(directory, member, ".tmp");
+        try {
+            Files.writeString(temp, Long.toString(clock.currentTimeMillis() + leaseMillis), StandardCharsets.US_ASCII);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Set<String> members() throws IOException {
+        final var now     = clock.currentTimeMillis();
+        final var members = new HashSet<String>();
+        try (final var files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (final var file : files) {
+                final var name = file.getFileName().toString();
+                final long expiry;
+                try {
+                    expiry = Long.parseLong(Files.readString(file, StandardCharsets.US_ASCII).trim());
+                } catch (final NoSuchFileException _) {
+                    continue;
+                } catch (final NumberFormatException _) {
+                    // Written by something else than a member, ignored.
+                    continue;
+                }
+                if (expiry > now) {
+                    members.add(name.substring(0, name.length() - SUFFIX.length()));
+                } else if (expiry + leaseMillis < now) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        return members;
+    }
+
+    @Override
+    public void leave(final String member) throws IOException {
+        Files.deleteIfExists(leaseFile(member));
+    }
+}
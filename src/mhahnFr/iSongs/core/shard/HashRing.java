@@ -0,0 +1,135 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * This class represents a consistent hash ring assigning keys to members.
+ * Every member is placed onto the ring several times as virtual nodes, so
+ * that the keys are spread evenly and only the keys of a joining or leaving
+ * member move. Instances are immutable.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class HashRing {
+    /** The default amount of virtual nodes per member. */
+    public static final int DEFAULT_VIRTUAL_NODES = 128;
+
+    /** The sorted positions of the virtual nodes.       */
+    private final long[] positions;
+    /** The members owning the virtual nodes.            */
+    private final String[] owners;
+
+    /**
+     * Constructs a hash ring using the default amount of virtual nodes.
+     *
+     * @param members the members to be placed onto the ring
+     */
+    public HashRing(final Collection<String> members) {
+        this(members, DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * Constructs a hash ring.
+     *
+     * @param members      the members to be placed onto the ring
+     * @param virtualNodes the amount of virtual nodes per member
+     */
+    public HashRing(final Collection<String> members, final int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("At least one virtual node is required");
+        }
+        final var sorted = members.stream().distinct().sorted().toArray(String[]::new);
+        final var nodes  = new long[sorted.length * virtualNodes][];
+        int i = 0;
+        for (final var member : sorted) {
+            for (int j = 0; j < virtualNodes; ++j, ++i) {
+                nodes[i] = new long[] { hash(member + '#' + j), i / virtualNodes };
+            }
+        }
+        Arrays.sort(nodes, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+        positions = new long[nodes.length];
+        owners    = new String[nodes.length];
+        for (int j = 0; j < nodes.length; ++j) {
+            positions[j] = nodes[j][0];
+            owners[j]    = sorted[(int) nodes[j][1]];
+        }
+    }
+
+    /**
+     * Returns the member owning the given key, which is the member of the
+     * first virtual node at or after the position of the key.
+     *
+     * @param key the key
+     * @return the owning member or {@code null} if the ring is empty
+     */
+    public String owner(final String key) {
+        if (positions.length == 0) {
+            return null;
+        }
+        var index = Arrays.binarySearch(positions, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        } else {
+            while (index > 0 && positions[index - 1] == positions[index]) {
+                --index;
+            }
+        }
+        return owners[index == positions.length ? 0 : index];
+    }
+
+    /**
+     * Returns whether no member is placed onto this ring.
+     *
+     * @return whether this ring is empty
+     */
+    public boolean isEmpty() {
+        return positions.length == 0;
+    }
+
+    /**
+     * Hashes the given key using FNV-1a, finalized by the mixing function of
+     * MurmurHash3 to spread similar keys such as {@code station1} and
+     * {@code station2} over the whole ring.
+     *
+     * @param key the key to be hashed
+     * @return the position of the key on the ring
+     */
+    static long hash(final String key) {
+        var hash = 0xcbf29ce484222325L;
+        for (final var b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.shard;
+
+import mhahnFr.iSongs.core.Callback;
+import mhahnFr.iSongs.core.InfoLoader;
+import mhahnFr.iSongs.core.Station;
+import mhahnFr.iSongs.core.schedule.Scheduler;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * This class represents the polling of the share of the stations assigned
+ * to this member. The stations are assigned by a {@link HashRing} over the
+ * live members of the {@link Coordinator}; whenever they change, the
+ * loaders of the stations gained are started and the ones of the stations
+ * lost are stopped.
+ * <p>
+ * If the coordinator cannot be reached, the current assignment is kept.
+ * A station may therefore be polled twice for a while, but is never left
+ * unpolled because of a failing coordinator.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class ShardedPoller implements AutoCloseable {
+    /** The logger of the rebalances. */
+    private static final System.Logger logger = System.getLogger(ShardedPoller.class.getName());
+
+    /** The name of this member.                               */
+    private final String member;
+    /** The coordinator of the members.                        */
+    private final Coordinator coordinator;
+    /** The stations shared by the members.                    */
+    private final List<Station> stations;
+    /** The factory creating the loader of a station.          */
+    private final Function<Station, InfoLoader> loaderFactory;
+    /** The scheduler renewing the lease.                      */
+    private final Scheduler scheduler;
+    /** The interval of the lease renewals in milliseconds.    */
+    private final long intervalMillis;
+    /** The callback called with the owned stations.           */
+    private final Callback<Set<String>> rebalanceListener;
+    /** The running loaders, mapped by their station.         */
+    private final Map<String, InfoLoader> running = new HashMap<>();
+    /** The live members of the current assignment.            */
+    private Set<String> members = Set.of();
+    /** The task renewing the lease.                           */
+    private Scheduler.Task task;
+    /** The amount of rebalances.                              */
+    private long rebalances;
+
+    /**
+     * Constructs this sharded poller. The interval of the lease renewals
+     * should be well below the lease duration of the coordinator.
+     *
+     * @param member            the name of this member
+     * @param coordinator       the coordinator of the members
+     * @param stations          the stations shared by the members
+     * @param loaderFactory     the factory creating the loader of a station
+     * @param scheduler         the scheduler renewing the lease
+     * @param interval          the interval of the lease renewals
+     * @param unit              the unit of the interval
+     * @param rebalanceListener the callback called with the owned stations after rebalancing
+     */
+    public ShardedPoller(final String                        member,
+                         final Coordinator                   coordinator,
+                         final List<Station>                 stations,
+                         final Function<Station, InfoLoader> loaderFactory,
+                         final Scheduler                     scheduler,
+                         final long                          interval,
+                         final TimeUnit                      unit,
+                         final Callback<Set<String>>         rebalanceListener) {
+        this.member            = member;
+        this.coordinator       = coordinator;
+        this.stations          = List.copyOf(stations);
+        this.loaderFactory     = loaderFactory;
+        this.scheduler         = scheduler;
+        this.intervalMillis    = unit.toMillis(interval);
+        this.rebalanceListener = rebalanceListener;
+    }
+
+    /**
+     * Joins the members and starts polling the assigned stations.
+     */
+    public synchronized void start() {
+        if (task == null) {
+            task = scheduler.scheduleAtFixedRate(this::renew, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Renews the lease of this member and rebalances the stations if the
+     * live members have changed.
+     */
+    private synchronized void renew() {
+        if (task == null) {
+            return;
+        }
+        final Set<String> live;
+        try {
+            coordinator.renew(member);
+            live = new HashSet<>(coordinator.members());
+        } catch (final IOException e) {
+            logger.log(System.Logger.Level.WARNING, "Coordinator unavailable, keeping " + running.size() + " stations", e);
+            return;
+        }
+        live.add(member);
+        if (!live.equals(members)) {
+            members = Set.copyOf(live);
+            rebalance();
+        }
+    }
+
+    /**
+     * Assigns the stations to the current members, starting and stopping
+     * the loaders of the stations gained and lost by this member.
+     */
+    private void rebalance() {
+        final var ring  = new HashRing(members);
+        final var owned = new HashSet<String>();
+        for (final var station : stations) {
+            if (member.equals(ring.owner(station.id())) && owned.add(station.id()) && !running.containsKey(station.id())) {
+                final var loader = loaderFactory.apply(station);
+                running.put(station.id(), loader);
+                loader.start();
+            }
+        }
+        final var iterator = running.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            if (!owned.contains(entry.getKey())) {
+                entry.getValue().stop();
+                iterator.remove();
+            }
+        }
+        ++rebalances;
+        logger.log(System.Logger.Level.INFO, "{0} owns {1} of {2} stations with {3} members",
+                   member, owned.size(), stations.size(), members.size());
+        rebalanceListener.update(Set.copyOf(owned));
+    }
+
+    /**
+     * Returns the identifiers of the stations currently polled by this member.
+     *
+     * @return the owned stations
+     */
+    public synchronized Set<String> getOwned() {
+        return Set.copyOf(running.keySet());
+    }
+
+    /**
+     * Returns the live members of the current assignment.
+     *
+     * @return the members
+     */
+    public synchronized Set<String> getMembers() {
+        return members;
+    }
+
+    /**
+     * Returns the amount of rebalances since the start.
+     *
+     * @return the amount of rebalances
+     */
+    public synchronized long getRebalances() {
+        return rebalances;
+    }
+
+    /**
+     * Stops polling and leaves the members, so that the stations are taken
+     * over without waiting for the lease to expire.
+     */
+    @Override
+    public synchronized void close() {
+        if (task == null) {
+            return;
+        }
+        task.cancel();
+        task = null;
+        running.values().forEach(InfoLoader::stop);
+        running.clear();
+        members = Set.of();
+        try {
+            coordinator.leave(member);
+        } catch (final IOException e) {
+            logger.log(System.Logger.Level.WARNING, "Could not leave the members", e);
+        }
+    }
+}
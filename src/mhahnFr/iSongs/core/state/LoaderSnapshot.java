@@ -0,0 +1,163 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.state;
+
+import mhahnFr.iSongs.core.Song;
+import mhahnFr.iSongs.core.feed.Validators;
+import mhahnFr.iSongs.core.json.JsonReader;
+import mhahnFr.iSongs.core.json.JsonSyntaxException;
+import mhahnFr.iSongs.core.json.JsonWriter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This record represents a snapshot of the state of the loader of a
+ * station: the displayed song, the songs used for detecting changes and
+ * the validators of the last response of the feed. It is encoded as a
+ * compact JSON object.
+ *
+ * @param station         the identifier of the station
+ * @param current         the displayed song, {@code null} if none
+ * @param previous        the previously displayed song, {@code null} if none
+ * @param lastJson        the song last recognized in the feed, {@code null} if none
+ * @param lastScript      the song last recognized by the script, {@code null} if none
+ * @param newestStartTime the start time of the newest song seen in mirrored feeds
+ * @param lastStartTime   the start time of the song last recognized in the feed
+ * @param validators      the validators of the last response of the feed
+ * @param time            the time the snapshot has been taken at in milliseconds since the epoch
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public record LoaderSnapshot(String     station,
+                             Song       current,
+                             Song       previous,
+                             Song       lastJson,
+                             Song       lastScript,
+                             long       newestStartTime,
+                             long       lastStartTime,
+                             Validators validators,
+                             long       time) {
+    /** The names of the fields of a snapshot. */
+    private static final byte[][] FIELDS = JsonReader.names("station", "time", "current", "previous", "lastJson",
+                                                            "lastScript", "newestStartTime", "etag", "lastModified",
+                                                            "lastStartTime");
+    /** The names of the fields of a song.     */
+    private static final byte[][] SONG_FIELDS = JsonReader.names("title", "interpreter");
+
+    /**
+     * Encodes this snapshot.
+     *
+     * @return the JSON representation
+     */
+    public String encode() {
+        final var writer = new JsonWriter().beginObject()
+                                           .name("station").value(station)
+                                           .name("time").value(time);
+        writeSong(writer.name("current"), current);
+        writeSong(writer.name("previous"), previous);
+        writeSong(writer.name("lastJson"), lastJson);
+        writeSong(writer.name("lastScript"), lastScript);
+        writer.name("newestStartTime").value(newestStartTime);
+        writer.name("lastStartTime").value(lastStartTime);
+        if (validators.etag() != null) {
+            writer.name("etag").value(validators.etag());
+        }
+        if (validators.lastModified() != null) {
+            writer.name("lastModified").value(validators.lastModified());
+        }
+        return writer.endObject().toString();
+    }
+
+    /**
+     * Writes the given song.
+     *
+     * @param writer the writer to write to
+     * @param song   the song, {@code null} if none
+     */
+    private static void writeSong(final JsonWriter writer, final Song song) {
+        if (song == null) {
+            writer.nullValue();
+        } else {
+            writer.beginObject()
+                  .name("title").value(song.title())
+                  .name("interpreter").value(song.interpreter())
+                  .endObject();
+        }
+    }
+
+    /**
+     * Decodes the given snapshot.
+     *
+     * @param data the JSON representation
+     * @return the decoded snapshot, {@code null} if the data is {@code null}
+     * @throws JsonSyntaxException if the data is malformed
+     */
+    public static LoaderSnapshot decode(final String data) throws JsonSyntaxException {
+        final var reader = new JsonReader(data.getBytes(StandardCharsets.UTF_8));
+        if (!reader.beginObject()) {
+            return null;
+        }
+        String station = null, etag = null, lastModified = null;
+        Song   current = null, previous = null, lastJson = null, lastScript = null;
+        long   time    = 0, newestStartTime = Long.MIN_VALUE, lastStartTime = Long.MIN_VALUE;
+        for (int field; (field = reader.nextField(FIELDS)) != JsonReader.END; ) {
+            switch (field) {
+                case 0  -> station         = reader.readString();
+                case 1  -> time            = reader.readLong();
+                case 2  -> current         = readSong(reader);
+                case 3  -> previous        = readSong(reader);
+                case 4  -> lastJson        = readSong(reader);
+                case 5  -> lastScript      = readSong(reader);
+                case 6  -> newestStartTime = reader.readLong();
+                case 7  -> etag            = reader.readString();
+                case 8  -> lastModified    = reader.readString();
+                case 9  -> lastStartTime   = reader.readLong();
+                default -> reader.skipValue();
+            }
+        }
+        final var validators = etag == null && lastModified == null ? Validators.NONE : new Validators(etag, lastModified);
+        return new LoaderSnapshot(station, current, previous, lastJson, lastScript, newestStartTime, lastStartTime, validators,
+                                  time);
+    }
+
+    /**
+     * Reads a song.
+     *
+     * @param reader the reader to read from
+     * @return the read song, {@code null} if the value is {@code null}
+     * @throws JsonSyntaxException if the data is malformed
+     */
+    private static Song readSong(final JsonReader reader) throws JsonSyntaxException {
+        if (!reader.beginObject()) {
+            return null;
+        }
+        String title = null, interpreter = null;
+        for (int field; (field = reader.nextField(SONG_FIELDS)) != JsonReader.END; ) {
+            switch (field) {
+                case 0  -> title       = reader.readString();
+                case 1  -> interpreter = reader.readString();
+                default -> reader.skipValue();
+            }
+        }
+        return new Song(title, interpreter);
+    }
+}
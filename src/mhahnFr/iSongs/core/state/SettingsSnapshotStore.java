@@ -0,0 +1,92 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.state;
+
+import mhahnFr.iSongs.core.json.JsonSyntaxException;
+import mhahnFr.iSongs.core.store.SettingsStore;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * This class represents a {@link SnapshotStore} keeping the snapshots in
+ * a node of the {@link SettingsStore}, one entry per station. As the
+ * identifiers of the stations may exceed the maximum length of a key, the
+ * entries are keyed by a name based UUID of the identifier. The
+ * settings are written to their backing storage in the background and
+ * when the application exits.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class SettingsSnapshotStore implements SnapshotStore {
+    /** The node containing the snapshots. */
+    private final SettingsStore node;
+
+    /**
+     * Constructs this store.
+     *
+     * @param node the node containing the snapshots
+     */
+    public SettingsSnapshotStore(final SettingsStore node) {
+        this.node = node;
+    }
+
+    /**
+     * Returns the key of the snapshot of the given station.
+     *
+     * @param station the identifier of the station
+     * @return the key
+     */
+    private static String key(final String station) {
+        return UUID.nameUUIDFromBytes(station.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    @Override
+    public LoaderSnapshot load(final String station) {
+        try {
+            final var data = node.get(key(station), null);
+            if (data == null) {
+                return null;
+            }
+            final var snapshot = LoaderSnapshot.decode(data);
+            return snapshot != null && station.equals(snapshot.station()) ? snapshot : null;
+        } catch (final JsonSyntaxException | IllegalStateException _) {
+            return null;
+        }
+    }
+
+    @Override
+    public void save(final LoaderSnapshot snapshot) {
+        final var data = snapshot.encode();
+        if (data.length() > SettingsStore.MAX_VALUE_LENGTH) return;
+
+        try {
+            final var key = key(snapshot.station());
+            if (!data.equals(node.get(key, null))) {
+                node.put(key, data);
+            }
+        } catch (final IllegalStateException _) {
+            // The node has been removed together with the settings.
+        }
+    }
+}
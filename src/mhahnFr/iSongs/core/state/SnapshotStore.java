@@ -0,0 +1,58 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.state;
+
+/**
+ * This interface defines a store of the {@link LoaderSnapshot}s of the
+ * stations. Stores are best effort: failures are swallowed, as the song
+ * recognition works without a snapshot as well.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public interface SnapshotStore {
+    /** The store not storing anything. */
+    SnapshotStore NONE = new SnapshotStore() {
+        @Override
+        public LoaderSnapshot load(final String station) {
+            return null;
+        }
+
+        @Override
+        public void save(final LoaderSnapshot snapshot) {}
+    };
+
+    /**
+     * Loads the snapshot of the given station.
+     *
+     * @param station the identifier of the station
+     * @return the snapshot or {@code null} if none is available
+     */
+    LoaderSnapshot load(String station);
+
+    /**
+     * Saves the given snapshot, replacing the previous one of its station.
+     *
+     * @param snapshot the snapshot to be saved
+     */
+    void save(LoaderSnapshot snapshot);
+}
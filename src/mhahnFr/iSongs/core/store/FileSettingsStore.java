@@ -0,0 +1,305 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.store;
+
+import mhahnFr.iSongs.core.json.JsonReader;
+import mhahnFr.iSongs.core.json.JsonSyntaxException;
+import mhahnFr.iSongs.core.json.JsonWriter;
+import mhahnFr.iSongs.core.schedule.Scheduler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class represents a {@link SettingsStore} kept in a compact JSON file.
+ * The file is read once when opening the store; afterwards, all reads are
+ * served from memory. Changes are written in the background after the
+ * write delay, coalescing all changes made meanwhile into a single write.
+ * The file is replaced atomically, so it is never left half-written.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class FileSettingsStore implements SettingsStore {
+    /** The logger of the failed background writes. */
+    private static final System.Logger logger = System.getLogger(FileSettingsStore.class.getName());
+
+    /** The state shared by the nodes of a file.    */
+    private final Backing backing;
+    /** The node represented by this instance.      */
+    private final Node node;
+    /** The parent node, {@code null} for the root. */
+    private final Node parent;
+    /** The name of this node within its parent.    */
+    private final String name;
+
+    /**
+     * This class represents a node of a settings file.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private static final class Node {
+        /** The values of this node.         */
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        /** The child nodes, mapped by name. */
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * This class contains the state shared by the nodes of a settings file.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private static final class Backing {
+        /** The settings file.                                      */
+        private final Path file;
+        /** The scheduler running the delayed writes.               */
+        private final Scheduler scheduler;
+        /** The delay of the writes in milliseconds.                */
+        private final long delayMillis;
+        /** The root node.                                          */
+        private final Node root = new Node();
+        /** Whether the file existed when opening the store.        */
+        private final boolean existed;
+        /** The scheduled write, {@code null} if none is pending.   */
+        private Scheduler.Task pending;
+        /** Whether changes have been made since the last write.    */
+        private boolean dirty;
+
+        /**
+         * Constructs the shared state, reading the given file if it exists.
+         *
+         * @param file        the settings file
+         * @param scheduler   the scheduler running the delayed writes
+         * @param delayMillis the delay of the writes in milliseconds
+         * @throws IOException if the file could not be read
+         */
+        private Backing(final Path file, final Scheduler scheduler, final long delayMillis) throws IOException {
+            this.file        = file;
+            this.scheduler   = scheduler;
+            this.delayMillis = delayMillis;
+            this.existed     = Files.exists(file);
+            if (existed) {
+                try {
+                    if (new JsonReader(Files.readAllBytes(file)).readValue() instanceof Map<?, ?> map) {
+                        read(map, root);
+                    }
+                } catch (final JsonSyntaxException e) {
+                    throw new IOException("Malformed settings file " + file, e);
+                }
+            }
+        }
+
+        /**
+         * Reads the given decoded node into the given node.
+         *
+         * @param map  the decoded node
+         * @param node the node to read into
+         */
+        private static void read(final Map<?, ?> map, final Node node) {
+            if (map.get("values") instanceof Map<?, ?> values) {
+                values.forEach((key, value) -> {
+                    if (value instanceof String string) {
+                        node.values.put((String) key, string);
+                    }
+                });
+            }
+            if (map.get("nodes") instanceof Map<?, ?> children) {
+                children.forEach((key, value) -> {
+                    if (value instanceof Map<?, ?> child) {
+                        read(child, node.children.computeIfAbsent((String) key, _ -> new Node()));
+                    }
+                });
+            }
+        }
+
+        /**
+         * Writes the given node.
+         *
+         * @param writer the writer to write to
+         * @param node   the node to be written
+         */
+        private static void write(final JsonWriter writer, final Node node) {
+            writer.beginObject();
+            if (!node.values.isEmpty()) {
+                writer.name("values").beginObject();
+                new TreeMap<>(node.values).forEach((key, value) -> writer.name(key).value(value));
+                writer.endObject();
+            }
+            if (!node.children.isEmpty()) {
+                writer.name("nodes").beginObject();
+                new TreeMap<>(node.children).forEach((key, child) -> write(writer.name(key), child));
+                writer.endObject();
+            }
+            writer.endObject();
+        }
+
+        /**
+         * Marks the store as changed and schedules a write unless one is
+         * already pending.
+         */
+        private synchronized void changed() {
+            dirty = true;
+            if (pending == null) {
+                pending = scheduler.schedule(this::writeInBackground, delayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * Writes the file in the background, logging failures.
+         */
+        private void writeInBackground() {
+            try {
+                flush();
+            } catch (final IOException e) {
+                logger.log(System.Logger.Level.WARNING, "Could not write the settings to " + file, e);
+            }
+        }
+
+        /**
+         * Writes the pending changes, if any, to the file.
+         *
+         * @throws IOException if the file could not be written
+         */
+        private synchronized void flush() throws IOException {
+            if (pending != null) {
+                pending.cancel();
+                pending = null;
+            }
+            if (!dirty) return;
+
+            final var writer = new JsonWriter();
+            write(writer, root);
+            final var parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            final var temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try {
+                Files.writeString(temp, writer.toString(), StandardCharsets.UTF_8);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            dirty = false;
+        }
+    }
+
+    /**
+     * Opens the store kept in the given file. If the file does not exist
+     * yet, it is created with the first write.
+     *
+     * @param file      the settings file
+     * @param scheduler the scheduler running the delayed writes
+     * @param delay     the delay of the writes
+     * @param unit      the unit of the delay
+     * @throws IOException if the file exists but could not be read
+     */
+    public FileSettingsStore(final Path      file,
+                             final Scheduler scheduler,
+                             final long      delay,
+                             final TimeUnit  unit) throws IOException {
+        this(new Backing(file, scheduler, unit.toMillis(delay)), null, null);
+    }
+
+    /**
+     * Constructs a view of the given node.
+     *
+     * @param backing the state shared by the nodes of the file
+     * @param parent  the parent node, {@code null} for the root
+     * @param name    the name of the node within its parent, {@code null} for the root
+     */
+    private FileSettingsStore(final Backing backing, final Node parent, final String name) {
+        this.backing = backing;
+        this.parent  = parent;
+        this.name    = name;
+        this.node    = parent == null ? backing.root : parent.children.computeIfAbsent(name, _ -> new Node());
+    }
+
+    /**
+     * Returns whether the settings file existed when this store was opened.
+     * If not, the store can be populated from another one.
+     *
+     * @return whether the file existed
+     */
+    public boolean existed() {
+        return backing.existed;
+    }
+
+    @Override
+    public String get(final String key, final String defaultValue) {
+        return node.values.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public void put(final String key, final String value) {
+        if (!value.equals(node.values.put(key, value))) {
+            backing.changed();
+        }
+    }
+
+    @Override
+    public void remove(final String key) {
+        if (node.values.remove(key) != null) {
+            backing.changed();
+        }
+    }
+
+    @Override
+    public Set<String> keys() {
+        return Set.copyOf(node.values.keySet());
+    }
+
+    @Override
+    public SettingsStore node(final String name) {
+        return new FileSettingsStore(backing, node, name);
+    }
+
+    @Override
+    public Set<String> childrenNames() {
+        return Set.copyOf(node.children.keySet());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        backing.flush();
+    }
+
+    @Override
+    public void removeNode() {
+        if (parent == null) {
+            node.values.clear();
+            node.children.clear();
+        } else {
+            parent.children.remove(name, node);
+        }
+        backing.changed();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.store;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+
+/**
+ * This class adapts a node of the {@link Preferences} to the {@link SettingsStore}.
+ *
+ * @param preferences the adapted node
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public record PreferencesSettingsStore(Preferences preferences) implements SettingsStore {
+    @Override
+    public String get(final String key, final String defaultValue) {
+        return preferences.get(key, defaultValue);
+    }
+
+    @Override
+    public void put(final String key, final String value) {
+        preferences.put(key, value);
+    }
+
+    @Override
+    public void remove(final String key) {
+        preferences.remove(key);
+    }
+
+    @Override
+    public Set<String> keys() throws IOException {
+        try {
+            return Set.of(preferences.keys());
+        } catch (final BackingStoreException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public SettingsStore node(final String name) {
+        return new PreferencesSettingsStore(preferences.node(name));
+    }
+
+    @Override
+    public Set<String> childrenNames() throws IOException {
+        try {
+            return Set.of(preferences.childrenNames());
+        } catch (final BackingStoreException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        try {
+            preferences.flush();
+        } catch (final BackingStoreException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void removeNode() throws IOException {
+        try {
+            preferences.removeNode();
+        } catch (final BackingStoreException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.store;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.prefs.Preferences;
+
+/**
+ * This interface defines a hierarchical store of the settings. Like the
+ * {@link Preferences}, a store consists of nodes containing string values
+ * and named child nodes; the values are written to the backing storage
+ * at the discretion of the store or when flushed.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public interface SettingsStore {
+    /** The maximum length of a value supported by all stores. */
+    int MAX_VALUE_LENGTH = Preferences.MAX_VALUE_LENGTH;
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key          the key
+     * @param defaultValue the value returned if the key has no value
+     * @return the value of the key
+     */
+    String get(String key, String defaultValue);
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the key
+     * @param value the new value
+     */
+    void put(String key, String value);
+
+    /**
+     * Removes the value of the given key.
+     *
+     * @param key the key
+     */
+    void remove(String key);
+
+    /**
+     * Returns the keys having a value in this node.
+     *
+     * @return the keys
+     * @throws IOException if the keys could not be read
+     */
+    Set<String> keys() throws IOException;
+
+    /**
+     * Returns the child node of the given name, creating it if necessary.
+     *
+     * @param name the name of the child
+     * @return the child node
+     */
+    SettingsStore node(String name);
+
+    /**
+     * Returns the names of the child nodes.
+     *
+     * @return the names of the children
+     * @throws IOException if the children could not be read
+     */
+    Set<String> childrenNames() throws IOException;
+
+    /**
+     * Writes the pending changes to the backing storage.
+     *
+     * @throws IOException if the changes could not be written
+     */
+    void flush() throws IOException;
+
+    /**
+     * Removes this node together with its values and children.
+     *
+     * @throws IOException if the node could not be removed
+     */
+    void removeNode() throws IOException;
+
+    /**
+     * Returns the value of the given key as integer.
+     *
+     * @param key          the key
+     * @param defaultValue the value returned if the key has no integer value
+     * @return the value of the key
+     */
+    default int getInt(final String key, final int defaultValue) {
+        try {
+            final var value = get(key, null);
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (final NumberFormatException _) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Returns the value of the given key as long integer.
+     *
+     * @param key          the key
+     * @param defaultValue the value returned if the key has no long integer value
+     * @return the value of the key
+     */
+    default long getLong(final String key, final long defaultValue) {
+        try {
+            final var value = get(key, null);
+            return value == null ? defaultValue : Long.parseLong(value);
+        } catch (final NumberFormatException _) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Sets the value of the given key to the given integer.
+     *
+     * @param key   the key
+     * @param value the new value
+     */
+    default void putInt(final String key, final int value) {
+        put(key, Integer.toString(value));
+    }
+
+    /**
+     * Sets the value of the given key to the given long integer.
+     *
+     * @param key   the key
+     * @param value the new value
+     */
+    default void putLong(final String key, final long value) {
+        put(key, Long.toString(value));
+    }
+
+    /**
+     * Copies the values and the child nodes of the given node recursively
+     * into the given target node. Existing values of the target are
+     * overwritten.
+     *
+     * @param from the node to be copied
+     * @param to   the target node
+     * @throws IOException if the node could not be read
+     */
+    static void copy(final SettingsStore from, final SettingsStore to) throws IOException {
+        for (final var key : from.keys()) {
+            final var value = from.get(key, null);
+            if (value != null) {
+                to.put(key, value);
+            }
+        }
+        for (final var child : from.childrenNames()) {
+            copy(from.node(child), to.node(child));
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.text;
+
+import mhahnFr.iSongs.core.Song;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * This class represents an ordered set of rules recognizing a song in a
+ * radio text. A rule is either a template, such as
+ * {@code {artist} - {title}}, whose placeholders {@code {title}} and
+ * {@code {artist}} capture the respective part of the text, or a regular
+ * expression prefixed by {@code regex:} capturing the named groups
+ * {@code title} and {@code artist}. Whitespace in a template matches any
+ * amount of whitespace; the case of the text is ignored. Further groups of
+ * a regular expression must be referenced by name using {@code \k<name>};
+ * rules using numbered backreferences are ignored.
+ * <p>
+ * The rules are compiled once into a single pattern alternating between
+ * them in order, so a text is matched in one pass and the first matching
+ * rule wins. The hits of every rule and the unrecognized texts are counted.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public final class TextRules {
+    /** The rules used by default.                                 */
+    public static final String DEFAULT_RULES = "{title} / {artist}";
+    /** The prefix of the rules given as regular expression.       */
+    public static final String REGEX_PREFIX = "regex:";
+    /** The pattern of the placeholders of a template.             */
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(title|artist)}");
+    /** The logger of the invalid rules.                           */
+    private static final System.Logger logger = System.getLogger(TextRules.class.getName());
+
+    /** The valid rules in order.                                  */
+    private final List<String> rules;
+    /** The compiled rules, {@code null} if there are none.        */
+    private final Pattern pattern;
+    /** The names of the rule groups, indexed by rule.             */
+    private final String[] ruleGroups;
+    /** The names of the title groups, indexed by rule.            */
+    private final String[] titleGroups;
+    /** The names of the artist groups, indexed by rule.           */
+    private final String[] artistGroups;
+    /** The amounts of texts recognized by the rules.              */
+    private final AtomicLongArray hits;
+    /** The amount of texts not recognized by any rule.            */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructs and compiles a set of rules. Blank lines are skipped,
+     * invalid rules are ignored.
+     *
+     * @param rules the rules, one per line
+     */
+    public TextRules(final String rules) {
+        final var valid   = new ArrayList<String>();
+        final var builder = new StringBuilder();
+        Pattern compiled  = null;
+        for (final var line : rules.split("\\R")) {
+            final var rule = line.strip();
+            if (rule.isEmpty()) continue;
+
+            final var index       = valid.size();
+            final var alternative = translate(rule, index);
+            if (alternative == null) continue;
+
+            final var candidate = new StringBuilder(builder);
+            if (index > 0) {
+                candidate.append('|');
+            }
+            candidate.append("(?<r").append(index).append('>').append(alternative).append(')');
+            try {
+                compiled = compile("(?:" + candidate + ")");
+            } catch (final PatternSyntaxException e) {
+                logger.log(System.Logger.Level.WARNING, "Ignoring the invalid rule " + rule, e);
+                continue;
+            }
+            builder.setLength(0);
+            builder.append(candidate);
+            valid.add(rule);
+        }
+        this.rules   = List.copyOf(valid);
+        pattern      = compiled;
+        ruleGroups   = new String[valid.size()];
+        titleGroups  = new String[valid.size()];
+        artistGroups = new String[valid.size()];
+        hits         = new AtomicLongArray(valid.size());
+        for (int i = 0; i < ruleGroups.length; ++i) {
+            ruleGroups[i]   = "r" + i;
+            titleGroups[i]  = groupName("title",  i);
+            artistGroups[i] = groupName("artist", i);
+        }
+    }
+
+    /**
+     * Translates the given rule into an alternative of the compiled pattern.
+     * The syntax of the resulting regular expression is not checked.
+     *
+     * @param rule  the rule
+     * @param index the index of the rule, used to name its groups
+     * @return the regular expression of the rule or {@code null} if the rule is invalid
+     */
+    private static String translate(final String rule, final int index) {
+        final String regex;
+        if (rule.startsWith(REGEX_PREFIX)) {
+            regex = renameGroups(rule.substring(REGEX_PREFIX.length()).strip(), index);
+            if (regex == null) {
+                logger.log(System.Logger.Level.WARNING, "Ignoring the rule using a numbered backreference: " + rule);
+                return null;
+            }
+        } else {
+            final var builder = new StringBuilder();
+            final var matcher = PLACEHOLDER.matcher(rule);
+            var end = 0;
+            while (matcher.find()) {
+                appendLiteral(builder, rule, end, matcher.start());
+                builder.append("(?<").append(groupName(matcher.group(1), index)).append(">.+?)");
+                end = matcher.end();
+            }
+            appendLiteral(builder, rule, end, rule.length());
+            regex = builder.toString();
+        }
+        if (!regex.contains("(?<" + groupName("title", index) + ">")
+                || !regex.contains("(?<" + groupName("artist", index) + ">")) {
+            logger.log(System.Logger.Level.WARNING, "Ignoring the rule without title and artist: " + rule);
+            return null;
+        }
+        return regex;
+    }
+
+    /**
+     * Returns the name of the given group of the rule at the given index
+     * in the compiled pattern. The names are unique across the rules.
+     *
+     * @param name  the name of the group in the rule
+     * @param index the index of the rule
+     * @return the name of the group in the compiled pattern
+     */
+    private static String groupName(final String name, final int index) {
+        return switch (name) {
+            case "title"  -> "t" + index;
+            case "artist" -> "a" + index;
+            default       -> "g" + index + "g" + name;
+        };
+    }
+
+    /**
+     * Renames the named groups of the given regular expression and their
+     * backreferences to the names unique to the rule at the given index.
+     * Numbered backreferences are not supported, since the groups of the
+     * rule are numbered differently in the compiled pattern.
+     *
+     * @param regex the regular expression of the rule
+     * @param index the index of the rule
+     * @return the renamed regular expression or {@code null} if it contains a numbered backreference
+     */
+    private static String renameGroups(final String regex, final int index) {
+        final var builder    = new StringBuilder(regex.length() + 16);
+        var       classDepth = 0;
+        for (int i = 0; i < regex.length(); ++i) {
+            final var c = regex.charAt(i);
+            if (c == '\\' && i + 1 < regex.length()) {
+                final var next = regex.charAt(i + 1);
+                if (next == 'Q') {
+                    final var end = regex.indexOf("\\E", i + 2);
+                    final var to  = end == -1 ? regex.length() : end + 2;
+                    builder.append(regex, i, to);
+                    i = to - 1;
+                } else if (classDepth == 0 && next >= '1' && next <= '9') {
+                    return null;
+                } else if (next == 'k' && regex.startsWith("<", i + 2) && nameEnd(regex, i + 3) != -1) {
+                    final var end = nameEnd(regex, i + 3);
+                    builder.append("\\k<").append(groupName(regex.substring(i + 3, end), index)).append('>');
+                    i = end;
+                } else {
+                    builder.append(c).append(next);
+                    ++i;
+                }
+            } else if (c == '[') {
+                ++classDepth;
+                builder.append(c);
+            } else if (c == ']' && classDepth > 0) {
+                --classDepth;
+                builder.append(c);
+            } else if (c == '(' && classDepth == 0 && regex.startsWith("?<", i + 1) && nameEnd(regex, i + 3) != -1) {
+                final var end = nameEnd(regex, i + 3);
+                builder.append("(?<").append(groupName(regex.substring(i + 3, end), index)).append('>');
+                i = end;
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the index of the {@code >} terminating the group name
+     * starting at the given index.
+     *
+     * @param regex the regular expression
+     * @param from  the index of the first character of the name
+     * @return the index of the terminating {@code >} or {@code -1} if no valid name starts there
+     */
+    private static int nameEnd(final String regex, final int from) {
+        if (from >= regex.length() || !isAsciiLetter(regex.charAt(from))) return -1;
+
+        for (int i = from + 1; i < regex.length(); ++i) {
+            final var c = regex.charAt(i);
+            if (c == '>') return i;
+            if (!isAsciiLetter(c) && (c < '0' || c > '9')) return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the given character is an ASCII letter.
+     *
+     * @param c the character
+     * @return whether the character is a letter allowed in group names
+     */
+    private static boolean isAsciiLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Appends the given part of a template as literal, matching any
+     * amount of whitespace for its whitespace.
+     *
+     * @param builder the builder to append to
+     * @param rule    the template
+     * @param from    the index of the first character of the literal
+     * @param to      the index after the last character of the literal
+     */
+    private static void appendLiteral(final StringBuilder builder, final String rule, final int from, final int to) {
+        var start = from;
+        for (int i = from; i < to; ++i) {
+            if (!Character.isWhitespace(rule.charAt(i))) continue;
+
+            if (start < i) {
+                builder.append(Pattern.quote(rule.substring(start, i)));
+            }
+            if (start < i || i == from) {
+                builder.append("\\s+");
+            }
+            start = i + 1;
+        }
+        if (start < to) {
+            builder.append(Pattern.quote(rule.substring(start, to)));
+        }
+    }
+
+    /**
+     * Compiles the given case-insensitive regular expression.
+     *
+     * @param regex the regular expression
+     * @return the compiled pattern
+     * @throws PatternSyntaxException if the regular expression is invalid
+     */
+    private static Pattern compile(final String regex) {
+        return Pattern.compile(regex, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    /**
+     * Recognizes the song in the given radio text using the first rule
+     * matching the whole text.
+     *
+     * @param text the radio text
+     * @return the recognized song or {@code null} if no rule matches
+     */
+    public Song match(final String text) {
+        if (pattern != null) {
+            final var matcher = pattern.matcher(text);
+            if (matcher.matches()) {
+                for (int i = 0; i < ruleGroups.length; ++i) {
+                    if (matcher.start(ruleGroups[i]) == -1) continue;
+
+                    hits.incrementAndGet(i);
+                    return new Song(group(matcher, titleGroups[i]), group(matcher, artistGroups[i]));
+                }
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Returns the stripped value of the given group.
+     *
+     * @param matcher the matcher
+     * @param name    the name of the group
+     * @return the value of the group or {@code null} if it did not participate in the match
+     */
+    private static String group(final Matcher matcher, final String name) {
+        final var value = matcher.group(name);
+        return value == null ? null : value.strip();
+    }
+
+    /**
+     * Returns the valid rules in order.
+     *
+     * @return the rules
+     */
+    public List<String> getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the amount of texts recognized by the rule at the given index.
+     *
+     * @param index the index of the rule
+     * @return the amount of hits of the rule
+     */
+    public long getHits(final int index) {
+        return hits.get(index);
+    }
+
+    /**
+     * Returns the amount of texts not recognized by any rule.
+     *
+     * @return the amount of misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof TextRules textRules && rules.equals(textRules.rules);
+    }
+
+    @Override
+    public int hashCode() {
+        return rules.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "TextRules" + rules;
+    }
+}
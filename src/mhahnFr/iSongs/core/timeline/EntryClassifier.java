@@ -0,0 +1,179 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.timeline;
+
+import mhahnFr.iSongs.core.WebPlayerDTO;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * This class classifies the entries of a playlist into music and other
+ * content, such as jingles, news or advertisements. An entry is rejected
+ * if its type is one of the rejected types, if its known duration is
+ * shorter than the minimum duration, or if its title or artist matches
+ * the respective pattern. The patterns are compiled once.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public final class EntryClassifier {
+    /** The types rejected by default.                             */
+    public static final String DEFAULT_TYPES = "jingle, news, ad, advertisement, commercial, promo, trailer";
+    /** The minimum duration of music in seconds by default.       */
+    public static final int DEFAULT_MIN_DURATION = 30;
+    /** The classifier using the default configuration.            */
+    public static final EntryClassifier DEFAULT = new EntryClassifier(DEFAULT_TYPES, DEFAULT_MIN_DURATION, "", "");
+    /** The logger of the invalid patterns.                        */
+    private static final System.Logger logger = System.getLogger(EntryClassifier.class.getName());
+
+    /** The rejected types in lower case.                          */
+    private final Set<String> rejectedTypes;
+    /** The minimum duration of music in seconds.                  */
+    private final int minDuration;
+    /** The pattern of rejected titles, {@code null} if none.      */
+    private final Pattern titlePattern;
+    /** The pattern of rejected artists, {@code null} if none.     */
+    private final Pattern artistPattern;
+
+    /**
+     * Constructs a classifier. Blank or invalid patterns are ignored.
+     *
+     * @param rejectedTypes the rejected types, separated by commas
+     * @param minDuration   the minimum duration of music in seconds, {@code 0} to accept any duration
+     * @param titlePattern  the regular expression found in rejected titles, blank for none
+     * @param artistPattern the regular expression found in rejected artists, blank for none
+     */
+    public EntryClassifier(final String rejectedTypes,
+                           final int    minDuration,
+                           final String titlePattern,
+                           final String artistPattern) {
+        this.rejectedTypes = Arrays.stream(rejectedTypes.split(","))
+                                   .map(type -> type.strip().toLowerCase(Locale.ROOT))
+                                   .filter(type -> !type.isEmpty())
+                                   .collect(Collectors.toUnmodifiableSet());
+        this.minDuration   = minDuration;
+        this.titlePattern  = compile(titlePattern);
+        this.artistPattern = compile(artistPattern);
+    }
+
+    /**
+     * Compiles the given case-insensitive pattern.
+     *
+     * @param regex the regular expression
+     * @return the compiled pattern or {@code null} if blank or invalid
+     */
+    private static Pattern compile(final String regex) {
+        if (regex == null || regex.isBlank()) return null;
+
+        try {
+            return Pattern.compile(regex, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        } catch (final PatternSyntaxException e) {
+            logger.log(System.Logger.Level.WARNING, "Ignoring the invalid pattern " + regex, e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the given entry of a playlist is music.
+     *
+     * @param song the entry
+     * @return whether the entry is accepted as music
+     */
+    public boolean isMusic(final WebPlayerDTO.PlaylistDTO.SongDTO song) {
+        if (song.type != null && rejectedTypes.contains(song.type.toLowerCase(Locale.ROOT))) return false;
+        if (song.duration > 0 && song.duration < minDuration) return false;
+        if (titlePattern != null && song.title != null && titlePattern.matcher(song.title).find()) return false;
+        return artistPattern == null || song.artist == null || !artistPattern.matcher(song.artist).find();
+    }
+
+    /**
+     * Returns the rejected types.
+     *
+     * @return the rejected types in lower case, separated by commas
+     */
+    public String getRejectedTypes() {
+        return String.join(", ", rejectedTypes);
+    }
+
+    /**
+     * Returns the minimum duration of music.
+     *
+     * @return the minimum duration in seconds
+     */
+    public int getMinDuration() {
+        return minDuration;
+    }
+
+    /**
+     * Returns the regular expression found in rejected titles.
+     *
+     * @return the pattern of the rejected titles, empty if none
+     */
+    public String getTitlePattern() {
+        return titlePattern == null ? "" : titlePattern.pattern();
+    }
+
+    /**
+     * Returns the regular expression found in rejected artists.
+     *
+     * @return the pattern of the rejected artists, empty if none
+     */
+    public String getArtistPattern() {
+        return artistPattern == null ? "" : artistPattern.pattern();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof EntryClassifier classifier
+                && minDuration == classifier.minDuration
+                && rejectedTypes.equals(classifier.rejectedTypes)
+                && Objects.equals(source(titlePattern),  source(classifier.titlePattern))
+                && Objects.equals(source(artistPattern), source(classifier.artistPattern));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rejectedTypes, minDuration, source(titlePattern), source(artistPattern));
+    }
+
+    /**
+     * Returns the source of the given pattern.
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @return the regular expression or {@code null}
+     */
+    private static String source(final Pattern pattern) {
+        return pattern == null ? null : pattern.pattern();
+    }
+
+    @Override
+    public String toString() {
+        return "EntryClassifier[rejectedTypes=" + rejectedTypes + ", minDuration=" + minDuration
+             + ", titlePattern=" + source(titlePattern) + ", artistPattern=" + source(artistPattern) + "]";
+    }
+}
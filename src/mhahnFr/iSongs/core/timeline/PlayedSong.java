@@ -0,0 +1,35 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.timeline;
+
+import mhahnFr.iSongs.core.Song;
+
+/**
+ * This record represents a song in the history of the played songs.
+ *
+ * @param song       the song
+ * @param startTime  the time the song started at in milliseconds since the epoch
+ * @param backfilled whether the song was missed while not polling and has been taken from the playlist afterward
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public record PlayedSong(Song song, long startTime, boolean backfilled) {}
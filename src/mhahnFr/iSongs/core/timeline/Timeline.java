@@ -0,0 +1,243 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.timeline;
+
+import mhahnFr.iSongs.core.Callback;
+import mhahnFr.iSongs.core.WebPlayerDTO;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * This class represents the timeline of the songs of a station. Each polled
+ * playlist is compared to the entries already known, identified by their
+ * start time and identifier; only the entries appearing for the first time
+ * are created, classified and reported to the listeners, so each entry is
+ * classified once. The timeline keeps a window of the most recent
+ * entries, dropping the oldest ones once it is full. The window is kept
+ * in arrays sorted by start time, so looking up a known entry does not
+ * allocate.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class Timeline {
+    /** The default amount of entries kept.                  */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /** The start times of the entries in ascending order.   */
+    private final long[] startTimes;
+    /** The entries, in the order of their start times.      */
+    private final TimelineEntry[] entries;
+    /** The listeners notified about new entries.            */
+    private final List<Callback<TimelineEntry>> listeners = new CopyOnWriteArrayList<>();
+    /** The amount of entries kept.                          */
+    private int size;
+    /** The classifier of the new entries.                   */
+    private EntryClassifier classifier = EntryClassifier.DEFAULT;
+
+    /**
+     * Constructs an empty timeline keeping the default amount of entries.
+     */
+    public Timeline() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty timeline.
+     *
+     * @param capacity the maximum amount of entries kept
+     */
+    public Timeline(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.startTimes = new long[capacity];
+        this.entries    = new TimelineEntry[capacity];
+    }
+
+    /**
+     * Returns the index of the entry of the given start time or, if there
+     * is none, the binary-search encoded insertion point.
+     *
+     * @param startTime the start time
+     * @return the index or {@code -(insertion point) - 1}
+     */
+    private int indexOf(final long startTime) {
+        return Arrays.binarySearch(startTimes, 0, size, startTime);
+    }
+
+    /**
+     * Inserts the given entry at the given index, dropping the oldest entry
+     * if the window is full.
+     *
+     * @param index the index to insert at
+     * @param entry the entry to be inserted
+     */
+    private void insert(int index, final TimelineEntry entry) {
+        if (size == entries.length) {
+            --index;
+            System.arraycopy(startTimes, 1, startTimes, 0, index);
+            System.arraycopy(entries,    1, entries,    0, index);
+        } else {
+            System.arraycopy(startTimes, index, startTimes, index + 1, size - index);
+            System.arraycopy(entries,    index, entries,    index + 1, size - index);
+            ++size;
+        }
+        startTimes[index] = entry.startTime();
+        entries[index]    = entry;
+    }
+
+    /**
+     * Merges the given playlist into this timeline. Entries older than the
+     * window of a full timeline are ignored; an entry replacing a known one
+     * of the same start time counts as new.
+     *
+     * @param playlist the songs of the polled playlist, may be {@code null}
+     * @return the amount of new entries
+     */
+    public int update(final WebPlayerDTO.PlaylistDTO.SongDTO[] playlist) {
+        if (playlist == null) return 0;
+
+        var added = 0;
+        synchronized (this) {
+            for (final var song : playlist) {
+                final var index = indexOf(song.starttime);
+                if (index >= 0 && Objects.equals(entries[index].id(), song.id)) continue;
+                if (index == -1 && size == entries.length) continue;
+
+                final var entry = TimelineEntry.of(song, classifier);
+                if (index >= 0) {
+                    entries[index] = entry;
+                } else {
+                    insert(-index - 1, entry);
+                }
+                for (final var listener : listeners) {
+                    listener.update(entry);
+                }
+                ++added;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Sets the classifier of the entries appearing from now on.
+     *
+     * @param classifier the classifier
+     */
+    public synchronized void setClassifier(final EntryClassifier classifier) {
+        this.classifier = classifier;
+    }
+
+    /**
+     * Returns the entry of the given start time.
+     *
+     * @param startTime the start time in milliseconds since the epoch
+     * @return the entry or {@code null} if none is known
+     */
+    public synchronized TimelineEntry get(final long startTime) {
+        final var index = indexOf(startTime);
+        return index >= 0 ? entries[index] : null;
+    }
+
+    /**
+     * Returns the entry starting next after the given start time.
+     *
+     * @param startTime the start time in milliseconds since the epoch
+     * @return the next entry or {@code null} if none is known
+     */
+    public synchronized TimelineEntry next(final long startTime) {
+        final var index = indexOf(startTime);
+        final var next  = index >= 0 ? index + 1 : -index - 1;
+        return next < size ? entries[next] : null;
+    }
+
+    /**
+     * Returns the entries started strictly after the first and strictly
+     * before the second given start time.
+     *
+     * @param from the exclusive lower bound of the start times
+     * @param to   the exclusive upper bound of the start times
+     * @return the entries, ordered by their start time
+     */
+    public synchronized List<TimelineEntry> between(final long from, final long to) {
+        if (from >= to) return List.of();
+
+        final var fromIndex = indexOf(from);
+        final var toIndex   = indexOf(to);
+        final var start     = fromIndex >= 0 ? fromIndex + 1 : -fromIndex - 1;
+        final var end       = toIndex   >= 0 ? toIndex       : -toIndex   - 1;
+        return start >= end ? List.of() : List.of(Arrays.copyOfRange(entries, start, end));
+    }
+
+    /**
+     * Returns the entry playing at the given time, that is, the latest
+     * entry started before or at the given time.
+     *
+     * @param time the time in milliseconds since the epoch
+     * @return the playing entry or {@code null} if none is known
+     */
+    public synchronized TimelineEntry at(final long time) {
+        final var index = indexOf(time);
+        final var floor = index >= 0 ? index : -index - 2;
+        return floor >= 0 ? entries[floor] : null;
+    }
+
+    /**
+     * Returns the entries of this timeline, ordered by their start time.
+     *
+     * @return a copy of the entries
+     */
+    public synchronized List<TimelineEntry> getEntries() {
+        return List.of(Arrays.copyOf(entries, size));
+    }
+
+    /**
+     * Removes all entries, for example when switching the station.
+     */
+    public synchronized void clear() {
+        Arrays.fill(entries, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Adds the given listener notified about each new entry. The listeners
+     * are called on the thread polling the feed.
+     *
+     * @param listener the listener to be added
+     */
+    public void addListener(final Callback<TimelineEntry> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes the given listener.
+     *
+     * @param listener the listener to be removed
+     */
+    public void removeListener(final Callback<TimelineEntry> listener) {
+        listeners.remove(listener);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.timeline;
+
+import mhahnFr.iSongs.core.Song;
+import mhahnFr.iSongs.core.WebPlayerDTO;
+
+/**
+ * This record represents an entry of the {@link Timeline} of a station.
+ *
+ * @param id        the identifier of the entry in the feed, may be {@code null}
+ * @param song      the song
+ * @param cover     the URL of the cover, may be {@code null}
+ * @param startTime the start time in milliseconds since the epoch
+ * @param duration  the duration in seconds
+ * @param type      the type of the entry in the feed, may be {@code null}
+ * @param music     whether the entry has been classified as music
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public record TimelineEntry(String  id,
+                            Song    song,
+                            String  cover,
+                            long    startTime,
+                            int     duration,
+                            String  type,
+                            boolean music) {
+    /**
+     * Creates the entry of the given song of a playlist, classified
+     * using the given classifier.
+     *
+     * @param song       the song of the playlist
+     * @param classifier the classifier deciding whether the song is music
+     * @return the entry
+     */
+    public static TimelineEntry of(final WebPlayerDTO.PlaylistDTO.SongDTO song, final EntryClassifier classifier) {
+        return new TimelineEntry(song.id, new Song(song.title, song.artist), song.cover, song.starttime, song.duration,
+                                 song.type, classifier.isMusic(song));
+    }
+}
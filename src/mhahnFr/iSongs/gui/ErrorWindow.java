@@ -0,0 +1,160 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.gui;
+
+import mhahnFr.iSongs.core.Constants;
+import mhahnFr.iSongs.core.Settings;
+import mhahnFr.iSongs.core.error.ErrorAggregator;
+import mhahnFr.iSongs.core.error.ErrorSummary;
+import mhahnFr.iSongs.core.locale.Locale;
+import mhahnFr.iSongs.core.locale.StringID;
+import mhahnFr.utils.gui.DarkModeListener;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.text.DateFormat;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This class represents the window displaying the aggregated errors.
+ * This window is not modal.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public class ErrorWindow extends JDialog implements DarkModeListener {
+    /** The aggregator whose errors are displayed.  */
+    private final ErrorAggregator errors;
+    /** The model of the error table.               */
+    private final Model model = new Model();
+    /** The {@link Locale} used by this instance.   */
+    private final Locale locale = Settings.getInstance().getLocale();
+
+    /**
+     * Constructs this error window.
+     *
+     * @param owner  the owner
+     * @param errors the aggregator whose errors are displayed
+     */
+    public ErrorWindow(final JFrame owner, final ErrorAggregator errors) {
+        super(owner, Constants.NAME + ": " + Settings.getInstance().getLocale().get(StringID.MAIN_ERROR), false);
+        this.errors = errors;
+
+        final var panel = new JPanel(new BorderLayout());
+        panel.setBorder(new EmptyBorder(5, 5, 5, 5));
+            final var table = new JTable(model);
+            table.setFillsViewportHeight(true);
+            table.getColumnModel().getColumn(1).setPreferredWidth(300);
+
+            final var buttonPanel = new JPanel();
+                final var clearButton = new JButton(locale.get(StringID.ERRORS_CLEAR));
+                clearButton.addActionListener(_ -> errors.clear());
+            buttonPanel.add(clearButton);
+        panel.add(new JScrollPane(table), BorderLayout.CENTER);
+        panel.add(buttonPanel,            BorderLayout.SOUTH);
+
+        getContentPane().add(panel);
+
+        Settings.getInstance().addDarkModeListener(this);
+
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        refresh();
+        pack();
+    }
+
+    /**
+     * Reloads the displayed errors from the aggregator.
+     */
+    public void refresh() {
+        model.setSummaries(errors.getSummaries());
+    }
+
+    @Override
+    public void darkModeToggled(boolean dark) {
+        SwingUtilities.updateComponentTreeUI(this);
+    }
+
+    @Override
+    public void dispose() {
+        Settings.getInstance().removeDarkModeListener(this);
+        super.dispose();
+    }
+
+    /**
+     * This class represents the table model of the error table.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private class Model extends AbstractTableModel {
+        /** The format used for the time of the last occurrence. */
+        private final DateFormat format = DateFormat.getTimeInstance(DateFormat.MEDIUM);
+        /** The displayed error summaries.                       */
+        private List<ErrorSummary> summaries = List.of();
+
+        /**
+         * Sets the error summaries to be displayed.
+         *
+         * @param summaries the new error summaries
+         */
+        void setSummaries(final List<ErrorSummary> summaries) {
+            this.summaries = summaries;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return summaries.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return 5;
+        }
+
+        @Override
+        public String getColumnName(final int column) {
+            return locale.get(switch (column) {
+                case 0  -> StringID.ERRORS_SOURCE;
+                case 1  -> StringID.ERRORS_CAUSE;
+                case 2  -> StringID.ERRORS_RECENT;
+                case 3  -> StringID.ERRORS_TOTAL;
+                default -> StringID.ERRORS_LAST_SEEN;
+            });
+        }
+
+        @Override
+        public Object getValueAt(final int row, final int column) {
+            final var summary = summaries.get(row);
+            return switch (column) {
+                case 0  -> summary.source();
+                case 1  -> summary.cause();
+                case 2  -> summary.recent();
+                case 3  -> summary.total();
+                default -> format.format(new Date(summary.lastSeen()));
+            };
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * iSongs-RadioText - Radio-text part of iSongs.
  *
- * Copyright (C) 2023 - 2025  mhahnFr
+ * Copyright (C) 2023 - 2026  mhahnFr
  *
  * This file is part of the iSongs-RadioText.
  *
@@ -25,15 +25,30 @@ import mhahnFr.iSongs.core.Constants;
 import mhahnFr.iSongs.core.InfoLoader;
 import mhahnFr.iSongs.core.Settings;
 import mhahnFr.iSongs.core.Song;
+import mhahnFr.iSongs.core.api.SongApiServer;
+import mhahnFr.iSongs.core.cover.CoverCache;
+import mhahnFr.iSongs.core.cover.Covers;
+import mhahnFr.iSongs.core.error.ErrorAggregator;
+import mhahnFr.iSongs.core.error.ErrorSource;
+import mhahnFr.iSongs.core.jfr.RenderEvent;
 import mhahnFr.iSongs.core.locale.Locale;
 import mhahnFr.iSongs.core.locale.StringID;
+import mhahnFr.iSongs.core.metrics.Stage;
+import mhahnFr.iSongs.core.metrics.StartupMetrics;
+import mhahnFr.iSongs.core.resilience.CircuitBreaker;
+import mhahnFr.iSongs.core.timeline.PlayedSong;
 import mhahnFr.utils.gui.DarkModeListener;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This class represents the main window of the iSongs project.
@@ -42,31 +57,93 @@ import java.util.Objects;
  * @since 14.03.23
  */
 public class MainWindow extends JFrame implements DarkModeListener {
+    /** The width and height of the displayed cover in pixels.                  */
+    private static final int COVER_SIZE = 96;
+
+    /** The aggregator of the errors happening while recognizing songs.         */
+    private final ErrorAggregator errors;
     /** The {@link InfoLoader}.                                                 */
-    private final InfoLoader loader = new InfoLoader(this::updateUI,
-                                                     this::writeCallback,
-                                                     this::radioTextCallback,
-                                                     this::errorCallback);
+    private final InfoLoader loader;
     /** The timer for resetting the title bar.                                  */
     private final Timer savedTimer = new Timer(5000, _ -> unblockTitle());
+    /** The timer refreshing the error indicator while errors or pauses persist. */
+    private final Timer errorTimer = new Timer(5000, _ -> updateErrorIndicator());
     /** The {@link JLabel} displaying the title of the song.                    */
     private final JLabel titleLabel;
     /** The {@link JLabel} displaying the interpreter of the song.              */
     private final JLabel interpreterLabel;
+    /** The {@link JLabel} displaying the cover of the song.                    */
+    private final JLabel coverLabel;
+    /** The cache loading the covers of the songs.                              */
+    private final CoverCache coverCache = CoverCache.createDefault(COVER_SIZE);
     /** The {@link JButton} used for saving the song.                           */
     private final JButton saveButton;
+    /** The {@link JButton} indicating errors and opening their details.        */
+    private final JButton errorButton;
     /** The {@link Locale} to be used in this instance.                         */
     private final Locale locale = Settings.getInstance().getLocale();
     /** Indicates whether the window title should not be changed.               */
     private boolean blockedTitle = false;
     /** The title to be set once the window title is unblocked.                 */
     private String title;
+    /** The window displaying the details of the errors.                        */
+    private ErrorWindow errorWindow;
+    /** The API serving the current song, {@code null} if disabled.             */
+    private SongApiServer api;
+    /** The URL of the displayed cover, {@code null} if none is displayed.      */
+    private String displayedCover;
+
+    /**
+     * Starts the song recognition and shows the main window. The window is
+     * constructed on the UI thread after the given preparation, such as
+     * the setup of the look and feel, while the first song is already
+     * being fetched. The callbacks of the recognition are forwarded to the
+     * UI thread; as the construction is queued there first, they reach the
+     * window once it exists.
+     *
+     * @param preparation the task run on the UI thread before constructing the window
+     */
+    public static void launch(final Runnable preparation) {
+        final var window  = new MainWindow[1];
+        final var pending = new AtomicBoolean();
+        final var errors  = new ErrorAggregator(() -> {
+            // Many errors reported at once are coalesced into a single update on the UI thread.
+            if (!pending.getAndSet(true)) {
+                EventQueue.invokeLater(() -> {
+                    pending.set(false);
+                    window[0].updateErrorIndicator();
+                });
+            }
+        });
+        final var loader = new InfoLoader(() -> EventQueue.invokeLater(() -> window[0].updateUI()),
+                                          song -> EventQueue.invokeLater(() -> window[0].writeCallback(song)),
+                                          text -> EventQueue.invokeLater(() -> window[0].radioTextCallback(text)),
+                                          errors);
+        loader.addHistoryListener(song -> {
+            if (song.backfilled()) {
+                EventQueue.invokeLater(() -> window[0].backfillCallback(song));
+            }
+        });
+        EventQueue.invokeLater(() -> {
+            preparation.run();
+            StartupMetrics.getInstance().measure("window", () -> window[0] = new MainWindow(errors, loader));
+            window[0].setVisible(true);
+            StartupMetrics.getInstance().windowVisible();
+            EventQueue.invokeLater(window[0]::updateApi);
+        });
+        loader.start();
+    }
 
     /**
      * Constructs this main window.
+     *
+     * @param errors the aggregator of the errors happening while recognizing songs
+     * @param loader the loader recognizing the songs
      */
-    public MainWindow() {
+    private MainWindow(final ErrorAggregator errors, final InfoLoader loader) {
         super(Constants.NAME);
+        this.errors = errors;
+        this.loader = loader;
         setDefaultCloseOperation(EXIT_ON_CLOSE);
 
         final var panel = new JPanel(new GridLayout(4, 1));
@@ -83,6 +160,10 @@ public class MainWindow extends JFrame implements DarkModeListener {
                     saveButton.addActionListener(_ -> saveTitle());
                     saveButton.setEnabled(false);
 
+                    errorButton = new JButton(locale.get(StringID.MAIN_SHOW_ERROR));
+                    errorButton.addActionListener(_ -> showErrors());
+                    errorButton.setVisible(false);
+
                     if (hasSettings()) {
                         addSettingsHook();
                     } else {
@@ -91,12 +172,19 @@ public class MainWindow extends JFrame implements DarkModeListener {
                         toAdd.add(settingsButton);
                     }
                 toAdd.add(saveButton);
+                toAdd.add(errorButton);
             wrapper.add(toAdd, BorderLayout.CENTER);
         panel.add(label);
         panel.add(titleLabel);
         panel.add(interpreterLabel);
         panel.add(wrapper);
-        getContentPane().add(panel);
+        final var contentPanel = new JPanel(new BorderLayout());
+            coverLabel = new JLabel();
+            coverLabel.setHorizontalAlignment(SwingConstants.CENTER);
+            coverLabel.setPreferredSize(new Dimension(COVER_SIZE, COVER_SIZE));
+        contentPanel.add(coverLabel, BorderLayout.WEST);
+        contentPanel.add(panel, BorderLayout.CENTER);
+        getContentPane().add(contentPanel);
 
         addFocusListener(new FocusAdapter() {
             @Override
@@ -104,13 +192,41 @@ public class MainWindow extends JFrame implements DarkModeListener {
                 saveButton.requestFocusInWindow();
             }
         });
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                // Closing exits right afterward, so the state is persisted here.
+                loader.stop();
+                saveSettings();
+            }
+        });
         maybeAddQuitHandler();
         restoreBounds();
 
         savedTimer.setRepeats(false);
 
         Settings.getInstance().addDarkModeListener(this);
-        loader.start();
+    }
+
+    /**
+     * Starts, restarts or stops the song API according to the configured port.
+     */
+    private void updateApi() {
+        final var port = Settings.getInstance().getApiPort();
+        if (api != null) {
+            if (api.getPort() == port) return;
+
+            api.close();
+            api = null;
+        }
+        if (port == 0) return;
+
+        try {
+            api = new SongApiServer(port);
+            api.publish(loader.getCurrentSong());
+        } catch (final IOException e) {
+            errors.report(ErrorSource.API, e);
+        }
     }
 
     /**
@@ -120,6 +236,7 @@ public class MainWindow extends JFrame implements DarkModeListener {
     private void maybeAddQuitHandler() {
         if (Desktop.getDesktop().isSupported(Desktop.Action.APP_QUIT_HANDLER)) {
             Desktop.getDesktop().setQuitHandler((_, response) -> {
+                loader.stop();
                 saveSettings();
                 response.performQuit();
             });
@@ -136,20 +253,70 @@ public class MainWindow extends JFrame implements DarkModeListener {
      * This method makes sure it runs in the {@link EventQueue}.
      */
     private void updateUI() {
+        final var event = new RenderEvent();
+        event.begin();
         onUIThread(() -> {
             final var displayedSong = loader.getCurrentSong();
+            if (api != null) {
+                api.publish(displayedSong);
+            }
             if (displayedSong != null) {
                 titleLabel.setText(displayedSong.title());
                 interpreterLabel.setText(displayedSong.interpreter());
                 saveButton.setEnabled(true);
+                StartupMetrics.getInstance().firstSong();
             } else {
                 titleLabel.setText(locale.get(StringID.MAIN_NO_SONG));
                 interpreterLabel.setText(locale.get(StringID.MAIN_NO_INTERPRETER));
                 saveButton.setEnabled(false);
             }
+            showCovers(displayedSong == null ? Covers.NONE : loader.getCovers());
+            event.end();
+            if (event.shouldCommit()) {
+                event.song = displayedSong == null ? null : displayedSong.title() + " / " + displayedSong.interpreter();
+                event.commit();
+            }
         });
     }
 
+    /**
+     * Publishes the given song missed during a gap in the polling.
+     *
+     * @param song the backfilled song
+     */
+    private void backfillCallback(final PlayedSong song) {
+        if (api != null) {
+            api.publishBackfill(song);
+        }
+    }
+
+    /**
+     * Displays the cover of the current song and prefetches the cover of the
+     * next song, so it is ready once that song starts. A cover not loaded
+     * yet is displayed once it has been loaded, unless the song has changed
+     * in the meantime.
+     *
+     * @param covers the covers of the current and the next song
+     */
+    private void showCovers(final Covers covers) {
+        final var url = covers.current();
+        if (!Objects.equals(url, displayedCover)) {
+            displayedCover = url;
+            final var image = url == null ? null : coverCache.getIfPresent(url);
+            coverLabel.setIcon(image == null ? null : new ImageIcon(image));
+            if (url != null && image == null) {
+                coverCache.get(url).thenAccept(loaded -> EventQueue.invokeLater(() -> {
+                    if (url.equals(displayedCover)) {
+                        coverLabel.setIcon(new ImageIcon(loaded));
+                    }
+                }));
+            }
+        }
+        if (covers.next() != null) {
+            coverCache.prefetch(covers.next());
+        }
+    }
+
     /**
      * Runs the given {@link Runnable} in the {@link EventQueue}.
      *
@@ -174,16 +341,65 @@ public class MainWindow extends JFrame implements DarkModeListener {
     }
 
     /**
-     * Shows the given {@link Exception} to the user. This method makes sure
-     * it runs on the UI thread.
+     * Updates the error indicator and the error window if it is shown.
+     * Sources paused by their circuit breaker are indicated as well.
+     */
+    private void updateErrorIndicator() {
+        final var hasErrors = errors.hasErrors();
+        final var recent    = errors.getRecentCount();
+        final var paused    = getPausedText();
+
+        errorButton.setText((recent > 0 ? locale.get(StringID.MAIN_ERROR_HAPPENED) + " (" + recent + ")"
+                                        : locale.get(StringID.MAIN_SHOW_ERROR)) + paused);
+        errorButton.setVisible(hasErrors || !paused.isEmpty());
+        if (hasErrors || !paused.isEmpty()) {
+            errorTimer.start();
+        } else {
+            errorTimer.stop();
+        }
+        if (errorWindow != null) {
+            errorWindow.refresh();
+        }
+    }
+
+    /**
+     * Returns the text indicating the sources currently paused by their
+     * circuit breaker.
      *
-     * @param e the {@link Exception} to handle
+     * @return the text, empty if no source is paused
      */
-    private void errorCallback(final Exception e) {
-        onUIThread(() -> JOptionPane.showMessageDialog(this,
-                locale.get(StringID.MAIN_ERROR_HAPPENED) + ": " + e.getLocalizedMessage(),
-                Constants.NAME + ": " + locale.get(StringID.MAIN_ERROR),
-                JOptionPane.ERROR_MESSAGE));
+    private String getPausedText() {
+        final var builder = new StringBuilder();
+        appendPaused(builder, loader.getBreaker(Stage.Source.JSON), StringID.ERROR_SOURCE_FEED);
+        appendPaused(builder, loader.getBreaker(Stage.Source.SCRIPT), StringID.ERROR_SOURCE_SCRIPT);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the pause of the given breaker to the given builder if it is open.
+     *
+     * @param builder the builder to append to
+     * @param breaker the circuit breaker, may be {@code null}
+     * @param name    the name of the protected source
+     */
+    private void appendPaused(final StringBuilder builder, final CircuitBreaker breaker, final StringID name) {
+        if (breaker == null || breaker.state() != CircuitBreaker.State.OPEN) return;
+
+        final var seconds = TimeUnit.MILLISECONDS.toSeconds(breaker.getRetryInMillis() + 999);
+        builder.append(" – ").append(locale.get(name)).append(' ')
+               .append(locale.get(StringID.MAIN_SOURCE_PAUSED)).append(' ').append(seconds).append(" s");
+    }
+
+    /**
+     * Opens the {@link ErrorWindow} or brings it to the front if already opened.
+     */
+    private void showErrors() {
+        if (errorWindow == null || !errorWindow.isDisplayable()) {
+            errorWindow = new ErrorWindow(this, errors);
+            errorWindow.setLocationRelativeTo(this);
+        }
+        errorWindow.setVisible(true);
+        errorWindow.toFront();
     }
 
     /**
@@ -256,15 +472,16 @@ public class MainWindow extends JFrame implements DarkModeListener {
     }
 
     /**
-     * Opens a {@link SettingsWindow}. Stops the song fetching and resets the window title.
+     * Opens a {@link SettingsWindow}. The song fetching keeps running; the
+     * changed settings are applied to it as soon as they are written.
      */
     private void showSettings() {
-        loader.stop();
-        setTitle(Constants.NAME);
-        final var settingsWindow = new SettingsWindow(this);
+        final var settingsWindow = new SettingsWindow(this, () -> {
+            loader.reconfigure();
+            updateApi();
+        });
         settingsWindow.setLocationRelativeTo(this);
         settingsWindow.setVisible(true);
-        loader.start();
     }
 
     /**
@@ -316,6 +533,11 @@ public class MainWindow extends JFrame implements DarkModeListener {
     @Override
     public void dispose() {
         Settings.getInstance().removeDarkModeListener(this);
+        errorTimer.stop();
+        if (api != null) {
+            api.close();
+        }
+        loader.stop();
         saveSettings();
         super.dispose();
     }
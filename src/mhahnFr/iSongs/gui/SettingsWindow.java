@@ -1,7 +1,7 @@
 /*
  * iSongs-RadioText - Radio-text part of iSongs.
  *
- * Copyright (C) 2023 - 2024  mhahnFr
+ * Copyright (C) 2023 - 2026  mhahnFr
  *
  * This file is part of the iSongs-RadioText.
  *
@@ -38,42 +38,65 @@ import javax.swing.border.EmptyBorder;
 import javax.swing.border.TitledBorder;
 import java.awt.*;
 import java.awt.event.ItemEvent;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
  * This class represents the settings window of the iSongs project.
+ * The changes are not written one by one; instead, they are collected
+ * and written together once no further change has been made for a
+ * moment, and when the window is closed. After writing, the given
+ * callback is called to apply them.
  *
  * @author mhahnFr
  * @since 14.03.23
  */
 public class SettingsWindow extends JDialog implements DarkModeListener {
+    /** The delay of writing the changes in milliseconds.     */
+    private static final int WRITE_DELAY = 750;
+
     /** The label displaying the folder for saving songs.     */
     private final JLabel folderChangeLabel;
     /** The text field for the URL to the song information.   */
     private final JTextField urlField;
     /** The {@link Locale} to be used by this instance.       */
     private final Locale locale = Settings.getInstance().getLocale();
+    /** The changes not written yet, mapped by their key.     */
+    private final Map<String, Runnable> pending = new LinkedHashMap<>();
+    /** The timer writing the pending changes.                */
+    private final Timer writeTimer = new Timer(WRITE_DELAY, _ -> writePending());
+    /** The callback called after changes have been written.  */
+    private final Runnable applyCallback;
 
     /**
      * Constructs this settings window using the given owner.
      * This window is modal.
      *
-     * @param owner the owner
+     * @param owner         the owner
+     * @param applyCallback the callback called after changes have been written
      */
-    public SettingsWindow(final JFrame owner) {
+    public SettingsWindow(final JFrame owner, final Runnable applyCallback) {
         super(owner, Constants.NAME + ": " + Settings.getInstance().getLocale().get(StringID.MAIN_SETTINGS), true);
+        this.applyCallback = applyCallback;
+        writeTimer.setRepeats(false);
 
         final var panel = new JPanel(new BorderLayout());
         panel.setBorder(new EmptyBorder(5, 5, 5, 5));
             final var northPanel = new JPanel(new BorderLayout());
-                final var noSongBox = new JCheckBox(locale.get(StringID.SETTINGS_ALLOW_NO_SONG));
+                final var boxPanel = new JPanel(new GridLayout(2, 1));
+                    final var noSongBox = new JCheckBox(locale.get(StringID.SETTINGS_ALLOW_NO_SONG));
+
+                    final var relayBox = new JCheckBox(locale.get(StringID.SETTINGS_USE_RELAY));
+                boxPanel.add(noSongBox);
+                boxPanel.add(relayBox);
 
                 final var scriptSupportPanel = getScriptSupportPanel(Settings.getInstance().getScriptSupport());
-            northPanel.add(noSongBox, BorderLayout.CENTER);
+            northPanel.add(boxPanel, BorderLayout.CENTER);
             scriptSupportPanel.ifPresent(jPanel -> northPanel.add(jPanel, BorderLayout.SOUTH));
 
-            final var centerPanel = new JPanel(new GridLayout(5, 1));
+            final var centerPanel = new JPanel(new GridLayout(7, 1));
                 final var themePanel = new JPanel(new GridLayout(1, 1));
                 themePanel.setBorder(new TitledBorder(locale.get(StringID.SETTINGS_CHOOSE_THEME) + ":"));
                 final var darkChooser = new JComboBox<DarkMode>();
@@ -104,11 +127,24 @@ public class SettingsWindow extends JDialog implements DarkModeListener {
                 delayPanel.setBorder(new TitledBorder(locale.get(StringID.SETTINGS_SONG_REFRESH_RATE) + ":"));
                     final var delaySpinner = new JSpinner();
                 delayPanel.add(delaySpinner);
+
+                final var maxSizePanel = new JPanel(new GridLayout(1, 1));
+                maxSizePanel.setBorder(new TitledBorder(locale.get(StringID.SETTINGS_MAX_FEED_SIZE) + ":"));
+                    final var maxSizeSpinner = new JSpinner(new SpinnerNumberModel(64, 64, 1 << 20, 64));
+                maxSizePanel.add(maxSizeSpinner);
+
+                final var apiPortPanel = new JPanel(new GridLayout(1, 1));
+                apiPortPanel.setBorder(new TitledBorder(locale.get(StringID.SETTINGS_API_PORT) + ":"));
+                    final var apiPortSpinner = new JSpinner(new SpinnerNumberModel(0, 0, 65535, 1));
+                    apiPortSpinner.setEditor(new JSpinner.NumberEditor(apiPortSpinner, "#"));
+                apiPortPanel.add(apiPortSpinner);
             centerPanel.add(themePanel);
             centerPanel.add(localePanel);
             centerPanel.add(urlPanel);
             centerPanel.add(folderPanel);
             centerPanel.add(delayPanel);
+            centerPanel.add(maxSizePanel);
+            centerPanel.add(apiPortPanel);
 
             final var deleteButton = new JButton(locale.get(StringID.SETTINGS_REMOVE));
         panel.add(northPanel,   BorderLayout.NORTH);
@@ -126,7 +162,10 @@ public class SettingsWindow extends JDialog implements DarkModeListener {
         darkChooser.addActionListener(_ -> settings.setDarkMode((DarkMode) Objects.requireNonNull(darkChooser.getSelectedItem())));
 
         noSongBox.setSelected(settings.getNoSong());
-        noSongBox.addItemListener(_ -> settings.setNoSong(noSongBox.isSelected()));
+        noSongBox.addItemListener(_ -> defer(Settings.Key.NO_SONG, () -> settings.setNoSong(noSongBox.isSelected())));
+
+        relayBox.setSelected(settings.getRelay());
+        relayBox.addItemListener(_ -> defer(Settings.Key.RELAY, () -> settings.setRelay(relayBox.isSelected())));
 
         localeBox.addItem(locale instanceof English ? locale : new English());
         localeBox.addItem(locale instanceof German ? locale : new German());
@@ -136,7 +175,14 @@ public class SettingsWindow extends JDialog implements DarkModeListener {
         urlField.setText(settings.getURL());
 
         delaySpinner.setValue(settings.getDelay());
-        delaySpinner.addChangeListener(_ -> settings.setDelay((Integer) delaySpinner.getValue()));
+        delaySpinner.addChangeListener(_ -> defer(Settings.Key.DELAY, () -> settings.setDelay((Integer) delaySpinner.getValue())));
+
+        maxSizeSpinner.setValue(settings.getMaxBodySize() / 1024);
+        maxSizeSpinner.addChangeListener(_ -> defer(Settings.Key.MAX_BODY_SIZE,
+                () -> settings.setMaxBodySize((Integer) maxSizeSpinner.getValue() * 1024)));
+
+        apiPortSpinner.setValue(settings.getApiPort());
+        apiPortSpinner.addChangeListener(_ -> defer(Settings.Key.API_PORT, () -> settings.setApiPort((Integer) apiPortSpinner.getValue())));
 
         folderChangeLabel.setText(settings.getSavePath());
         folderChangeButton.addActionListener(_ -> chooseSaveFolder());
@@ -182,13 +228,56 @@ public class SettingsWindow extends JDialog implements DarkModeListener {
             case only -> scriptSupportOnly.setSelected(true);
         }
 
-        scriptSupportOff  .addItemListener(_ -> Settings.getInstance().setScriptSupport(ScriptSupport.off));
-        scriptSupportMixed.addItemListener(_ -> Settings.getInstance().setScriptSupport(ScriptSupport.on));
-        scriptSupportOnly .addItemListener(_ -> Settings.getInstance().setScriptSupport(ScriptSupport.only));
+        scriptSupportOff  .addItemListener(_ -> deferScriptSupport(scriptSupportOff,   ScriptSupport.off));
+        scriptSupportMixed.addItemListener(_ -> deferScriptSupport(scriptSupportMixed, ScriptSupport.on));
+        scriptSupportOnly .addItemListener(_ -> deferScriptSupport(scriptSupportOnly,  ScriptSupport.only));
 
         return Optional.of(scriptSupportPanel);
     }
 
+    /**
+     * Defers the change of the script support to the given level if the
+     * given button is selected.
+     *
+     * @param button  the button of the level
+     * @param support the level of the script support
+     */
+    private void deferScriptSupport(final JRadioButton button, final ScriptSupport support) {
+        if (button.isSelected()) {
+            defer(Settings.Key.APPLE_SCRIPT, () -> Settings.getInstance().setScriptSupport(support));
+        }
+    }
+
+    /**
+     * Records the given change of the setting identified by the given key.
+     * A previously recorded change of the same setting is replaced. The
+     * changes are written once no further change has been made for the
+     * write delay.
+     *
+     * @param key    the key of the changed setting
+     * @param change the change to be applied
+     */
+    private void defer(final String key, final Runnable change) {
+        pending.put(key, change);
+        writeTimer.restart();
+    }
+
+    /**
+     * Writes the pending changes in one batch and calls the apply callback.
+     *
+     * @return whether the changes could be written
+     */
+    private boolean writePending() {
+        writeTimer.stop();
+        if (pending.isEmpty()) return true;
+
+        pending.values().forEach(Runnable::run);
+        pending.clear();
+        final var success = Settings.getInstance().flush();
+        applyCallback.run();
+        return success;
+    }
+
     /**
      * Handles the event of changing the language.
      *
@@ -220,7 +309,7 @@ public class SettingsWindow extends JDialog implements DarkModeListener {
         if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
             final var path = chooser.getSelectedFile().getAbsolutePath();
             folderChangeLabel.setText(path);
-            Settings.getInstance().setSavePath(path);
+            defer(Settings.Key.PATH, () -> Settings.getInstance().setSavePath(path));
         }
     }
 
@@ -234,6 +323,8 @@ public class SettingsWindow extends JDialog implements DarkModeListener {
                 Constants.NAME + ": " + locale.get(StringID.MAIN_SETTINGS),
                 JOptionPane.OK_CANCEL_OPTION,
                 JOptionPane.WARNING_MESSAGE) == JOptionPane.OK_OPTION) {
+            writeTimer.stop();
+            pending.clear();
             if (!Settings.getInstance().remove() || !Settings.getInstance().flush()) {
                 JOptionPane.showMessageDialog(this,
                         locale.get(StringID.SETTINGS_REMOVE_ERROR) + "!",
@@ -254,8 +345,10 @@ public class SettingsWindow extends JDialog implements DarkModeListener {
         final var settings = Settings.getInstance();
 
         settings.removeDarkModeListener(this);
-        if (!settings.setURL(urlField.getText())
-                     .flush()) {
+        if (!urlField.getText().equals(settings.getURL())) {
+            defer(Settings.Key.URL, () -> settings.setURL(urlField.getText()));
+        }
+        if (!writePending()) {
             JOptionPane.showMessageDialog(this,
                     locale.get(StringID.SETTINGS_SAVE_ERROR) + "!",
                     Constants.NAME,
@@ -1,7 +1,7 @@
 /*
  * iSongs-RadioText - Radio-text part of iSongs.
  *
- * Copyright (C) 2023 - 2024  mhahnFr
+ * Copyright (C) 2023 - 2026  mhahnFr
  *
  * This file is part of the iSongs-RadioText.
  *
@@ -21,26 +21,60 @@
 
 package mhahnFr.iSongs;
 
+import mhahnFr.iSongs.core.DarkMode;
 import mhahnFr.iSongs.core.Settings;
+import mhahnFr.iSongs.core.metrics.StartupMetrics;
 import mhahnFr.iSongs.gui.MainWindow;
 
-import java.awt.EventQueue;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This class represents the main entry point of the application.
+ * <p>
+ * The startup tasks run in parallel: the native dark mode support is
+ * loaded in the background, the first song is fetched by the loader and
+ * its script is loaded by the loader in the background, while the look
+ * and feel is set up and the window is constructed on the UI thread.
+ * Only if the dark mode follows the system, the look and feel waits for
+ * the native support.
  *
  * @author mhahnFr
  * @since 14.03.23
  */
 public class iSongs {
     public static void main(String[] args) {
+        final var startup = StartupMetrics.getInstance();
         if (Settings.isMac) {
             System.setProperty("apple.awt.application.appearance", "system");
         }
 
-        EventQueue.invokeLater(() -> {
-            Settings.setupLaf(Settings.getInstance().getRenderDarkMode());
-            new MainWindow().setVisible(true);
+        final var settings      = Settings.getInstance();
+        final var nativeSupport = inBackground("ndl", settings::loadNativeSupport);
+        MainWindow.launch(() -> {
+            if (settings.getDarkMode() == DarkMode.AUTO) {
+                nativeSupport.join();
+            }
+            startup.measure("laf", () -> Settings.setupLaf(settings.getRenderDarkMode()));
         });
     }
+
+    /**
+     * Runs the given startup task on a new daemon thread, recording its
+     * duration in the {@link StartupMetrics}.
+     *
+     * @param name the name of the task
+     * @param task the task to be run
+     * @return a future completed once the task has finished, even if it has failed
+     */
+    private static CompletableFuture<Void> inBackground(final String name, final Runnable task) {
+        final var done = new CompletableFuture<Void>();
+        Thread.ofPlatform().name("iSongs-startup-" + name).daemon().start(() -> {
+            try {
+                StartupMetrics.getInstance().measure(name, task);
+            } finally {
+                done.complete(null);
+            }
+        });
+        return done;
+    }
 }
@@ -0,0 +1,249 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core;
+
+import mhahnFr.iSongs.core.appleScript.ScriptSupport;
+import mhahnFr.iSongs.core.error.ErrorAggregator;
+import mhahnFr.iSongs.core.feed.FeedResponse;
+import mhahnFr.iSongs.core.metrics.Stage;
+import mhahnFr.iSongs.core.resilience.CircuitBreaker;
+import mhahnFr.iSongs.core.schedule.VirtualScheduler;
+import mhahnFr.iSongs.core.text.TextRules;
+import mhahnFr.iSongs.core.timeline.EntryClassifier;
+import mhahnFr.iSongs.core.timeline.PlayedSong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of the {@link InfoLoader}, polling a
+ * simulated station on a {@link VirtualScheduler}. The song of the
+ * station changes every three minutes.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class InfoLoaderTest {
+    /** The duration of each simulated song in milliseconds. */
+    private static final long SONG_DURATION = 180_000;
+    /** The wall-clock time the simulation starts at.        */
+    private static final long EPOCH         = 1_760_000_000_000L;
+    /** The polling delay in milliseconds.                   */
+    private static final long DELAY         = 1_000;
+
+    /** The scheduler simulating the time.                   */
+    private VirtualScheduler scheduler;
+    /** The aggregator of the errors of the loader.          */
+    private ErrorAggregator errors;
+    /** The loader under test.                               */
+    private InfoLoader loader;
+    /** The types of the songs of the station.               */
+    private String[] types = new String[0];
+    /** The amount of fetches of the feed.                   */
+    private int fetches;
+    /** The amount of reported song changes.                 */
+    private int changes;
+    /** Whether the feed is currently failing.               */
+    private boolean failing;
+    /** Whether the fetches hang until released.             */
+    private volatile boolean hanging;
+    /** Counted down once a hanging fetch has started.       */
+    private final CountDownLatch fetching = new CountDownLatch(1);
+    /** Counted down to release the hanging fetches.         */
+    private final CountDownLatch release  = new CountDownLatch(1);
+
+    /**
+     * Creates the loader polling the simulated station.
+     */
+    @BeforeEach
+    void setUp() {
+        scheduler = new VirtualScheduler(EPOCH);
+        errors    = new ErrorAggregator(() -> {});
+        final var station = new Station("test-" + System.nanoTime(), List.of(), DELAY, ScriptSupport.off, false,
+                                        Station.DEFAULT_MAX_BODY_SIZE, false, EntryClassifier.DEFAULT,
+                                        new TextRules(TextRules.DEFAULT_RULES));
+        loader = new InfoLoader(() -> station, _ -> this::fetch, scheduler, () -> ++changes, _ -> {}, _ -> {}, errors);
+    }
+
+    /**
+     * Stops the loader.
+     */
+    @AfterEach
+    void tearDown() {
+        loader.stop();
+    }
+
+    /**
+     * Fetches the feed of the simulated station at the current time.
+     *
+     * @return the response
+     * @throws IOException if the feed is failing or the hanging fetch was interrupted
+     */
+    private FeedResponse fetch() throws IOException {
+        ++fetches;
+        if (hanging) {
+            fetching.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+        if (failing) {
+            throw new IOException("Service unavailable");
+        }
+        final var now = scheduler.currentTimeMillis();
+        return new FeedResponse(TestFeeds.generate(songAt(now), 12, EPOCH, SONG_DURATION, types), 200, Map.of(), now, 0, 0);
+    }
+
+    /**
+     * Returns the sequence number of the song played at the given time.
+     *
+     * @param time the time in milliseconds
+     * @return the sequence number of the played song
+     */
+    private static long songAt(final long time) {
+        return (time - EPOCH) / SONG_DURATION;
+    }
+
+    /**
+     * Advances the simulated time.
+     *
+     * @param amount the amount of time
+     * @param unit   the unit of the amount
+     */
+    private void advance(final long amount, final TimeUnit unit) {
+        scheduler.advance(amount, unit);
+    }
+
+    @Test
+    void pollsAtTheConfiguredDelay() {
+        loader.start();
+        advance(0, TimeUnit.SECONDS);
+        assertEquals(1, fetches, "the first poll happens right away");
+
+        advance(60, TimeUnit.SECONDS);
+        assertEquals(61, fetches);
+    }
+
+    @Test
+    void reportsEachSongOnce() {
+        loader.start();
+        advance(TimeUnit.HOURS.toMillis(1) - 1, TimeUnit.MILLISECONDS);
+
+        assertEquals(20, changes);
+        assertEquals(TestFeeds.song(19), loader.getCurrentSong());
+        final var history = loader.getHistory();
+        assertEquals(20, history.size());
+        assertEquals(20, new HashSet<>(history.stream().map(PlayedSong::song).toList()).size());
+        for (final var played : history) {
+            assertFalse(played.backfilled());
+        }
+    }
+
+    @Test
+    void backsOffWhileFailingAndRecovers() {
+        failing = true;
+        loader.start();
+        advance(10, TimeUnit.MINUTES);
+
+        final var breaker = loader.getBreaker(Stage.Source.JSON);
+        assertNotEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(fetches < 20, "the failing feed was fetched " + fetches + " times");
+        assertEquals(1, errors.getSummaries().size());
+        assertNull(loader.getCurrentSong());
+
+        failing = false;
+        advance(5, TimeUnit.MINUTES);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(TestFeeds.song(songAt(scheduler.currentTimeMillis())), loader.getCurrentSong());
+
+        final var before = fetches;
+        advance(60, TimeUnit.SECONDS);
+        assertEquals(60, fetches - before);
+    }
+
+    @Test
+    void backfillsTheSongsMissedWhileFailing() {
+        loader.start();
+        advance(4, TimeUnit.MINUTES);
+        failing = true;
+        advance(15, TimeUnit.MINUTES);
+        failing = false;
+        advance(10, TimeUnit.MINUTES);
+
+        final var backfilled = loader.getHistory().stream().filter(PlayedSong::backfilled).toList();
+        assertFalse(backfilled.isEmpty());
+        for (final var played : backfilled) {
+            final var song = songAt(played.startTime());
+            assertEquals(TestFeeds.song(song), played.song());
+            assertEquals(EPOCH + song * SONG_DURATION, played.startTime());
+        }
+        final var songs = loader.getHistory().stream().map(PlayedSong::song).toList();
+        assertEquals(songs.size(), new HashSet<>(songs).size(), "a song was reported twice: " + songs);
+        for (long song = 0; song <= songAt(scheduler.currentTimeMillis()); ++song) {
+            assertTrue(songs.contains(TestFeeds.song(song)), "song " + song + " is missing");
+        }
+    }
+
+    @Test
+    void keepsTheSongDuringNonMusicEntries() {
+        types = new String[] { "music", "music", "music", "jingle" };
+        loader.start();
+        advance(SONG_DURATION * 3 + 1_000, TimeUnit.MILLISECONDS);
+        assertEquals(TestFeeds.song(2), loader.getCurrentSong());
+
+        advance(SONG_DURATION, TimeUnit.MILLISECONDS);
+        assertEquals(TestFeeds.song(4), loader.getCurrentSong());
+        assertTrue(loader.getHistory().stream().noneMatch(played -> played.song().equals(TestFeeds.song(3))));
+    }
+
+    @Test
+    void stopsWithoutWaitingForAHangingFetch() throws InterruptedException {
+        loader.start();
+        advance(0, TimeUnit.SECONDS);
+        final var song = loader.getCurrentSong();
+
+        hanging = true;
+        final var poller = new Thread(() -> advance(SONG_DURATION, TimeUnit.MILLISECONDS));
+        poller.start();
+        assertTrue(fetching.await(5, TimeUnit.SECONDS));
+
+        final var start = System.nanoTime();
+        loader.stop();
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "stopping waited for the fetch");
+
+        release.countDown();
+        poller.join();
+        assertEquals(song, loader.getCurrentSong());
+        assertEquals(1, changes);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class generates feeds in the shape of the web player data model
+ * for the tests. The songs of a generated station follow each other
+ * without gaps; song {@code i} is titled {@code Title i} and performed
+ * by {@code Artist i}.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+public abstract class TestFeeds {
+    /**
+     * Returns the song of the given sequence number.
+     *
+     * @param song the sequence number of the song
+     * @return the song
+     */
+    public static Song song(final long song) {
+        return new Song("Title " + song, "Artist " + song);
+    }
+
+    /**
+     * Generates the feed of a station playing the given song. The playlist
+     * contains the given amount of entries, the current one among the last.
+     *
+     * @param song      the sequence number of the currently played song
+     * @param entries   the amount of playlist entries
+     * @param startTime the start time of the first song in milliseconds
+     * @param duration  the duration of each song in milliseconds
+     * @param types     the types of the entries, indexed by their sequence number, {@code music} if out of range
+     * @return the generated feed
+     */
+    public static byte[] generate(final long     song,
+                                  final int      entries,
+                                  final long     startTime,
+                                  final long     duration,
+                                  final String... types) {
+        final var builder = new StringBuilder("{\"playlist\":{\"data\":[");
+        final var first   = Math.max(0, song - entries + Math.min(entries, 4));
+        for (long i = first; i < first + entries; ++i) {
+            if (i != first) builder.append(',');
+            builder.append("{\"id\":\"").append(i)
+                   .append("\",\"artist\":\"Artist ").append(i)
+                   .append("\",\"title\":\"Title ").append(i)
+                   .append("\",\"type\":\"").append(i < types.length ? types[(int) i] : "music")
+                   .append("\",\"duration\":").append(duration / 1000)
+                   .append(",\"playingMode\":").append(i < song ? 0 : i == song ? 1 : 2)
+                   .append(",\"starttime\":").append(startTime + i * duration)
+                   .append('}');
+        }
+        return builder.append("]}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.api;
+
+import mhahnFr.iSongs.core.Song;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of the {@link SongApiServer}, talking
+ * to it over plain sockets.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class SongApiServerTest {
+    /** The timeout of the reads in milliseconds. */
+    private static final int TIMEOUT = 5_000;
+
+    /** The API under test.                       */
+    private SongApiServer api;
+
+    /**
+     * This record represents a received response.
+     *
+     * @param status  the status code
+     * @param headers the headers, mapped by their lower case names
+     * @param body    the body
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private record Response(int status, Map<String, String> headers, String body) {}
+
+    /**
+     * Starts the API on an ephemeral port.
+     *
+     * @throws IOException if the API could not be started
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        api = new SongApiServer(0);
+    }
+
+    /**
+     * Closes the API.
+     */
+    @AfterEach
+    void tearDown() {
+        api.close();
+    }
+
+    /**
+     * Connects to the API.
+     *
+     * @return the connected socket
+     * @throws IOException if the connection failed
+     */
+    private Socket connect() throws IOException {
+        final var socket = new Socket(InetAddress.getLoopbackAddress(), api.getPort());
+        socket.setSoTimeout(TIMEOUT);
+        return socket;
+    }
+
+    /**
+     * Sends the given requests over the given socket at once.
+     *
+     * @param socket   the socket
+     * @param requests the request heads
+     * @throws IOException if the requests could not be sent
+     */
+    private static void send(final Socket socket, final String... requests) throws IOException {
+        socket.getOutputStream().write(String.join("", requests).getBytes(StandardCharsets.ISO_8859_1));
+        socket.getOutputStream().flush();
+    }
+
+    /**
+     * Creates the head of a request.
+     *
+     * @param method  the method
+     * @param path    the requested path
+     * @param headers the additional header lines
+     * @return the request head
+     */
+    private static String request(final String method, final String path, final String... headers) {
+        final var builder = new StringBuilder(method).append(' ').append(path).append(" HTTP/1.1\r\nHost: localhost\r\n");
+        for (final var header : headers) {
+            builder.append(header).append("\r\n");
+        }
+        return builder.append("\r\n").toString();
+    }
+
+    /**
+     * Requests the given path using a new connection.
+     *
+     * @param path    the requested path
+     * @param headers the additional header lines
+     * @return the response
+     * @throws IOException if the request failed
+     */
+    private Response get(final String path, final String... headers) throws IOException {
+        try (final var socket = connect()) {
+            send(socket, request("GET", path, headers));
+            return readResponse(new BufferedInputStream(socket.getInputStream()));
+        }
+    }
+
+    /**
+     * Reads a line terminated by a line feed, without the line terminator.
+     *
+     * @param in the stream to read from
+     * @return the read line
+     * @throws IOException if the stream ended or failed
+     */
+    private static String readLine(final InputStream in) throws IOException {
+        final var line = new ByteArrayOutputStream();
+        for (int c; (c = in.read()) != '\n'; ) {
+            if (c < 0) {
+                throw new IOException("Unexpected end of stream");
+            }
+            line.write(c);
+        }
+        final var text = line.toString(StandardCharsets.UTF_8);
+        return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+    }
+
+    /**
+     * Reads the head of a response and its body, if it has one.
+     *
+     * @param in the stream to read from
+     * @return the read response
+     * @throws IOException if the response could not be read
+     */
+    private static Response readResponse(final InputStream in) throws IOException {
+        final var status  = Integer.parseInt(readLine(in).split(" ")[1]);
+        final var headers = new HashMap<String, String>();
+        for (String line; !(line = readLine(in)).isEmpty(); ) {
+            final var index = line.indexOf(':');
+            headers.put(line.substring(0, index).strip().toLowerCase(), line.substring(index + 1).strip());
+        }
+        final var length = Integer.parseInt(headers.getOrDefault("content-length", "0"));
+        return new Response(status, headers, new String(in.readNBytes(length), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the next event, skipping the comments.
+     *
+     * @param in the stream to read from
+     * @return the fields of the event
+     * @throws IOException if the event could not be read
+     */
+    private static Map<String, String> readEvent(final InputStream in) throws IOException {
+        final var fields = new HashMap<String, String>();
+        for (String line; !(line = readLine(in)).isEmpty() || fields.isEmpty(); ) {
+            final var index = line.indexOf(':');
+            if (index > 0) {
+                fields.put(line.substring(0, index), line.substring(index + 1).strip());
+            }
+        }
+        return fields;
+    }
+
+    @Test
+    void servesTheCurrentSong() throws IOException {
+        api.publish(new Song("Title", "Artist"));
+
+        final var response = get("/song");
+        assertEquals(200, response.status());
+        assertNotNull(response.headers().get("etag"));
+        assertTrue(response.body().contains("\"title\":\"Title\""), response.body());
+        assertTrue(response.body().contains("\"interpreter\":\"Artist\""), response.body());
+    }
+
+    @Test
+    void answersNotModifiedForAMatchingTag() throws IOException {
+        api.publish(new Song("Title", "Artist"));
+        final var etag = get("/song").headers().get("etag");
+
+        final var unchanged = get("/song", "If-None-Match: " + etag);
+        assertEquals(304, unchanged.status());
+        assertEquals(etag, unchanged.headers().get("etag"));
+
+        api.publish(new Song("Other", "Artist"));
+        final var changed = get("/song", "If-None-Match: " + etag);
+        assertEquals(200, changed.status());
+        assertNotEquals(etag, changed.headers().get("etag"));
+    }
+
+    @Test
+    void doesNotMatchTheTagsOfAnotherInstance() throws IOException {
+        api.publish(new Song("Title", "Artist"));
+        final var etag = get("/song").headers().get("etag");
+
+        api.close();
+        api = new SongApiServer(0);
+        api.publish(new Song("Other", "Artist"));
+        assertEquals(200, get("/song", "If-None-Match: " + etag).status());
+    }
+
+    @Test
+    void answersPipelinedRequests() throws IOException {
+        api.publish(new Song("Title", "Artist"));
+
+        try (final var socket = connect()) {
+            send(socket, request("GET", "/song"), request("HEAD", "/song"), request("GET", "/song", "Connection: close"));
+            final var in = new BufferedInputStream(socket.getInputStream());
+
+            final var first = readResponse(in);
+            assertEquals(200, first.status());
+            assertTrue(first.body().contains("Title"));
+
+            final var head = readLine(in);
+            assertTrue(head.startsWith("HTTP/1.1 200"), head);
+            while (!readLine(in).isEmpty()) {
+                // The head of a HEAD response is followed by no body.
+            }
+
+            final var last = readResponse(in);
+            assertEquals(200, last.status());
+            assertEquals(first.body(), last.body());
+            assertEquals(-1, in.read(), "the connection was not closed");
+        }
+    }
+
+    @Test
+    void rejectsUnsupportedRequests() throws IOException {
+        try (final var socket = connect()) {
+            send(socket, request("POST", "/song"), request("GET", "/unknown"));
+            final var in = new BufferedInputStream(socket.getInputStream());
+
+            final var post = readResponse(in);
+            assertEquals(405, post.status());
+            assertEquals("GET, HEAD", post.headers().get("allow"));
+            assertEquals(404, readResponse(in).status());
+        }
+    }
+
+    @Test
+    void sendsThePublishedSongsToSubscribers() throws IOException {
+        api.publish(new Song("First", "Artist"));
+
+        try (final var socket = connect()) {
+            send(socket, request("GET", "/events"));
+            final var in   = new BufferedInputStream(socket.getInputStream());
+            final var head = readLine(in);
+            assertTrue(head.startsWith("HTTP/1.1 200"), head);
+            while (!readLine(in).isEmpty()) {
+                // The headers of the event stream are not checked.
+            }
+
+            final var current = readEvent(in);
+            assertEquals("song", current.get("event"));
+            assertTrue(current.get("data").contains("First"), current.get("data"));
+
+            api.publish(new Song("Second", "Artist"));
+            final var next = readEvent(in);
+            assertEquals("song", next.get("event"));
+            assertTrue(next.get("data").contains("Second"), next.get("data"));
+            assertNotEquals(current.get("id"), next.get("id"));
+        }
+    }
+
+    @Test
+    void resumesSubscriptionsAtTheLastEvent() throws IOException {
+        api.publish(new Song("First", "Artist"));
+        final String id;
+        try (final var socket = connect()) {
+            send(socket, request("GET", "/events"));
+            final var in = new BufferedInputStream(socket.getInputStream());
+            while (!readLine(in).isEmpty()) {
+                // The head of the response is skipped.
+            }
+            id = readEvent(in).get("id");
+        }
+
+        try (final var socket = connect()) {
+            send(socket, request("GET", "/events", "Last-Event-ID: " + id));
+            final var in = new BufferedInputStream(socket.getInputStream());
+            while (!readLine(in).isEmpty()) {
+                // The head of the response is skipped.
+            }
+            api.publish(new Song("Second", "Artist"));
+            assertTrue(readEvent(in).get("data").contains("Second"), "the current song was sent again");
+        }
+    }
+}
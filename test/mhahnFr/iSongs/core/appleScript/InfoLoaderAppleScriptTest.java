@@ -0,0 +1,63 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.appleScript;
+
+import mhahnFr.iSongs.core.Song;
+import mhahnFr.iSongs.core.text.TextRules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of splitting the result of the script
+ * into the radio text and the song.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class InfoLoaderAppleScriptTest {
+    @Test
+    void splitsTheResultUsingTheRules() {
+        final var rules  = new TextRules("{artist} - {title}");
+        final var result = InfoLoaderAppleScript.parseResult("Queen - Bohemian Rhapsody\n", rules);
+
+        assertEquals("Queen - Bohemian Rhapsody", result.getFirst());
+        assertEquals(new Song("Bohemian Rhapsody", "Queen"), result.getSecond());
+        assertEquals(1, rules.getHits(0));
+    }
+
+    @Test
+    void keepsTheRadioTextOfUnrecognizedResults() {
+        final var result = InfoLoaderAppleScript.parseResult("Example Radio\n", new TextRules(TextRules.DEFAULT_RULES));
+
+        assertEquals("Example Radio", result.getFirst());
+        assertNull(result.getSecond());
+    }
+
+    @Test
+    void recognizesNothingWithoutResult() {
+        final var result = InfoLoaderAppleScript.parseResult("missing value\n", new TextRules(TextRules.DEFAULT_RULES));
+
+        assertNull(result.getFirst());
+        assertNull(result.getSecond());
+    }
+}
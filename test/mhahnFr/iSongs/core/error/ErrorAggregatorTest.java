@@ -0,0 +1,90 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.error;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of the {@link ErrorAggregator}.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class ErrorAggregatorTest {
+    /** The aggregator under test.                          */
+    private ErrorAggregator aggregator;
+    /** The amount of times the change listener was called. */
+    private int changes;
+
+    @BeforeEach
+    void setUp() {
+        changes    = 0;
+        aggregator = new ErrorAggregator(() -> ++changes);
+    }
+
+    @Test
+    void groupsErrorsBySourceAndCause() {
+        aggregator.report(ErrorSource.FEED, new IOException("timeout"));
+        aggregator.report(ErrorSource.FEED, new IOException("timeout"));
+        aggregator.report(ErrorSource.FEED, new IOException("refused"));
+
+        final var summaries = aggregator.getSummaries();
+        assertEquals(2, summaries.size());
+        assertEquals(3, aggregator.getRecentCount());
+        assertEquals(3, changes);
+        assertEquals(2, summaries.stream()
+                                 .filter(summary -> summary.cause().equals("IOException: timeout"))
+                                 .findFirst()
+                                 .orElseThrow()
+                                 .total());
+    }
+
+    @Test
+    void boundsTheAmountOfGroups() {
+        aggregator.report(ErrorSource.FEED, new IOException("frequent"));
+        for (int i = 0; i < ErrorAggregator.MAX_GROUPS * 2; ++i) {
+            aggregator.report(ErrorSource.FEED, new IOException("error " + i));
+            aggregator.report(ErrorSource.FEED, new IOException("frequent"));
+        }
+
+        final var summaries = aggregator.getSummaries();
+        assertEquals(ErrorAggregator.MAX_GROUPS, summaries.size());
+        assertTrue(summaries.stream().anyMatch(summary -> summary.cause().equals("IOException: frequent")));
+        assertTrue(summaries.stream().noneMatch(summary -> summary.cause().equals("IOException: error 0")));
+    }
+
+    @Test
+    void clearsTheGroups() {
+        aggregator.report(ErrorSource.FEED, new IOException());
+        assertTrue(aggregator.hasErrors());
+
+        aggregator.clear();
+        assertFalse(aggregator.hasErrors());
+        assertEquals(0, aggregator.getRecentCount());
+        assertEquals(2, changes);
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of the {@link BodyReader}, reading bodies
+ * compressed by the JDK. The bodies are received in small chunks, so the
+ * headers and trailers are split across several reads.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class BodyReaderTest {
+    /** The maximum amount of bytes returned by a single read. */
+    private static final int CHUNK = 7;
+    /** The uncompressed body.                                 */
+    private static final byte[] BODY = createBody(20_000);
+
+    /** The pool providing the buffers.                        */
+    private final BufferPool pool = new BufferPool(1, 1 << 20);
+    /** The pool providing the inflaters.                      */
+    private final InflaterPool inflaters = new InflaterPool(2);
+
+    /**
+     * This class represents a stream returning at most {@link #CHUNK}
+     * bytes per read.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private static final class TricklingInputStream extends FilterInputStream {
+        /**
+         * Constructs a trickling stream.
+         *
+         * @param data the bytes of the stream
+         */
+        TricklingInputStream(final byte[] data) {
+            super(new ByteArrayInputStream(data));
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            return super.read(buffer, offset, Math.min(length, CHUNK));
+        }
+    }
+
+    /**
+     * Creates a compressible body of the given size.
+     *
+     * @param size the size in bytes
+     * @return the body
+     */
+    private static byte[] createBody(final int size) {
+        final var builder = new StringBuilder(size + 32);
+        for (int i = 0; builder.length() < size; ++i) {
+            builder.append("{\"id\":").append(i).append(",\"title\":\"Title ").append(i % 97).append("\"},");
+        }
+        return builder.substring(0, size).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compresses the given data using the given deflater.
+     *
+     * @param data     the data
+     * @param deflater the deflater
+     * @return the compressed data
+     * @throws IOException if the data could not be compressed
+     */
+    private static byte[] deflate(final byte[] data, final Deflater deflater) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        try (final var deflating = new DeflaterOutputStream(out, deflater)) {
+            deflating.write(data);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Compresses the given data using the gzip format of the JDK.
+     *
+     * @param data the data
+     * @return the compressed data
+     * @throws IOException if the data could not be compressed
+     */
+    private static byte[] gzip(final byte[] data) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        try (final var gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Compresses the given data using the gzip format with all optional
+     * header fields: extra fields, a file name, a comment and a header
+     * checksum.
+     *
+     * @param data the data
+     * @return the compressed data
+     * @throws IOException if the data could not be compressed
+     */
+    private static byte[] gzipWithHeaderFields(final byte[] data) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[] { 0x1f, (byte) 0x8b, 8, 4 | 8 | 16 | 2, 0, 0, 0, 0, 0, (byte) 255 });
+        out.writeBytes(new byte[] { 5, 0, 'A', 'B', 3, 0, 'x' });
+        out.writeBytes("feed.json\0".getBytes(StandardCharsets.ISO_8859_1));
+        out.writeBytes("Recorded feed\0".getBytes(StandardCharsets.ISO_8859_1));
+        final var headerCrc = new CRC32();
+        headerCrc.update(out.toByteArray());
+        writeLittleEndian(out, (int) headerCrc.getValue(), 2);
+        out.writeBytes(deflate(data, new Deflater(Deflater.DEFAULT_COMPRESSION, true)));
+        final var crc = new CRC32();
+        crc.update(data);
+        writeLittleEndian(out, (int) crc.getValue(), 4);
+        writeLittleEndian(out, data.length, 4);
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes the given value in little-endian order.
+     *
+     * @param out   the stream to write to
+     * @param value the value
+     * @param bytes the amount of bytes to be written
+     */
+    private static void writeLittleEndian(final ByteArrayOutputStream out, final int value, final int bytes) {
+        for (int i = 0; i < bytes; ++i) {
+            out.write(value >>> 8 * i);
+        }
+    }
+
+    /**
+     * Reads the given data using the given content encoding.
+     *
+     * @param data        the received data
+     * @param encoding    the content encoding: {@code gzip}, {@code deflate} or {@code identity}
+     * @param maxBodySize the maximum size of the body in bytes
+     * @return the read body
+     * @throws IOException if the body could not be read
+     */
+    private byte[] read(final byte[] data, final String encoding, final int maxBodySize) throws IOException {
+        final var reader = new BodyReader(new TricklingInputStream(data), pool, maxBodySize, BufferPool.MIN_SIZE);
+        try {
+            switch (encoding) {
+                case "gzip"    -> reader.readGzip(inflaters);
+                case "deflate" -> reader.readDeflate(inflaters);
+                default        -> reader.readPlain();
+            }
+        } catch (final IOException e) {
+            reader.releaseAll();
+            throw e;
+        }
+        assertEquals(data.length, reader.getWire());
+        final var body = Arrays.copyOf(reader.getBody(), reader.getLength());
+        reader.releaseAll();
+        return body;
+    }
+
+    @Test
+    void readsPlainBodies() throws IOException {
+        assertArrayEquals(BODY, read(BODY, "identity", BODY.length));
+    }
+
+    @Test
+    void inflatesGzip() throws IOException {
+        assertArrayEquals(BODY, read(gzip(BODY), "gzip", BODY.length));
+    }
+
+    @Test
+    void inflatesGzipWithOptionalHeaderFields() throws IOException {
+        assertArrayEquals(BODY, read(gzipWithHeaderFields(BODY), "gzip", BODY.length));
+    }
+
+    @Test
+    void inflatesZlibWrappedDeflate() throws IOException {
+        assertArrayEquals(BODY, read(deflate(BODY, new Deflater()), "deflate", BODY.length));
+    }
+
+    @Test
+    void inflatesRawDeflate() throws IOException {
+        assertArrayEquals(BODY, read(deflate(BODY, new Deflater(Deflater.BEST_SPEED, true)), "deflate", BODY.length));
+    }
+
+    @Test
+    void inflatesEmptyBodies() throws IOException {
+        assertEquals(0, read(gzip(new byte[0]), "gzip", BODY.length).length);
+        assertEquals(0, read(deflate(new byte[0], new Deflater()), "deflate", BODY.length).length);
+    }
+
+    @Test
+    void rejectsOtherFormats() {
+        assertThrows(ZipException.class, () -> read(BODY, "gzip", BODY.length));
+    }
+
+    @Test
+    void rejectsTruncatedStreams() throws IOException {
+        final var gzip = gzip(BODY);
+        assertThrows(IOException.class, () -> read(Arrays.copyOf(gzip, gzip.length - 4), "gzip", BODY.length));
+        assertThrows(IOException.class, () -> read(Arrays.copyOf(gzip, gzip.length / 2), "gzip", BODY.length));
+        assertThrows(IOException.class, () -> read(Arrays.copyOf(gzip, 6), "gzip", BODY.length));
+
+        final var deflate = deflate(BODY, new Deflater());
+        assertThrows(IOException.class, () -> read(Arrays.copyOf(deflate, deflate.length / 2), "deflate", BODY.length));
+        assertThrows(IOException.class, () -> read(Arrays.copyOf(deflate, 1), "deflate", BODY.length));
+    }
+
+    @Test
+    void rejectsCorruptTrailers() throws IOException {
+        final var checksum = gzip(BODY);
+        checksum[checksum.length - 8] ^= 1;
+        assertThrows(ZipException.class, () -> read(checksum, "gzip", BODY.length));
+
+        final var size = gzip(BODY);
+        size[size.length - 4] ^= 1;
+        assertThrows(ZipException.class, () -> read(size, "gzip", BODY.length));
+    }
+
+    @Test
+    void rejectsBodiesInflatingPastTheMaximumSize() throws IOException {
+        final var bomb = new byte[1 << 20];
+        assertThrows(FeedTooLargeException.class, () -> read(gzip(bomb), "gzip", BODY.length));
+        assertThrows(FeedTooLargeException.class, () -> read(deflate(bomb, new Deflater()), "deflate", BODY.length));
+        assertThrows(FeedTooLargeException.class, () -> read(gzip(BODY), "gzip", BODY.length - 1));
+        assertThrows(FeedTooLargeException.class, () -> read(BODY, "identity", BODY.length - 1));
+    }
+}
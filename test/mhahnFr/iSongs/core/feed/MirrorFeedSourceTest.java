@@ -0,0 +1,179 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.feed;
+
+import mhahnFr.iSongs.core.schedule.Clock;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of the {@link MirrorFeedSource}.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class MirrorFeedSourceTest {
+    /**
+     * This class represents an endpoint answering with its name after the
+     * given latency, unless it is failing. Its name is sent as entity tag.
+     *
+     * @author mhahnFr
+     * @since 19.10.26
+     */
+    private static final class TestSource implements FeedSource {
+        /** The name answered with.                   */
+        private final String name;
+        /** The latency in milliseconds.              */
+        private final long latency;
+        /** Whether the requests fail immediately.    */
+        private volatile boolean failing;
+        /** The amount of received requests.          */
+        private volatile int requests;
+        /** The validators of the last response.      */
+        private volatile Validators validators = Validators.NONE;
+
+        /**
+         * Constructs a test source.
+         *
+         * @param name    the name answered with
+         * @param latency the latency in milliseconds
+         */
+        TestSource(final String name, final long latency) {
+            this.name    = name;
+            this.latency = latency;
+        }
+
+        @Override
+        public FeedResponse fetch() throws IOException {
+            ++requests;
+            if (failing) {
+                throw new IOException(name + " unavailable");
+            }
+            try {
+                Thread.sleep(latency);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final var headers = Map.of("ETag", List.of('"' + name + '"'));
+            validators = Validators.of(headers);
+            return new FeedResponse(name.getBytes(StandardCharsets.UTF_8), 200, headers, 0, 0, 0);
+        }
+
+        @Override
+        public Validators getValidators() {
+            return validators;
+        }
+
+        @Override
+        public void setValidators(final Validators validators) {
+            this.validators = validators;
+        }
+    }
+
+    /**
+     * Fetches the feed from the given source and returns the name of the
+     * answering endpoint.
+     *
+     * @param source the source
+     * @return the name of the endpoint
+     * @throws IOException if the feed could not be fetched
+     */
+    private static String fetch(final FeedSource source) throws IOException {
+        final var response = source.fetch();
+        try {
+            return new String(response.body(), 0, response.length(), StandardCharsets.UTF_8);
+        } finally {
+            response.release();
+        }
+    }
+
+    @Test
+    void prefersTheFasterEndpoint() throws IOException {
+        final var slow   = new TestSource("slow", 20);
+        final var fast   = new TestSource("fast", 1);
+        final var source = new MirrorFeedSource(List.of(slow, fast), List.of("slow", "fast"), Clock.SYSTEM);
+        for (int i = 0; i < 5; ++i) {
+            fetch(source);
+        }
+
+        assertEquals("fast", fetch(source));
+    }
+
+    @Test
+    void failsOverToTheNextEndpoint() throws IOException {
+        final var primary   = new TestSource("primary", 1);
+        final var secondary = new TestSource("secondary", 1);
+        final var source    = new MirrorFeedSource(List.of(primary, secondary), List.of("primary", "secondary"), Clock.SYSTEM);
+        primary.failing = true;
+
+        assertEquals("secondary", fetch(source));
+        assertEquals(1, source.getFailovers());
+    }
+
+    @Test
+    void failsOverToTheHedgeIfThePrimaryFailsFast() throws IOException {
+        final var primary = new TestSource("primary", 1);
+        final var hedge   = new TestSource("hedge", 5);
+        final var source  = new MirrorFeedSource(List.of(primary, hedge), List.of("primary", "hedge"), Clock.SYSTEM);
+        for (int i = 0; i < 30; ++i) {
+            fetch(source);
+        }
+        primary.failing = true;
+        final var requests = hedge.requests;
+
+        assertEquals("hedge", fetch(source));
+        assertTrue(hedge.requests > requests);
+    }
+
+    @Test
+    void reportsTheValidatorsOfTheLatestResponse() throws IOException {
+        final var primary   = new TestSource("primary", 1);
+        final var secondary = new TestSource("secondary", 1);
+        final var source    = new MirrorFeedSource(List.of(primary, secondary), List.of("primary", "secondary"), Clock.SYSTEM);
+        final var restored  = new Validators("\"restored\"", null);
+        source.setValidators(restored);
+
+        assertEquals(restored, source.getValidators());
+        assertEquals(restored, secondary.getValidators());
+
+        final var answered = fetch(source);
+        assertEquals(new Validators('"' + answered + '"', null), source.getValidators());
+    }
+
+    @Test
+    void failsOnceAllEndpointsFailed() {
+        final var first  = new TestSource("first", 1);
+        final var second = new TestSource("second", 1);
+        final var source = new MirrorFeedSource(List.of(first, second), List.of("first", "second"), Clock.SYSTEM);
+        first.failing  = true;
+        second.failing = true;
+
+        final var e = assertThrows(IOException.class, () -> fetch(source));
+        assertEquals(1, e.getSuppressed().length);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.relay;
+
+import mhahnFr.iSongs.core.Song;
+import mhahnFr.iSongs.core.Station;
+import mhahnFr.iSongs.core.appleScript.ScriptSupport;
+import mhahnFr.iSongs.core.json.JsonSyntaxException;
+import mhahnFr.iSongs.core.text.TextRules;
+import mhahnFr.iSongs.core.timeline.EntryClassifier;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of the {@link RelayProtocol}.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class RelayProtocolTest {
+    /**
+     * Parses the station subscribed to by the given query.
+     *
+     * @param query the query
+     * @return the subscribed station
+     */
+    private static Station parse(final String query) {
+        return RelayProtocol.parse(URI.create("http://localhost" + RelayProtocol.PATH + "?" + query));
+    }
+
+    @Test
+    void parsesTheQueriedStation() {
+        final var classifier = new EntryClassifier("jingle, talk & news", 45, "^(Werbung|Verkehr)$", "Moderator\\s+.*");
+        final var station    = new Station("https://a.example.org/feed.json",
+                                           List.of("https://a.example.org/feed.json", "https://b.example.org/feed.json?x=1&y=2"),
+                                           2000,
+                                           ScriptSupport.off,
+                                           true,
+                                           1 << 20,
+                                           true,
+                                           classifier,
+                                           new TextRules(TextRules.DEFAULT_RULES));
+
+        final var parsed = parse(RelayProtocol.query(station));
+        assertEquals(station.urls(), parsed.urls());
+        assertEquals(2000, parsed.delay());
+        assertEquals(1 << 20, parsed.maxBodySize());
+        assertEquals(classifier, parsed.classifier());
+    }
+
+    @Test
+    void parsesTheDefaultsOfMissingParameters() {
+        final var parsed = parse("urls=https%3A%2F%2Fexample.org");
+
+        assertEquals(List.of("https://example.org"), parsed.urls());
+        assertEquals(Station.DEFAULT_MAX_BODY_SIZE, parsed.maxBodySize());
+        assertEquals(EntryClassifier.DEFAULT, parsed.classifier());
+    }
+
+    @Test
+    void rejectsQueriesWithoutURLs() {
+        assertThrows(IllegalArgumentException.class, () -> parse("delay=1000"));
+        assertThrows(IllegalArgumentException.class, () -> parse("urls=+"));
+    }
+
+    @Test
+    void decodesTheEncodedSong() throws JsonSyntaxException {
+        final var song = new Song("Título \"uno\"\n", "Artist \\ Two");
+
+        assertEquals(song, RelayProtocol.decode(RelayProtocol.encode(song)));
+    }
+}
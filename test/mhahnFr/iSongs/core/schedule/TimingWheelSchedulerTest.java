@@ -0,0 +1,110 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.schedule;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of the {@link TimingWheelScheduler}. As
+ * the wheel runs on the system clock, the timings are checked generously.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class TimingWheelSchedulerTest {
+    /** The scheduler under test, ticking every millisecond. */
+    private final TimingWheelScheduler scheduler = new TimingWheelScheduler(Executors.newVirtualThreadPerTaskExecutor(),
+                                                                            1, TimeUnit.MILLISECONDS, 64);
+
+    /**
+     * Closes the scheduler.
+     */
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+    }
+
+    @Test
+    void runsTasksNotBeforeTheirDelay() throws InterruptedException {
+        final var latch = new CountDownLatch(1);
+        final var start = System.nanoTime();
+        final var ran   = new long[1];
+        scheduler.schedule(() -> {
+            ran[0] = System.nanoTime();
+            latch.countDown();
+        }, 150, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(ran[0] - start >= TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    void runsTasksDueAfterSeveralTurnsOfTheWheel() throws InterruptedException {
+        final var latch = new CountDownLatch(1);
+        scheduler.schedule(latch::countDown, 200, TimeUnit.MILLISECONDS);
+
+        assertFalse(latch.await(100, TimeUnit.MILLISECONDS), "ran a turn of the wheel early");
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void repeatsPeriodicTasksUntilCancelled() throws InterruptedException {
+        final var latch = new CountDownLatch(5);
+        final var runs  = new AtomicInteger();
+        final var task  = scheduler.scheduleAtFixedRate(() -> {
+            runs.incrementAndGet();
+            latch.countDown();
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        task.cancel();
+        Thread.sleep(50);
+        final var cancelled = runs.get();
+        Thread.sleep(100);
+        assertEquals(cancelled, runs.get());
+    }
+
+    @Test
+    void doesNotRunCancelledTasks() throws InterruptedException {
+        final var runs = new AtomicInteger();
+        scheduler.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS).cancel();
+
+        Thread.sleep(200);
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void rejectsTasksOnceClosed() {
+        scheduler.close();
+
+        assertThrows(RejectedExecutionException.class, () -> scheduler.schedule(() -> {}, 0, TimeUnit.MILLISECONDS));
+    }
+}
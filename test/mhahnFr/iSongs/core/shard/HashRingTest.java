@@ -0,0 +1,94 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of the {@link HashRing}.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class HashRingTest {
+    /** The amount of stations distributed in the tests. */
+    private static final int STATIONS = 10_000;
+
+    @Test
+    void assignsNoOwnerOnAnEmptyRing() {
+        final var ring = new HashRing(List.of());
+
+        assertTrue(ring.isEmpty());
+        assertNull(ring.owner("station1"));
+    }
+
+    @Test
+    void assignsTheSameOwnersRegardlessOfTheOrderOfTheMembers() {
+        final var ring     = new HashRing(List.of("a", "b", "c"));
+        final var shuffled = new HashRing(List.of("c", "a", "b", "a"));
+
+        for (int i = 0; i < STATIONS; ++i) {
+            assertEquals(ring.owner("station" + i), shuffled.owner("station" + i));
+        }
+    }
+
+    @Test
+    void spreadsTheStationsOverAllMembers() {
+        final var members = List.of("a", "b", "c", "d");
+        final var ring    = new HashRing(members);
+        final var counts  = new HashMap<String, Integer>();
+        for (int i = 0; i < STATIONS; ++i) {
+            counts.merge(ring.owner("station" + i), 1, Integer::sum);
+        }
+
+        assertEquals(members.size(), counts.size());
+        for (final var count : counts.values()) {
+            assertTrue(count > STATIONS / members.size() / 2, "unbalanced shares: " + counts);
+        }
+    }
+
+    @Test
+    void onlyMovesTheStationsOfTheJoiningMember() {
+        final var before = new HashRing(List.of("a", "b", "c"));
+        final var after  = new HashRing(List.of("a", "b", "c", "d"));
+
+        var moved = 0;
+        for (int i = 0; i < STATIONS; ++i) {
+            final var owner = after.owner("station" + i);
+            if (!owner.equals(before.owner("station" + i))) {
+                assertEquals("d", owner);
+                ++moved;
+            }
+        }
+        assertTrue(moved > 0 && moved < STATIONS / 2, moved + " stations moved");
+    }
+
+    @Test
+    void rejectsRingsWithoutVirtualNodes() {
+        assertThrows(IllegalArgumentException.class, () -> new HashRing(List.of("a"), 0));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.state;
+
+import mhahnFr.iSongs.core.Song;
+import mhahnFr.iSongs.core.feed.Validators;
+import mhahnFr.iSongs.core.json.JsonSyntaxException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of the encoding of the {@link LoaderSnapshot}.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class LoaderSnapshotTest {
+    @Test
+    void decodesTheEncodedSnapshot() throws JsonSyntaxException {
+        final var snapshot = new LoaderSnapshot("https://example.org/feed.json",
+                                                new Song("Bohemian \"Rhapsody\"", "Queen"),
+                                                new Song("99 Luftballons", "Nena"),
+                                                new Song("Bohemian \"Rhapsody\"", "Queen"),
+                                                new Song("Ünïcödé\n", "\\"),
+                                                1_760_000_180_000L,
+                                                1_760_000_000_000L,
+                                                new Validators("\"abc\"", "Sun, 19 Oct 2026 10:00:00 GMT"),
+                                                1_760_000_200_000L);
+
+        assertEquals(snapshot, LoaderSnapshot.decode(snapshot.encode()));
+    }
+
+    @Test
+    void decodesAnEmptySnapshot() throws JsonSyntaxException {
+        final var snapshot = new LoaderSnapshot("default", null, null, null, null, Long.MIN_VALUE, Long.MIN_VALUE,
+                                                Validators.NONE, 0);
+
+        assertEquals(snapshot, LoaderSnapshot.decode(snapshot.encode()));
+    }
+
+    @Test
+    void decodesSnapshotsOfEarlierVersions() throws JsonSyntaxException {
+        final var snapshot = LoaderSnapshot.decode("""
+                                                   {"station":"s","time":5,"current":{"title":"T","interpreter":"A"},\
+                                                   "unknown":[1,{"x":null}],"etag":"\\"e\\""}""");
+
+        assertEquals("s", snapshot.station());
+        assertEquals(new Song("T", "A"), snapshot.current());
+        assertEquals(Long.MIN_VALUE, snapshot.lastStartTime());
+        assertEquals(Long.MIN_VALUE, snapshot.newestStartTime());
+        assertEquals(new Validators("\"e\"", null), snapshot.validators());
+    }
+
+    @Test
+    void decodesNoSnapshotFromNull() throws JsonSyntaxException {
+        assertNull(LoaderSnapshot.decode("null"));
+    }
+
+    @Test
+    void rejectsMalformedSnapshots() {
+        assertThrows(JsonSyntaxException.class, () -> LoaderSnapshot.decode("{\"station\":"));
+    }
+}
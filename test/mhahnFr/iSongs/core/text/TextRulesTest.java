@@ -0,0 +1,114 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.text;
+
+import mhahnFr.iSongs.core.Song;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of the {@link TextRules}.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class TextRulesTest {
+    @Test
+    void recognizesTheDefaultLayout() {
+        final var rules = new TextRules(TextRules.DEFAULT_RULES);
+
+        assertEquals(new Song("Bohemian Rhapsody", "Queen"), rules.match("Bohemian Rhapsody / Queen"));
+        assertEquals(new Song("A", "B / C"), rules.match("A / B / C"));
+        assertNull(rules.match("Example Radio - The best music"));
+    }
+
+    @Test
+    void triesTheRulesInOrder() {
+        final var rules = new TextRules("""
+                                        Now: {title} by {artist}
+                                        {artist} - {title}
+                                        {title} / {artist}
+                                        """);
+
+        assertEquals(new Song("Song X", "Band Y"), rules.match("now:  Song X by Band Y"));
+        assertEquals(new Song("B - C", "A"), rules.match("A - B - C"));
+        assertEquals(new Song("y / z", "Now: x"), rules.match("Now: x - y / z"));
+        assertEquals(new Song("p", "q"), rules.match("p / q"));
+        assertNull(rules.match("Example Radio"));
+
+        assertEquals(List.of(1L, 2L, 1L), List.of(rules.getHits(0), rules.getHits(1), rules.getHits(2)));
+        assertEquals(1, rules.getMisses());
+    }
+
+    @Test
+    void capturesTheNamedGroupsOfRegularExpressions() {
+        final var rules = new TextRules("regex:^\\[(?<artist>[^]]+)] (?<title>.+?)(?: \\(\\d+:\\d+\\))?$");
+
+        assertEquals(new Song("Title", "Artist"), rules.match("[Artist] Title (3:45)"));
+        assertEquals(new Song("Title", "Artist"), rules.match("[Artist] Title"));
+    }
+
+    @Test
+    void isolatesTheGroupsOfTheRules() {
+        final var rules = new TextRules("""
+                                        regex:^(?<x>\\w+): (?<title>.+) / (?<artist>.+)$
+                                        regex:^(?<x>\\w+)! (?<artist>.+) - (?<title>.+) \\k<x>$
+                                        """);
+
+        assertEquals(2, rules.getRules().size());
+        assertEquals(new Song("S", "A"), rules.match("Now: S / A"));
+        assertEquals(new Song("T", "A"), rules.match("hey! A - T hey"));
+        assertNull(rules.match("hey! A - T ho"));
+    }
+
+    @Test
+    void ignoresInvalidRules() {
+        final var rules = new TextRules("""
+                                        Now: {title}
+                                        regex:(?<title>.+)[/(?<artist>.+)
+                                        regex:^(a)(?<title>.+)\\1(?<artist>.+)$
+
+                                        {title} / {artist}
+                                        """);
+
+        assertEquals(List.of("{title} / {artist}"), rules.getRules());
+        assertEquals(new Song("T", "A"), rules.match("T / A"));
+    }
+
+    @Test
+    void keepsNoRulesIfNoneIsValid() {
+        final var rules = new TextRules("\n{title}\n");
+
+        assertTrue(rules.getRules().isEmpty());
+        assertNull(rules.match("T / A"));
+        assertEquals(1, rules.getMisses());
+    }
+
+    @Test
+    void equalsRulesOfTheSameSource() {
+        assertEquals(new TextRules("{title} / {artist}"), new TextRules("\n  {title} / {artist}\n"));
+        assertNotEquals(new TextRules("{title} / {artist}"), new TextRules("{artist} - {title}"));
+    }
+}
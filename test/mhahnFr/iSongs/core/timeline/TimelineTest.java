@@ -0,0 +1,168 @@
+/*
+ * iSongs-RadioText - Radio-text part of iSongs.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the iSongs-RadioText.
+ *
+ * iSongs-RadioText is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * iSongs-RadioText is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * iSongs-RadioText, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.iSongs.core.timeline;
+
+import mhahnFr.iSongs.core.WebPlayerDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class contains the tests of the {@link Timeline}.
+ *
+ * @author mhahnFr
+ * @since 19.10.26
+ */
+class TimelineTest {
+    /**
+     * Creates an entry of a playlist.
+     *
+     * @param id        the identifier of the entry
+     * @param startTime the start time of the entry
+     * @param type      the type of the entry
+     * @return the entry
+     */
+    private static WebPlayerDTO.PlaylistDTO.SongDTO song(final String id, final long startTime, final String type) {
+        final var song = new WebPlayerDTO.PlaylistDTO.SongDTO();
+        song.id        = id;
+        song.title     = "Title " + id;
+        song.artist    = "Artist " + id;
+        song.type      = type;
+        song.duration  = 180;
+        song.starttime = startTime;
+        return song;
+    }
+
+    /**
+     * Creates a playlist of music entries starting at the given times,
+     * identified by their start time.
+     *
+     * @param startTimes the start times of the entries
+     * @return the playlist
+     */
+    private static WebPlayerDTO.PlaylistDTO.SongDTO[] playlist(final long... startTimes) {
+        final var playlist = new WebPlayerDTO.PlaylistDTO.SongDTO[startTimes.length];
+        for (int i = 0; i < startTimes.length; ++i) {
+            playlist[i] = song(Long.toString(startTimes[i]), startTimes[i], "music");
+        }
+        return playlist;
+    }
+
+    /**
+     * Returns the start times of the given entries.
+     *
+     * @param entries the entries
+     * @return the start times
+     */
+    private static List<Long> startTimes(final List<TimelineEntry> entries) {
+        return entries.stream().map(TimelineEntry::startTime).toList();
+    }
+
+    @Test
+    void reportsOnlyNewEntries() {
+        final var timeline = new Timeline();
+        final var reported = new ArrayList<TimelineEntry>();
+        timeline.addListener(reported::add);
+
+        assertEquals(3, timeline.update(playlist(300, 100, 200)));
+        assertEquals(0, timeline.update(playlist(100, 200, 300)));
+        assertEquals(1, timeline.update(playlist(200, 300, 400)));
+        assertEquals(List.of(100L, 200L, 300L, 400L), startTimes(timeline.getEntries()));
+        assertEquals(4, reported.size());
+        assertEquals(0, timeline.update(null));
+    }
+
+    @Test
+    void replacesEntriesChangingTheirIdentifier() {
+        final var timeline = new Timeline();
+        timeline.update(playlist(100));
+
+        final var replacement = song("other", 100, "music");
+        assertEquals(1, timeline.update(new WebPlayerDTO.PlaylistDTO.SongDTO[] { replacement }));
+        assertEquals("other", timeline.get(100).id());
+        assertEquals(1, timeline.getEntries().size());
+    }
+
+    @Test
+    void looksUpEntriesByTime() {
+        final var timeline = new Timeline();
+        timeline.update(playlist(100, 200, 300, 400));
+
+        assertNull(timeline.at(99));
+        assertEquals(100, timeline.at(100).startTime());
+        assertEquals(200, timeline.at(299).startTime());
+        assertEquals(400, timeline.at(1_000).startTime());
+        assertEquals(300, timeline.next(200).startTime());
+        assertEquals(300, timeline.next(250).startTime());
+        assertNull(timeline.next(400));
+        assertNull(timeline.get(150));
+    }
+
+    @Test
+    void returnsTheEntriesBetweenExclusively() {
+        final var timeline = new Timeline();
+        timeline.update(playlist(100, 200, 300, 400));
+
+        assertEquals(List.of(200L, 300L), startTimes(timeline.between(100, 400)));
+        assertEquals(List.of(200L, 300L, 400L), startTimes(timeline.between(150, 450)));
+        assertEquals(List.of(), timeline.between(200, 300));
+        assertEquals(List.of(), timeline.between(400, 100));
+    }
+
+    @Test
+    void dropsTheOldestEntriesOnceFull() {
+        final var timeline = new Timeline(3);
+        timeline.update(playlist(100, 200, 300));
+
+        assertEquals(1, timeline.update(playlist(400)));
+        assertEquals(List.of(200L, 300L, 400L), startTimes(timeline.getEntries()));
+        assertEquals(0, timeline.update(playlist(50)));
+        assertEquals(List.of(200L, 300L, 400L), startTimes(timeline.getEntries()));
+    }
+
+    @Test
+    void classifiesEachEntryOnce() {
+        final var timeline = new Timeline();
+        timeline.update(new WebPlayerDTO.PlaylistDTO.SongDTO[] { song("a", 100, "music"), song("b", 200, "Jingle") });
+        assertTrue(timeline.get(100).music());
+        assertFalse(timeline.get(200).music());
+
+        timeline.setClassifier(new EntryClassifier("", 0, "", ""));
+        timeline.update(new WebPlayerDTO.PlaylistDTO.SongDTO[] { song("b", 200, "Jingle"), song("c", 300, "jingle") });
+        assertFalse(timeline.get(200).music(), "known entries are not classified again");
+        assertTrue(timeline.get(300).music());
+    }
+
+    @Test
+    void forgetsAllEntriesWhenCleared() {
+        final var timeline = new Timeline();
+        timeline.update(playlist(100, 200));
+        timeline.clear();
+
+        assertTrue(timeline.getEntries().isEmpty());
+        assertNull(timeline.at(300));
+        assertEquals(2, timeline.update(playlist(100, 200)));
+    }
+}